@@ -0,0 +1,205 @@
+package com.madebyzino.StockFlow.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장 1000건 저장(saveAll) 시 id 생성 방식별 INSERT 처리량 비교 (결과 단위: 초당 행 수).
+ * Hibernate 가 각 방식에서 보내는 문장을 JDBC 로 그대로 재현한다.
+ * identity: IDENTITY 는 배치를 끄므로 행마다 INSERT 후 생성된 키를 읽음 (이전 방식)
+ * pooledSequenceBatch: 시퀀스 테이블에서 50개씩 id 를 받아 두고 500건씩 배치 INSERT, rewriteBatchedStatements=true (현재 설정)
+ * pooledSequenceBatchWithoutRewrite: 위와 같지만 드라이버가 다중 행 INSERT 로 바꾸지 않음 (rewrite 의 효과 확인용)
+ *
+ * 실제 MySQL 이 필요하다. 벤치마크 전용 테이블(bench_ledger_*)을 만들고 끝나면 삭제한다.
+ * 실행: BENCH_DATASOURCE_URL='jdbc:mysql://localhost:3306/stockflow_bench?createDatabaseIfNotExist=true' \
+ *       ./gradlew jmh -PjmhIncludes=IdGenerationInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdGenerationInsertBenchmark {
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/stockflow_bench?createDatabaseIfNotExist=true";
+    private static final int ROWS = 1000;
+    // application.yaml 의 hibernate.jdbc.batch_size, 시퀀스 기본 allocationSize 와 같은 값
+    private static final int BATCH_SIZE = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_COLUMNS =
+            "(item_id, from_location_id, to_location_id, type, quantity, transaction_date, user_id, notes)";
+
+    private Connection rewriteConnection;
+    private Connection plainConnection;
+    // Hibernate 는 시퀀스 테이블 갱신을 별도 트랜잭션으로 처리
+    private Connection sequenceConnection;
+
+    private long nextId;
+    private long allocatedUntil;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        rewriteConnection = connect(true);
+        plainConnection = connect(false);
+        sequenceConnection = connect(false);
+
+        try (Statement statement = rewriteConnection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_ledger_identity, bench_ledger_sequence, bench_ledger_sequence_seq");
+            statement.execute("CREATE TABLE bench_ledger_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + columns() + ")");
+            statement.execute("CREATE TABLE bench_ledger_sequence (id BIGINT PRIMARY KEY, " + columns() + ")");
+            statement.execute("CREATE TABLE bench_ledger_sequence_seq (next_val BIGINT)");
+            statement.execute("INSERT INTO bench_ledger_sequence_seq VALUES (1)");
+        }
+        rewriteConnection.setAutoCommit(false);
+        plainConnection.setAutoCommit(false);
+        sequenceConnection.setAutoCommit(false);
+    }
+
+    // 반복마다 테이블 크기를 맞춰 인덱스 크기 차이가 결과에 섞이지 않게 함
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = rewriteConnection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_ledger_identity");
+            statement.execute("TRUNCATE TABLE bench_ledger_sequence");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = rewriteConnection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_ledger_identity, bench_ledger_sequence, bench_ledger_sequence_seq");
+        }
+        rewriteConnection.close();
+        plainConnection.close();
+        sequenceConnection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = plainConnection.prepareStatement(
+                "INSERT INTO bench_ledger_identity " + INSERT_COLUMNS + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int row = 0; row < ROWS; row++) {
+                bind(insert, 1, row);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        plainConnection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledSequenceBatch() throws SQLException {
+        return insertBatched(rewriteConnection);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledSequenceBatchWithoutRewrite() throws SQLException {
+        return insertBatched(plainConnection);
+    }
+
+    private long insertBatched(Connection connection) throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_ledger_sequence (id, " + INSERT_COLUMNS.substring(1) + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int row = 0; row < ROWS; row++) {
+                lastId = nextId();
+                insert.setLong(1, lastId);
+                bind(insert, 2, row);
+                insert.addBatch();
+                if ((row + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    // pooled optimizer: 시퀀스 테이블 값을 ALLOCATION_SIZE 만큼 올리고 그 구간의 id 를 메모리에서 나눠 줌
+    private long nextId() throws SQLException {
+        if (nextId < allocatedUntil) {
+            return nextId++;
+        }
+
+        long value;
+        try (Statement statement = sequenceConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT next_val FROM bench_ledger_sequence_seq FOR UPDATE")) {
+            resultSet.next();
+            value = resultSet.getLong(1);
+        }
+        try (PreparedStatement update = sequenceConnection.prepareStatement(
+                "UPDATE bench_ledger_sequence_seq SET next_val = ? WHERE next_val = ?")) {
+            update.setLong(1, value + ALLOCATION_SIZE);
+            update.setLong(2, value);
+            update.executeUpdate();
+        }
+        sequenceConnection.commit();
+
+        nextId = value;
+        allocatedUntil = value + ALLOCATION_SIZE;
+        return nextId++;
+    }
+
+    private static void bind(PreparedStatement statement, int first, int row) throws SQLException {
+        statement.setLong(first, 1 + row % 100);
+        statement.setLong(first + 1, 1 + row % 7);
+        statement.setLong(first + 2, 1 + row % 11);
+        statement.setString(first + 3, "MOVEMENT");
+        statement.setInt(first + 4, 1 + row % 10);
+        statement.setTimestamp(first + 5, Timestamp.valueOf(LocalDateTime.now()));
+        statement.setLong(first + 6, 1L);
+        statement.setString(first + 7, "benchmark");
+    }
+
+    private static String columns() {
+        return "item_id BIGINT NOT NULL, from_location_id BIGINT, to_location_id BIGINT, type VARCHAR(20) NOT NULL, "
+                + "quantity INT NOT NULL, transaction_date DATETIME(6) NOT NULL, user_id BIGINT, notes VARCHAR(255), "
+                + "INDEX idx_bench_item_date (item_id, transaction_date)";
+    }
+
+    // rewriteBatchedStatements 는 연결 속성으로만 지정 (URL 에 있는 값은 제거)
+    private static Connection connect(boolean rewriteBatchedStatements) throws SQLException {
+        String url = Objects.requireNonNullElse(System.getenv("BENCH_DATASOURCE_URL"), DEFAULT_URL)
+                .replaceAll("([?&])rewriteBatchedStatements=[^&]*&?", "$1");
+        Properties properties = new Properties();
+        properties.setProperty("user", Objects.requireNonNullElse(System.getenv("BENCH_DATASOURCE_USERNAME"), "root"));
+        properties.setProperty("password", Objects.requireNonNullElse(System.getenv("BENCH_DATASOURCE_PASSWORD"), "root"));
+        properties.setProperty("rewriteBatchedStatements", String.valueOf(rewriteBatchedStatements));
+        return DriverManager.getConnection(url, properties);
+    }
+}
@@ -0,0 +1,84 @@
+package com.madebyzino.StockFlow.security;
+
+import com.madebyzino.StockFlow.entity.user.User;
+import com.madebyzino.StockFlow.entity.user.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 한 요청의 토큰 검증 비용 비교.
+ * legacyFilterPath: 이전 방식 (요청마다 파서 생성, extractAllClaims + isTokenValid 로 세 번 파싱 / 서명 검증)
+ * singleParse: 미리 만든 파서로 한 번 파싱 (캐시 미스)
+ * verifiedCacheHit: 검증된 토큰 캐시 적중
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET_B64 = "zdEdv9gHILfiJzNLXnnnQmd6A6N327sPKsYj0Mu4MZI=";
+
+    private JwtService jwtService;
+    private Key signKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_B64, 86_400_000L, 604_800_000L, 10_000);
+        jwtService.initKey();
+        signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_B64));
+
+        User user = User.builder()
+                .username("bench-user")
+                .password("{noop}password")
+                .role(UserRole.MANAGER)
+                .build();
+        user.setId(1L);
+        token = jwtService.generateToken(user);
+        jwtService.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        Claims claims = legacyParse(token);
+        String username = claims.get("username", String.class);
+        String sub = legacyParse(token).get("username", String.class);
+        boolean notExpired = legacyParse(token).getExpiration().after(new Date());
+        return notExpired && sub.equals(username);
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Claims verifiedCacheHit() {
+        return jwtService.verify(token);
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parserBuilder().setSigningKey(signKey).build().parseClaimsJws(jwt).getBody();
+    }
+}
@@ -0,0 +1,221 @@
+package com.madebyzino.StockFlow.service;
+
+import com.madebyzino.StockFlow.StockFlowApplication;
+import com.madebyzino.StockFlow.dto.inventory.MovementRequest;
+import com.madebyzino.StockFlow.entity.Category;
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.Location;
+import com.madebyzino.StockFlow.entity.Transaction;
+import com.madebyzino.StockFlow.entity.user.UserRole;
+import com.madebyzino.StockFlow.repository.CategoryRepository;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import com.madebyzino.StockFlow.repository.ItemRepository;
+import com.madebyzino.StockFlow.repository.LocationRepository;
+import com.madebyzino.StockFlow.repository.TransactionRepository;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 이동 동시성 전략별 처리량 비교 (반대 방향 이동이 섞인 부하).
+ * entity 는 조건부 UPDATE 도입 이전 경로(재고 엔티티 조회 -> 자바에서 수량 계산 -> 저장, 잠금 없음)를 그대로 재현한 기준선이다.
+ * 스레드 절반은 위치 0 -> 1 -> 2 -> 3 -> 0 방향, 나머지 절반은 반대 방향으로 같은 재고 행들을 옮긴다.
+ * linesPerBatch 가 1 이면 단건 이동(recordMovement), 그 이상이면 일괄 이동(recordMovements) 한 번의 라인 수.
+ * 결과 단위는 초당 요청 수이며, 실패(교착 / 재시도 초과)는 예외로 드러나 해당 반복이 중단된다.
+ * 이동은 재고 총합을 바꾸지 않으므로, 종료 시 출력하는 총합 차이가 0 이 아니면 갱신 유실이 있었다는 뜻이다 (entity 기준선).
+ *
+ * 실제 MySQL / Redis 가 필요하다. 애플리케이션을 띄워 별도 스키마(ddl-auto: create-drop)에 테이블을 만든다.
+ * 실행: BENCH_DATASOURCE_URL='jdbc:mysql://localhost:3306/stockflow_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true' \
+ *       ./gradlew jmh -PjmhIncludes=MovementBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class MovementBenchmark {
+
+    private static final String DEFAULT_URL =
+            "jdbc:mysql://localhost:3306/stockflow_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true";
+    private static final int LOCATION_COUNT = 4;
+    // 재고 부족으로 라인이 실패하지 않도록 충분히 채움
+    private static final int INITIAL_QUANTITY = 100_000_000;
+
+    @Param({"entity", "atomic", "pessimistic", "optimistic"})
+    public String concurrency;
+
+    @Param({"1", "20"})
+    public int linesPerBatch;
+
+    private ConfigurableApplicationContext context;
+    private MovementService movementService;
+    private ItemRepository itemRepository;
+    private LocationRepository locationRepository;
+    private InventoryRepository inventoryRepository;
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private AuthenticatedUser user;
+    private Long itemId;
+    private List<String> binCodes;
+
+    @State(Scope.Thread)
+    public static class Direction {
+
+        boolean reversed;
+        int next;
+
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            reversed = threadParams.getThreadIndex() % 2 == 1;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StockFlowApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + Objects.requireNonNullElse(System.getenv("BENCH_DATASOURCE_URL"), DEFAULT_URL),
+                        "spring.jpa.show-sql=false",
+                        // 기준선은 서비스를 거치지 않으므로 전략 빈은 기본값(atomic)으로 띄움
+                        "stockflow.movement.concurrency=" + (isBaseline() ? "atomic" : concurrency),
+                        "logging.level.root=WARN")
+                .run();
+        movementService = context.getBean(MovementService.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        locationRepository = context.getBean(LocationRepository.class);
+        inventoryRepository = context.getBean(InventoryRepository.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        user = new AuthenticatedUser(1L, "bench", UserRole.MANAGER);
+
+        Category category = context.getBean(CategoryRepository.class)
+                .save(Category.builder().name("벤치마크").code("BM").build());
+        Item item = itemRepository
+                .save(Item.builder().name("이동 벤치마크 품목").sku("BM-000001").price(1000).category(category).build());
+        itemId = item.getId();
+
+        binCodes = new ArrayList<>();
+        for (int i = 0; i < LOCATION_COUNT; i++) {
+            Location location = locationRepository.save(Location.builder()
+                    .centerName("벤치마크").zone("BM").binCode("BM-" + i).isActive(true).build());
+            inventoryRepository.save(Inventory.builder()
+                    .item(item).location(location).quantity(INITIAL_QUANTITY).build());
+            binCodes.add(location.getBinCode());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT SUM(quantity) FROM inventory WHERE item_id = ?", Long.class, itemId);
+        System.out.printf("%n[%s] 재고 총합 차이: %d%n", concurrency,
+                Objects.requireNonNullElse(total, 0L) - (long) INITIAL_QUANTITY * LOCATION_COUNT);
+        context.close();
+    }
+
+    @Benchmark
+    public int move(Direction direction) {
+        if (isBaseline()) {
+            List<MovementRequest> requests = new ArrayList<>(linesPerBatch);
+            for (int line = 0; line < linesPerBatch; line++) {
+                requests.add(line(direction, linesPerBatch == 1 ? direction.next++ : line));
+            }
+            return moveByEntity(requests);
+        }
+
+        if (linesPerBatch == 1) {
+            movementService.recordMovement(line(direction, direction.next++), user);
+            return 1;
+        }
+
+        List<MovementRequest> requests = new ArrayList<>(linesPerBatch);
+        for (int line = 0; line < linesPerBatch; line++) {
+            requests.add(line(direction, line));
+        }
+        return movementService.recordMovements(requests, user).getSuccessCount();
+    }
+
+    private boolean isBaseline() {
+        return "entity".equals(concurrency);
+    }
+
+    // 조건부 UPDATE 도입 이전의 recordMovement 경로를 라인마다 한 트랜잭션 안에서 실행
+    // 지금의 Inventory 에는 @Version 이 있어 save() 가 버전 검사를 붙이므로,
+    // 당시 변경 감지가 내보내던 것과 같은 버전 없는 UPDATE 로 계산한 수량을 덮어쓴다 (동시 요청 간 갱신 유실 포함)
+    private int moveByEntity(List<MovementRequest> requests) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            for (MovementRequest request : requests) {
+                Item item = itemRepository.findById(request.getItemId()).orElseThrow();
+                Location fromLocation = locationRepository.findByBinCode(request.getFromBinCode()).orElseThrow();
+                Location toLocation = locationRepository.findByBinCode(request.getToBinCode()).orElseThrow();
+                Inventory fromInventory = inventoryRepository.findByItemAndLocation(item, fromLocation).orElseThrow();
+                Inventory toInventory = inventoryRepository.findByItemAndLocation(item, toLocation).orElseThrow();
+
+                if (fromInventory.getQuantity() < request.getQuantity()) {
+                    throw new IllegalStateException("출발지(" + fromLocation.getBinCode() + ")의 재고가 부족합니다.");
+                }
+                jdbcTemplate.update("UPDATE inventory SET quantity = ? WHERE id = ?",
+                        fromInventory.getQuantity() - request.getQuantity(), fromInventory.getId());
+                jdbcTemplate.update("UPDATE inventory SET quantity = ? WHERE id = ?",
+                        toInventory.getQuantity() + request.getQuantity(), toInventory.getId());
+
+                transactionRepository.save(Transaction.builder()
+                        .item(item)
+                        .fromLocation(fromLocation)
+                        .toLocation(toLocation)
+                        .type(Transaction.TransactionType.MOVEMENT)
+                        .quantity(request.getQuantity())
+                        .transactionDate(LocalDateTime.now())
+                        .userId(user.getId())
+                        .build());
+            }
+            return requests.size();
+        }));
+    }
+
+    private MovementRequest line(Direction direction, int line) {
+        int from = line % LOCATION_COUNT;
+        int to = (from + 1) % LOCATION_COUNT;
+        if (direction.reversed) {
+            int swap = from;
+            from = to;
+            to = swap;
+        }
+
+        MovementRequest request = new MovementRequest();
+        request.setItemId(itemId);
+        request.setFromBinCode(binCodes.get(from));
+        request.setToBinCode(binCodes.get(to));
+        request.setQuantity(1);
+        return request;
+    }
+}
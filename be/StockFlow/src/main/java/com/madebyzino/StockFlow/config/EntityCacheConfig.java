@@ -0,0 +1,111 @@
+package com.madebyzino.StockFlow.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 기준 정보(품목, 위치, 카테고리) 엔티티용 Hibernate 2차 캐시 (JCache + Caffeine).
+ * 영역마다 최대 건수와 만료 시간을 두고, 엔티티 수정 / 삭제 시에는 Hibernate 가 커밋 시점에 캐시를 갱신한다 (READ_WRITE).
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    // 엔티티의 @Cache / @NaturalIdCache region 이름
+    public static final String ITEM_REGION = "item";
+    public static final String ITEM_NATURAL_ID_REGION = "item-natural-id";
+    public static final String LOCATION_REGION = "location";
+    public static final String LOCATION_NATURAL_ID_REGION = "location-natural-id";
+    public static final String CATEGORY_REGION = "category";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${stockflow.entity-cache.ttl:30m}") Duration ttl,
+            @Value("${stockflow.entity-cache.item-max-entries:100000}") long itemMaxEntries,
+            @Value("${stockflow.entity-cache.location-max-entries:20000}") long locationMaxEntries,
+            @Value("${stockflow.entity-cache.category-max-entries:1000}") long categoryMaxEntries
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        Map<String, Long> regions = new LinkedHashMap<>();
+        regions.put(ITEM_REGION, itemMaxEntries);
+        regions.put(ITEM_NATURAL_ID_REGION, itemMaxEntries);
+        regions.put(LOCATION_REGION, locationMaxEntries);
+        regions.put(LOCATION_NATURAL_ID_REGION, locationMaxEntries);
+        regions.put(CATEGORY_REGION, categoryMaxEntries);
+
+        regions.forEach((region, maxEntries) -> {
+            if (cacheManager.getCache(region) != null) {
+                return;
+            }
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            // Hibernate 캐시 항목은 불변 상태 배열이므로 직렬화 복사 없이 참조로 보관
+            configuration.setStoreByValue(false);
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+            // 위에서 만들지 않은 영역이 필요하면 경고 후 기본 설정으로 생성
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            // 영역별 적중률 지표용
+            properties.put("hibernate.generate_statistics", true);
+        };
+    }
+
+    // 영역별 적중 / 실패 횟수와 적중률 (stockflow.entity.cache.*{region=...})
+    @Bean
+    public MeterBinder entityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+                if (regionStatistics == null) {
+                    continue;
+                }
+
+                FunctionCounter.builder("stockflow.entity.cache.hits", regionStatistics, CacheRegionStatistics::getHitCount)
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("stockflow.entity.cache.misses", regionStatistics, CacheRegionStatistics::getMissCount)
+                        .tag("region", region)
+                        .register(registry);
+                Gauge.builder("stockflow.entity.cache.hit.ratio", regionStatistics, EntityCacheConfig::hitRatio)
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long hits = statistics.getHitCount();
+        long total = hits + statistics.getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,30 @@
+package com.madebyzino.StockFlow.config;
+
+import com.madebyzino.StockFlow.repository.EntityCacheEvictionListener;
+import com.madebyzino.StockFlow.repository.ItemSearchIndex;
+import com.madebyzino.StockFlow.security.TokenRevocationStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 인스턴스 간 알림용 Redis pub/sub 구독
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            EntityCacheEvictionListener entityCacheEvictionListener,
+            TokenRevocationStore tokenRevocationStore,
+            ItemSearchIndex itemSearchIndex
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(entityCacheEvictionListener, new ChannelTopic(EntityCacheEvictionListener.CHANNEL));
+        container.addMessageListener(tokenRevocationStore, new ChannelTopic(TokenRevocationStore.CHANNEL));
+        container.addMessageListener(itemSearchIndex, new ChannelTopic(ItemSearchIndex.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,27 @@
+package com.madebyzino.StockFlow.config;
+
+import com.madebyzino.StockFlow.service.alert.SafetyStockAlertWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final SafetyStockAlertWebSocketHandler safetyStockAlertWebSocketHandler;
+
+    @Value("${frontend.url:http://localhost:5173}")
+    private String frontendUrl;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 안전 재고 미달 / 회복 알림 푸시
+        registry.addHandler(safetyStockAlertWebSocketHandler, "/ws/alerts/safety-stock")
+                .setAllowedOrigins(frontendUrl);
+    }
+}
@@ -1,7 +1,7 @@
 package com.madebyzino.StockFlow.controller;
 
 import com.madebyzino.StockFlow.dto.inventory.AdjustmentRequest;
-import com.madebyzino.StockFlow.entity.user.User;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
 import com.madebyzino.StockFlow.security.CurrentUser;
 import com.madebyzino.StockFlow.service.AdjustmentService;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +23,7 @@ public class AdjustmentController {
     @PostMapping("/adjust")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Void> adjustInventory(@RequestBody AdjustmentRequest request,
-                                                @CurrentUser User currentUser
+                                                @CurrentUser AuthenticatedUser currentUser
     ) {
         adjustmentService.recordAdjustment(request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).build();
@@ -0,0 +1,37 @@
+package com.madebyzino.StockFlow.controller;
+
+import com.madebyzino.StockFlow.dto.dashboard.DashboardResponse;
+import com.madebyzino.StockFlow.dto.dashboard.TopMoverResponse;
+import com.madebyzino.StockFlow.service.dashboard.DashboardService;
+import com.madebyzino.StockFlow.service.dashboard.TopMoversTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // 현황 / 최근 N일 재고 흐름 / 재고 정확도 / 공간 활용률
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(@RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(dashboardService.getDashboard(days));
+    }
+
+    // 최근 최다 입출고 품목 (window: DAY / WEEK, metric: COUNT / QUANTITY)
+    @GetMapping("/top-movers")
+    public ResponseEntity<List<TopMoverResponse>> getTopMovers(
+            @RequestParam(defaultValue = "DAY") TopMoversTracker.Window window,
+            @RequestParam(defaultValue = "COUNT") TopMoversTracker.Metric metric,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(dashboardService.getTopMovers(window, metric, limit));
+    }
+}
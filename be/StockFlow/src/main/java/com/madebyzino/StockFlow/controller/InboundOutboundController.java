@@ -0,0 +1,38 @@
+package com.madebyzino.StockFlow.controller;
+
+import com.madebyzino.StockFlow.dto.transaction.StockLinesRequest;
+import com.madebyzino.StockFlow.dto.transaction.StockLinesResponse;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import com.madebyzino.StockFlow.security.CurrentUser;
+import com.madebyzino.StockFlow.service.InboundOutboundService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+public class InboundOutboundController {
+
+    private final InboundOutboundService inboundOutboundService;
+
+    // 입고 전표 등록
+    @PostMapping("/inbound")
+    public ResponseEntity<StockLinesResponse> inbound(@RequestBody StockLinesRequest request,
+                                                      @CurrentUser AuthenticatedUser currentUser) {
+        StockLinesResponse response = inboundOutboundService.recordInbound(request.getLines(), currentUser);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 출고 전표 등록
+    @PostMapping("/outbound")
+    public ResponseEntity<StockLinesResponse> outbound(@RequestBody StockLinesRequest request,
+                                                       @CurrentUser AuthenticatedUser currentUser) {
+        StockLinesResponse response = inboundOutboundService.recordOutbound(request.getLines(), currentUser);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -1,31 +1,70 @@
 package com.madebyzino.StockFlow.controller;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.inventory.InventorySearchCondition;
+import com.madebyzino.StockFlow.dto.inventory.InventorySort;
 import com.madebyzino.StockFlow.dto.inventory.InventorySummaryResponse;
+import com.madebyzino.StockFlow.dto.inventory.SafetyStockAlertResponse;
 import com.madebyzino.StockFlow.repository.InventoryQueryRepository;
+import com.madebyzino.StockFlow.service.alert.SafetyStockAlertEngine;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/inventory")
 @RequiredArgsConstructor
 public class InventoryController {
 
+    // 커서 모드 한 페이지 최대 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final InventoryQueryRepository inventoryQueryRepository;
+    private final SafetyStockAlertEngine safetyStockAlertEngine;
 
     @GetMapping("/status")
-    public ResponseEntity<Page<InventorySummaryResponse>> getInventoryStatus(
+    public ResponseEntity<Slice<InventorySummaryResponse>> getInventoryStatus(
             InventorySearchCondition condition,
 
-            @PageableDefault(size = 20, sort = "itemId") Pageable pageable)
+            @PageableDefault(size = 20, sort = "itemId") Pageable pageable,
+            @RequestParam(required = false) String count)
+    {
+        // count=exact(기본, 캐시) | estimate | none(건수 생략)
+        Slice<InventorySummaryResponse> result = inventoryQueryRepository.searchInventoryStatus(
+                condition, pageable, CountMode.from(count));
+        return ResponseEntity.ok(result);
+    }
+
+    // 커서 모드 (?cursor= 로 첫 페이지, sort=quantity,desc 처럼 정렬 지정, 이후 nextCursor 를 그대로 전달)
+    // 정렬은 inventory 인덱스로 읽을 수 있는 itemId / quantity 만 가능 (가격 / 품목명 / 위치 코드 정렬은 page / size 로 조회)
+    @GetMapping(value = "/status", params = "cursor")
+    public ResponseEntity<CursorPage<InventorySummaryResponse>> getInventoryStatusByCursor(
+            InventorySearchCondition condition,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "itemId,asc") String sort,
+            @RequestParam(defaultValue = "20") int size)
     {
-        Page<InventorySummaryResponse> result = inventoryQueryRepository.searchInventoryStatus(condition, pageable);
+        String[] sortParts = sort.split(",");
+        InventorySort sortKey = InventorySort.from(sortParts[0].trim());
+        boolean descending = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim());
+
+        CursorPage<InventorySummaryResponse> result = inventoryQueryRepository.searchInventoryStatusByCursor(
+                condition, sortKey, descending, cursor, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    // 총 재고가 안전 재고 미만인 품목 (메모리에 유지되는 목록, 부족 수량이 큰 순)
+    @GetMapping("/alerts/safety-stock")
+    public ResponseEntity<List<SafetyStockAlertResponse>> getSafetyStockAlerts() {
+        return ResponseEntity.ok(safetyStockAlertEngine.getAlerts());
+    }
+}
@@ -1,17 +1,24 @@
 package com.madebyzino.StockFlow.controller;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
+import com.madebyzino.StockFlow.dto.item.ItemImportResponse;
 import com.madebyzino.StockFlow.dto.item.ItemRegistrationRequest;
 import com.madebyzino.StockFlow.dto.item.ItemResponse;
 import com.madebyzino.StockFlow.dto.item.ItemSearchCondition;
+import com.madebyzino.StockFlow.dto.item.ItemSort;
 import com.madebyzino.StockFlow.dto.item.ItemSummaryResponse;
 import com.madebyzino.StockFlow.entity.Item;
 import com.madebyzino.StockFlow.service.ItemService;
+import com.madebyzino.StockFlow.service.importer.ItemImportService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
 
     @GetMapping("/{itemId}")
     public ResponseEntity<ItemResponse> getItem(@PathVariable Long itemId) {
@@ -33,6 +41,14 @@ public class ItemController {
         return new ResponseEntity<>(ItemResponse.from(item), HttpStatus.CREATED);
     }
 
+    // 엑셀(.xlsx) / CSV 일괄 등록 (헤더: name, category, price, safetyStock)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ItemImportResponse> importItems(@RequestParam("file") MultipartFile file) {
+        ItemImportResponse response = itemImportService.importItems(file);
+
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     @PutMapping("/{itemId}")
     public ResponseEntity<ItemResponse> updateItem(
             @PathVariable Long itemId,
@@ -51,11 +67,29 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<ItemSummaryResponse>> searchItems(
+    public ResponseEntity<Slice<ItemSummaryResponse>> searchItems(
             @ModelAttribute ItemSearchCondition condition,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(required = false) String count) {
 
-        Page<ItemSummaryResponse> responsePage = itemService.searchItems(condition, pageable);
+        // count=exact(기본, 캐시) | estimate | none(건수 생략)
+        Slice<ItemSummaryResponse> responsePage = itemService.searchItems(condition, pageable, CountMode.from(count));
         return ResponseEntity.ok(responsePage);
     }
+
+    // 커서 모드 (?cursor= 로 첫 페이지, sort=price,asc 처럼 정렬 지정, 이후 nextCursor 를 그대로 전달)
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<CursorPage<ItemSummaryResponse>> searchItemsByCursor(
+            @ModelAttribute ItemSearchCondition condition,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "itemId,desc") String sort,
+            @RequestParam(defaultValue = "20") int size) {
+
+        String[] sortParts = sort.split(",");
+        ItemSort sortKey = ItemSort.from(sortParts[0].trim());
+        boolean descending = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim());
+
+        CursorPage<ItemSummaryResponse> result = itemService.searchItems(condition, sortKey, descending, cursor, size);
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.madebyzino.StockFlow.controller;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryDrift;
+import com.madebyzino.StockFlow.dto.inventory.LedgerReconcileResponse;
+import com.madebyzino.StockFlow.dto.transaction.LedgerPartition;
+import com.madebyzino.StockFlow.service.ledger.LedgerPartitionManager;
+import com.madebyzino.StockFlow.service.ledger.LedgerReplayService;
+import com.madebyzino.StockFlow.service.rollup.TransactionRollupBackfillJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/ledger")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('MANAGER')")
+public class LedgerController {
+
+    private final LedgerReplayService ledgerReplayService;
+    private final TransactionRollupBackfillJob transactionRollupBackfillJob;
+    private final LedgerPartitionManager ledgerPartitionManager;
+
+    // 단일 품목/위치의 원장 재생 수량과 재고 수량 비교
+    @GetMapping("/replay")
+    public ResponseEntity<InventoryDrift> replay(@RequestParam Long itemId, @RequestParam Long locationId) {
+        return ResponseEntity.ok(ledgerReplayService.replay(itemId, locationId));
+    }
+
+    @PostMapping("/snapshots")
+    public ResponseEntity<Map<String, Long>> compact() {
+        return ResponseEntity.ok(Map.of("updatedCount", ledgerReplayService.compact()));
+    }
+
+    @PostMapping("/snapshots/seed")
+    public ResponseEntity<Map<String, Long>> seed() {
+        return ResponseEntity.ok(Map.of("insertedCount", ledgerReplayService.seedSnapshots()));
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<LedgerReconcileResponse> reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(ledgerReplayService.reconcile(repair));
+    }
+
+    // 기간 집계 테이블 초기 채우기 (남은 구간만 백그라운드에서 처리)
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<Map<String, Boolean>> backfillRollups() {
+        return ResponseEntity.accepted().body(Map.of("started", transactionRollupBackfillJob.runAsync()));
+    }
+
+    @GetMapping("/partitions")
+    public ResponseEntity<List<LedgerPartition>> partitions() {
+        return ResponseEntity.ok(ledgerPartitionManager.findPartitions());
+    }
+
+    // 원장 테이블을 월 파티션으로 변환 (테이블 복사 동안 원장 쓰기가 막히므로 점검 시간에 실행)
+    @PostMapping("/partitions/convert")
+    public ResponseEntity<Map<String, List<String>>> convertPartitions() {
+        return ResponseEntity.ok(Map.of("created", ledgerPartitionManager.convert()));
+    }
+
+    // 월 파티션 추가 / 만료를 즉시 실행 (다른 인스턴스가 실행 중이면 빈 결과)
+    @PostMapping("/partitions/maintain")
+    public ResponseEntity<LedgerPartitionManager.MaintenanceResult> maintainPartitions() {
+        return ResponseEntity.ok(ledgerPartitionManager.maintain());
+    }
+}
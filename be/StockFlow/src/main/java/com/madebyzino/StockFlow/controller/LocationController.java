@@ -3,6 +3,7 @@ package com.madebyzino.StockFlow.controller;
 import com.madebyzino.StockFlow.dto.location.LocationDetailResponse;
 import com.madebyzino.StockFlow.dto.location.LocationRequest;
 import com.madebyzino.StockFlow.dto.location.LocationResponse;
+import com.madebyzino.StockFlow.dto.location.LocationUtilizationResponse;
 import com.madebyzino.StockFlow.service.LocationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -87,4 +88,23 @@ public class LocationController {
         Page<LocationResponse> result = locationService.searchLocationsBinCode(centerName, zone, pageable);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    // 8. 재고가 없는 활성 위치 조회 (id 순)
+    @GetMapping("/empty")
+    public ResponseEntity<Page<LocationResponse>> getEmptyLocations(
+            @RequestParam(required = false) String centerName,
+            @RequestParam(required = false) String zone,
+            @PageableDefault(size = 100) Pageable pageable) {
+        Page<LocationResponse> result = locationService.searchEmptyLocations(centerName, zone, pageable);
+        return ResponseEntity.ok(result);
+    }
+
+    // 9. 센터 / 구역별 공간 활용률
+    @GetMapping("/utilization")
+    public ResponseEntity<List<LocationUtilizationResponse>> getUtilization(
+            @RequestParam(required = false) String centerName,
+            @RequestParam(required = false) String zone) {
+        List<LocationUtilizationResponse> result = locationService.getUtilization(centerName, zone);
+        return ResponseEntity.ok(result);
+    }
+}
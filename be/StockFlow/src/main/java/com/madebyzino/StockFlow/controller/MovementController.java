@@ -1,7 +1,9 @@
 package com.madebyzino.StockFlow.controller;
 
+import com.madebyzino.StockFlow.dto.inventory.MovementBatchRequest;
+import com.madebyzino.StockFlow.dto.inventory.MovementBatchResponse;
 import com.madebyzino.StockFlow.dto.inventory.MovementRequest;
-import com.madebyzino.StockFlow.entity.user.User;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
 import com.madebyzino.StockFlow.security.CurrentUser;
 import com.madebyzino.StockFlow.service.MovementService;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +23,17 @@ public class MovementController {
 
     @PostMapping("/move")
     public ResponseEntity<Void> moveInventory(@RequestBody MovementRequest request,
-                                              @CurrentUser User currentUser) {
+                                              @CurrentUser AuthenticatedUser currentUser) {
         movementService.recordMovement(request, currentUser);
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("/move/batch")
+    public ResponseEntity<MovementBatchResponse> moveInventoryBatch(@RequestBody MovementBatchRequest request,
+                                                                    @CurrentUser AuthenticatedUser currentUser) {
+        MovementBatchResponse response = movementService.recordMovements(request.getMovements(), currentUser);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -1,30 +1,70 @@
 package com.madebyzino.StockFlow.web;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.transaction.TransactionHistoryResponse;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupGroupBy;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupResponse;
 import com.madebyzino.StockFlow.dto.transaction.TransactionSearchCondition;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
 import com.madebyzino.StockFlow.service.TransactionService;
+import com.madebyzino.StockFlow.service.rollup.TransactionRollupService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionRollupService transactionRollupService;
 
     @GetMapping("/history")
-    public ResponseEntity<Page<TransactionHistoryResponse>> getTransactionHistory(
+    public ResponseEntity<Slice<TransactionHistoryResponse>> getTransactionHistory(
+            TransactionSearchCondition condition,
+            @PageableDefault(size = 20, sort = "transactionDate", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String count)
+    {
+        // count=exact(기본, 캐시) | estimate | none(건수 생략)
+        Slice<TransactionHistoryResponse> result = transactionService.searchTransactionHistory(
+                condition, pageable, CountMode.from(count));
+        return ResponseEntity.ok(result);
+    }
+
+    // 커서 모드 (?cursor= 로 첫 페이지, 이후 응답의 nextCursor 를 그대로 전달)
+    @GetMapping(value = "/history", params = "cursor")
+    public ResponseEntity<CursorPage<TransactionHistoryResponse>> getTransactionHistoryByCursor(
             TransactionSearchCondition condition,
-            @PageableDefault(size = 20, sort = "transactionDate", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable)
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size)
+    {
+        CursorPage<TransactionHistoryResponse> result = transactionService.searchTransactionHistory(condition, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
+    // 기간 집계 (시 단위, groupBy=DAY,TYPE,CENTER,ITEM 중 복수 선택 / 생략 시 전체 합계)
+    @GetMapping("/rollups")
+    public ResponseEntity<TransactionRollupResponse> getRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String centerName,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) List<TransactionRollupGroupBy> groupBy)
     {
-        Page<TransactionHistoryResponse> result = transactionService.searchTransactionHistory(condition, pageable);
+        TransactionRollupResponse result = transactionRollupService.aggregate(from, to, centerName, itemId, type, groupBy);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
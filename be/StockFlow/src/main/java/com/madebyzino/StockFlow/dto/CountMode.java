@@ -0,0 +1,23 @@
+package com.madebyzino.StockFlow.dto;
+
+import com.madebyzino.StockFlow.exception.InvalidPageRequestException;
+
+import java.util.Locale;
+
+// 페이지 목록의 전체 건수 계산 방식 (요청 파라미터 count)
+public enum CountMode {
+    EXACT,      // 정확한 건수 (검색 조건별로 캐시, 재고 변동 시 무효화)
+    ESTIMATE,   // 조건이 없으면 테이블 통계 기반 추정치, 조건이 있으면 EXACT 와 동일
+    NONE;       // 건수 생략, 다음 페이지 존재 여부만 제공 (Slice)
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("지원하지 않는 count 방식입니다: " + value);
+        }
+    }
+}
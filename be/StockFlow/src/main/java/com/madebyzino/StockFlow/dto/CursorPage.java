@@ -0,0 +1,34 @@
+package com.madebyzino.StockFlow.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서(키셋) 기반 페이지. 전체 건수 없이 다음 페이지 존재 여부와 다음 커서만 제공
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+
+    private CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만든다. 초과분이 있으면 다음 페이지가 있는 것으로 보고,
+     * 현재 페이지의 마지막 행으로 다음 커서를 만든다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+}
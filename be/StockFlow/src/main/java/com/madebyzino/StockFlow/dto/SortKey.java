@@ -0,0 +1,25 @@
+package com.madebyzino.StockFlow.dto;
+
+/**
+ * 목록 조회에서 허용하는 정렬 기준. 요청의 정렬 속성을 이 목록으로만 SQL 컬럼에 연결하므로
+ * ORDER BY 에 ${} 로 넣어도 외부 입력이 그대로 들어가지 않는다.
+ */
+public interface SortKey<T> {
+
+    // 요청에서 사용하는 속성 이름 (예: quantity)
+    String property();
+
+    // ORDER BY / 키셋 조건에 사용할 컬럼
+    String column();
+
+    // 행에서 정렬 값 추출 (다음 커서 생성용)
+    Object valueOf(T row);
+
+    // 커서에 담긴 문자열을 컬럼 타입으로 변환
+    Object parse(String raw);
+
+    // 커서(키셋) 모드 허용 여부. (정렬 컬럼, 동순위 id) 순서의 인덱스가 있어야 페이지 깊이와 무관하게 비용이 같다
+    default boolean seekable() {
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.madebyzino.StockFlow.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 하루의 유형별 재고 흐름 (수량, 건수)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyFlowResponse {
+    private LocalDate date;
+    private long inboundQuantity;
+    private long outboundQuantity;
+    private long movementQuantity;
+    private long adjustmentQuantity;
+    private long inboundCount;
+    private long outboundCount;
+    private long movementCount;
+    private long adjustmentCount;
+}
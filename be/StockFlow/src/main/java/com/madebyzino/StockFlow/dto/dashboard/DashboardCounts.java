@@ -0,0 +1,26 @@
+package com.madebyzino.StockFlow.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 대시보드 누적 합계 (증감 반영 시에는 증감량, 조회 시에는 slot 합계)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardCounts {
+    private long itemCount;
+    private long totalQuantity;
+    private long assetValue;
+    private long activeLocations;
+    private long occupiedLocations;
+
+    public boolean isEmpty() {
+        return itemCount == 0 && totalQuantity == 0 && assetValue == 0
+                && activeLocations == 0 && occupiedLocations == 0;
+    }
+}
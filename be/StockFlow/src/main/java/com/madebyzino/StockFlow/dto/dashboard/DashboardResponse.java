@@ -0,0 +1,36 @@
+package com.madebyzino.StockFlow.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+
+    // 현황
+    private long itemCount;
+    private long totalQuantity;
+    private long assetValue;
+    private int belowSafetyStockCount;  // 목록은 /api/inventory/alerts/safety-stock
+
+    // 최근 N일 재고 흐름 (오래된 날짜부터, 변동이 없는 날은 0)
+    private List<DailyFlowResponse> dailyFlow;
+
+    // 재고 정확도: 기간 내 조정 건수 / (입고 + 출고 + 이동 건수)
+    private long adjustmentCount;
+    private long operationCount;
+    private double adjustmentRatio;
+    private double accuracy;
+
+    // 공간 활용률: 재고가 있는 활성 위치 / 활성 위치
+    private long activeLocations;
+    private long occupiedLocations;
+    private long emptyLocations;
+    private double utilization;
+}
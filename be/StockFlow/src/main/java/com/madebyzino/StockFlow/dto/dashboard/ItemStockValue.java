@@ -0,0 +1,15 @@
+package com.madebyzino.StockFlow.dto.dashboard;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 자산 가치 계산용 품목 단가와 총 재고 수량
+@Getter
+@Setter
+@NoArgsConstructor
+public class ItemStockValue {
+    private Long id;
+    private int price;
+    private long totalQuantity;
+}
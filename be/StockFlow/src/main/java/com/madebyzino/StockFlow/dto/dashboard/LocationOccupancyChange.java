@@ -0,0 +1,17 @@
+package com.madebyzino.StockFlow.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 위치별 재고 보유 품목 수 증감 (조회 시에는 반영 후 품목 수와 활성 여부)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationOccupancyChange {
+    private Long locationId;
+    private int itemCount;
+    private boolean active;
+}
@@ -0,0 +1,19 @@
+package com.madebyzino.StockFlow.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 최근 최다 입출고 품목 (근사값: 실제 값은 value - maxError 이상 value 이하)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopMoverResponse {
+    private Long itemId;
+    private String sku;
+    private String name;
+    private long value;      // 건수 또는 수량 (metric 기준)
+    private long maxError;
+}
@@ -0,0 +1,14 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 품목/위치별 재고 수량과 원장 재생 수량 비교
+@Getter
+@AllArgsConstructor
+public class InventoryDrift {
+    private Long itemId;
+    private Long locationId;
+    private int inventoryQuantity;  // inventory 테이블의 수량
+    private int ledgerQuantity;     // 스냅샷 + 이후 원장으로 재생한 수량
+}
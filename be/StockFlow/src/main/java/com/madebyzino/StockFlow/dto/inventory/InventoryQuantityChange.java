@@ -0,0 +1,22 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 품목/위치 단위로 합산된 재고 증감 수량 (입출고 일괄 반영용)
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryQuantityChange {
+    private Long id;          // 새 재고 행으로 추가될 경우 사용할 id (미리 할당)
+    private Long itemId;
+    private Long locationId;
+    private int quantity;
+
+    public InventoryQuantityChange(Long itemId, Long locationId, int quantity) {
+        this.itemId = itemId;
+        this.locationId = locationId;
+        this.quantity = quantity;
+    }
+}
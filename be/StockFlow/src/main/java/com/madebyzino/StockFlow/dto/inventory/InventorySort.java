@@ -0,0 +1,72 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import com.madebyzino.StockFlow.dto.SortKey;
+import com.madebyzino.StockFlow.exception.InvalidPageRequestException;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 재고 현황 정렬 기준 (동순위는 inv.id 로 구분).
+ * 커서 모드는 inventory 의 (정렬 컬럼, id) 인덱스로 읽을 수 있는 기준만 허용한다.
+ * 조인한 테이블의 컬럼(가격, 품목명, 위치 코드)은 inv.id 와 한 인덱스에 둘 수 없어 페이지마다 전체 정렬이 필요하므로 offset 페이지로만 조회한다.
+ */
+public enum InventorySort implements SortKey<InventorySummaryResponse> {
+    ITEM_ID("itemId", "inv.item_id", InventorySummaryResponse::getItemId, Long::valueOf, true),
+    QUANTITY("quantity", "inv.quantity", InventorySummaryResponse::getQuantity, Integer::valueOf, true),
+    PRICE("price", "i.price", InventorySummaryResponse::getPrice, Integer::valueOf, false),
+    NAME("itemName", "i.name", InventorySummaryResponse::getItemName, raw -> raw, false),
+    BIN_CODE("binCode", "l.bin_code", InventorySummaryResponse::getBinCode, raw -> raw, false);
+
+    public static final String TIE_COLUMN = "inv.id";
+
+    private final String property;
+    private final String column;
+    private final Function<InventorySummaryResponse, Object> extractor;
+    private final Function<String, Object> parser;
+    private final boolean seekable;
+
+    InventorySort(String property, String column,
+                  Function<InventorySummaryResponse, Object> extractor, Function<String, Object> parser,
+                  boolean seekable) {
+        this.property = property;
+        this.column = column;
+        this.extractor = extractor;
+        this.parser = parser;
+        this.seekable = seekable;
+    }
+
+    // 응답 필드 이름(itemName) 외에 짧은 이름(name)도 허용
+    public static InventorySort from(String property) {
+        String requested = "name".equals(property) ? NAME.property : property;
+        return Arrays.stream(values())
+                .filter(sort -> sort.property.equals(requested))
+                .findFirst()
+                .orElseThrow(() -> new InvalidPageRequestException("지원하지 않는 정렬 기준입니다: " + property));
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String column() {
+        return column;
+    }
+
+    @Override
+    public Object valueOf(InventorySummaryResponse row) {
+        return extractor.apply(row);
+    }
+
+    @Override
+    public Object parse(String raw) {
+        return parser.apply(raw);
+    }
+
+    @Override
+    public boolean seekable() {
+        return seekable;
+    }
+}
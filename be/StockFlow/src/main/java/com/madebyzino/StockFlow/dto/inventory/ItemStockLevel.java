@@ -0,0 +1,21 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 품목의 현재 총 재고와 안전 재고 (안전 재고 알림 판정용)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ItemStockLevel {
+    private Long itemId;
+    private String itemName;
+    private String sku;
+    private int safetyStock;
+    private long totalQuantity;
+
+    public boolean isBelowSafetyStock() {
+        return totalQuantity < safetyStock;
+    }
+}
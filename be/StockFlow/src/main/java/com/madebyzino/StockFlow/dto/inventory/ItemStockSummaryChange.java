@@ -0,0 +1,17 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 품목별 재고 합계 증감 (수량 증감, 재고가 있는 위치 수 증감)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemStockSummaryChange {
+    private Long itemId;
+    private long quantityDelta;
+    private int locationDelta;
+}
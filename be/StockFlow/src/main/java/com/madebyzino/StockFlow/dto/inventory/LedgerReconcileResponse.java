@@ -0,0 +1,20 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 원장 재생 결과와 재고 테이블 비교 결과
+@Getter
+@Builder
+public class LedgerReconcileResponse {
+    private int partitionCount;
+    private long checkedCount;      // 비교한 품목/위치 수
+    private long driftCount;        // 수량이 다른 품목/위치 수
+    private long repairedCount;     // 원장 기준으로 보정한 재고 행 수
+    private long unseededCount;     // 스냅샷이 없어 보정하지 않은 차이 수 (원장 이전 재고일 수 있음)
+    private String repairRefusedReason;  // 보정을 하지 않은 이유 (보정했거나 요청하지 않았으면 null)
+    private long elapsedMillis;
+    private List<InventoryDrift> drifts;  // 차이 목록 (최대 MAX_REPORTED_DRIFTS 건)
+}
@@ -0,0 +1,10 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MovementBatchRequest {
+    private List<MovementRequest> movements;
+}
@@ -0,0 +1,25 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MovementBatchResponse {
+    private final int requestedCount;
+    private final int successCount;
+    private final int failedCount;
+    private final List<MovementLineResult> results;
+
+    public static MovementBatchResponse of(List<MovementLineResult> results) {
+        int successCount = (int) results.stream().filter(MovementLineResult::isSuccess).count();
+        return MovementBatchResponse.builder()
+                .requestedCount(results.size())
+                .successCount(successCount)
+                .failedCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
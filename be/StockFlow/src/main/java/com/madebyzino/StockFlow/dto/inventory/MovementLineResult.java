@@ -0,0 +1,27 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MovementLineResult {
+    private final int index;       // 요청 목록에서의 순번 (0부터)
+    private final boolean success;
+    private final String message;
+
+    public static MovementLineResult success(int index) {
+        return MovementLineResult.builder()
+                .index(index)
+                .success(true)
+                .build();
+    }
+
+    public static MovementLineResult failure(int index, String message) {
+        return MovementLineResult.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
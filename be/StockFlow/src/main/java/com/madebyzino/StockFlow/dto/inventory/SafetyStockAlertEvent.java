@@ -0,0 +1,23 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 안전 재고 미달 / 회복 알림 (애플리케이션 이벤트로 발행되어 웹소켓으로 전달)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafetyStockAlertEvent {
+
+    public enum Type {
+        BELOW,      // 안전 재고 미만으로 떨어짐
+        RECOVERED   // 안전 재고 이상으로 회복 (또는 품목 삭제)
+    }
+
+    private Type type;
+    private SafetyStockAlertResponse alert;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,30 @@
+package com.madebyzino.StockFlow.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SafetyStockAlertResponse {
+    private Long itemId;
+    private String itemName;
+    private String sku;
+    private long totalQuantity;
+    private int safetyStock;
+    private long shortage;  // 안전 재고까지 부족한 수량
+
+    public static SafetyStockAlertResponse from(ItemStockLevel level) {
+        return SafetyStockAlertResponse.builder()
+                .itemId(level.getItemId())
+                .itemName(level.getItemName())
+                .sku(level.getSku())
+                .totalQuantity(level.getTotalQuantity())
+                .safetyStock(level.getSafetyStock())
+                .shortage(Math.max(0, level.getSafetyStock() - level.getTotalQuantity()))
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.madebyzino.StockFlow.dto.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록에서 건너뛴 행과 사유
+@Getter
+@AllArgsConstructor
+public class ItemImportError {
+    private int rowNumber;
+    private String message;
+}
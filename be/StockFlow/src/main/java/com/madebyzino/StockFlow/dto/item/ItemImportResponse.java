@@ -0,0 +1,16 @@
+package com.madebyzino.StockFlow.dto.item;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ItemImportResponse {
+    private int totalRows;        // 헤더를 제외한 데이터 행 수
+    private int importedCount;
+    private int failedCount;
+    private long elapsedMillis;
+    private List<ItemImportError> errors;  // 실패 행 (최대 1000건)
+}
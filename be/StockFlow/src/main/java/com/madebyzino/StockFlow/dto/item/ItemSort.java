@@ -0,0 +1,59 @@
+package com.madebyzino.StockFlow.dto.item;
+
+import com.madebyzino.StockFlow.dto.SortKey;
+import com.madebyzino.StockFlow.exception.InvalidPageRequestException;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+// 품목 검색 정렬 기준 (동순위는 i.id 로 구분). 합계 수량은 집계 값이라 인덱스를 탈 수 없어 제외
+public enum ItemSort implements SortKey<ItemSummaryResponse> {
+    ITEM_ID("itemId", "i.id", ItemSummaryResponse::getItemId, Long::valueOf),
+    PRICE("price", "i.price", ItemSummaryResponse::getPrice, Integer::valueOf),
+    NAME("itemName", "i.name", ItemSummaryResponse::getItemName, raw -> raw),
+    SKU("sku", "i.sku", ItemSummaryResponse::getSku, raw -> raw);
+
+    public static final String TIE_COLUMN = "i.id";
+
+    private final String property;
+    private final String column;
+    private final Function<ItemSummaryResponse, Object> extractor;
+    private final Function<String, Object> parser;
+
+    ItemSort(String property, String column,
+             Function<ItemSummaryResponse, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.column = column;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    // 응답 필드 이름(itemName) 외에 짧은 이름(name)도 허용
+    public static ItemSort from(String property) {
+        String requested = "name".equals(property) ? NAME.property : property;
+        return Arrays.stream(values())
+                .filter(sort -> sort.property.equals(requested))
+                .findFirst()
+                .orElseThrow(() -> new InvalidPageRequestException("지원하지 않는 정렬 기준입니다: " + property));
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String column() {
+        return column;
+    }
+
+    @Override
+    public Object valueOf(ItemSummaryResponse row) {
+        return extractor.apply(row);
+    }
+
+    @Override
+    public Object parse(String raw) {
+        return parser.apply(raw);
+    }
+}
@@ -19,5 +19,6 @@ public class ItemSummaryResponse {
     private int price;
     private String categoryName;
     private int quantity;
+    private int locationCount;  // 재고가 있는 위치 수
 
 }
\ No newline at end of file
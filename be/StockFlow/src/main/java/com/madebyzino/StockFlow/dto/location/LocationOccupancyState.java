@@ -0,0 +1,17 @@
+package com.madebyzino.StockFlow.dto.location;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 위치의 센터 / 구역, 활성 여부, 재고 보유 여부 (점유 색인 구성용)
+@Getter
+@Setter
+@NoArgsConstructor
+public class LocationOccupancyState {
+    private Long locationId;
+    private String centerName;
+    private String zone;
+    private boolean active;
+    private boolean occupied;
+}
@@ -0,0 +1,20 @@
+package com.madebyzino.StockFlow.dto.location;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 센터 / 구역별 공간 활용률 (활성 위치 중 재고가 있는 위치 비율)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationUtilizationResponse {
+    private String centerName;
+    private String zone;
+    private long activeLocations;
+    private long occupiedLocations;
+    private long emptyLocations;
+    private double utilization;
+}
@@ -0,0 +1,43 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import com.madebyzino.StockFlow.entity.Transaction;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 쓰기 지연 모드에서 스테이징 행과 큐에 담기는 이력 한 건 (연관 엔티티 대신 id 만 보관)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+    private Long id;
+    private Long itemId;
+    private Long fromLocationId;
+    private Long toLocationId;
+    private TransactionType type;
+    private int quantity;
+    private LocalDateTime transactionDate;
+    private Long userId;
+    private String notes;
+
+    public static LedgerEntry from(Transaction transaction) {
+        return LedgerEntry.builder()
+                .id(transaction.getId())
+                .itemId(transaction.getItem().getId())
+                .fromLocationId(transaction.getFromLocation() != null ? transaction.getFromLocation().getId() : null)
+                .toLocationId(transaction.getToLocation() != null ? transaction.getToLocation().getId() : null)
+                .type(transaction.getType())
+                .quantity(transaction.getQuantity())
+                .transactionDate(transaction.getTransactionDate())
+                .userId(transaction.getUserId())
+                .notes(transaction.getNotes())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 원장(transaction) 월 단위 파티션 (lessThan 이 null 이면 MAXVALUE 파티션)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerPartition {
+    private String name;
+    private LocalDateTime lessThan;
+    private Long estimatedRows;
+}
@@ -0,0 +1,14 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 복구할 이력 묶음 (entries 는 LedgerEntry 목록의 JSON)
+@Getter
+@Setter
+@NoArgsConstructor
+public class LedgerStagingRow {
+    private Long id;
+    private String entries;
+}
@@ -0,0 +1,20 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 집계 테이블 초기 채우기의 품목 id 구간
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupBackfillPartition {
+    private Long fromItemId;
+    private Long toItemId;
+    private LocalDateTime cutoff;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,24 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 아웃박스에서 읽어 구독자에게 전달하는 재고 변동 이벤트
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockChangeEvent {
+    private Long transactionId;
+    private Long itemId;
+    private Long fromLocationId;
+    private Long toLocationId;
+    private TransactionType type;
+    private int quantity;
+    private LocalDateTime transactionDate;
+    private LocalDateTime createdAt;
+    private Long seq;
+}
@@ -0,0 +1,11 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.Data;
+
+@Data
+public class StockLineRequest {
+    private Long itemId;
+    private Long locationId;   // 입고 위치 또는 출고 위치 ID
+    private int quantity;
+    private String notes;
+}
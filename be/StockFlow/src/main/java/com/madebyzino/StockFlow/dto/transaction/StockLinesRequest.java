@@ -0,0 +1,10 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class StockLinesRequest {
+    private List<StockLineRequest> lines;  // 입고 전표 / 출고 전표의 품목 라인
+}
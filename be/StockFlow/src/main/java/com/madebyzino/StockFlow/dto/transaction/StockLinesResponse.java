@@ -0,0 +1,16 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class StockLinesResponse {
+    private final TransactionType type;
+    private final int lineCount;
+    private final long totalQuantity;
+    private final List<Long> transactionIds;  // 라인 순서대로 생성된 이력 ID
+}
@@ -0,0 +1,23 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 시간 구간 / 품목 / 센터 / 유형별 건수와 수량의 증감 (bucket 은 시 단위, 일별 집계에는 날짜만 사용)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionRollupDelta {
+    private LocalDateTime bucket;
+    private Long itemId;
+    private String centerName;
+    private TransactionType type;
+    private long transactionCount;
+    private long totalQuantity;
+}
@@ -0,0 +1,17 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 기간 집계의 묶음 기준 (column / alias 는 매퍼의 SELECT / GROUP BY 에 그대로 들어감)
+@Getter
+@RequiredArgsConstructor
+public enum TransactionRollupGroupBy {
+    DAY("r.bucket_date", "day"),
+    TYPE("r.type", "type"),
+    CENTER("r.center_name", "centerName"),
+    ITEM("r.item_id", "itemId");
+
+    private final String column;
+    private final String alias;
+}
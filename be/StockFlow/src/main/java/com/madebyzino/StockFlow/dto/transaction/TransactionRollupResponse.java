@@ -0,0 +1,20 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 기간 집계 결과 (from / to 는 시 단위로 맞춘 실제 집계 구간 [from, to))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionRollupResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<TransactionRollupRow> rows;
+}
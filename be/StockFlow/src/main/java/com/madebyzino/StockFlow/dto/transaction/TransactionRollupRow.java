@@ -0,0 +1,21 @@
+package com.madebyzino.StockFlow.dto.transaction;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 기간 집계 결과 한 행 (groupBy 에 없는 항목은 null)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransactionRollupRow {
+    private LocalDate day;
+    private TransactionType type;
+    private String centerName;
+    private Long itemId;
+    private long transactionCount;
+    private long totalQuantity;
+}
@@ -1,11 +1,20 @@
 package com.madebyzino.StockFlow.entity;
 
+import com.madebyzino.StockFlow.config.EntityCacheConfig;
 import com.madebyzino.StockFlow.entity.user.BaseEntity;
+import com.madebyzino.StockFlow.repository.EntityCacheEvictionListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@EntityListeners(EntityCacheEvictionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.CATEGORY_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,42 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 누적 합계 (관리 품목 수, 총 재고 수량, 자산 가치, 활성 / 사용 중 위치 수).
+ * 재고 변동 트랜잭션마다 한 행을 갱신하면 잠금 경합이 생기므로 slot 여러 행에 나눠 더하고, 조회 시 모든 slot 을 합산한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "dashboard_totals")
+public class DashboardTotals {
+
+    @Id
+    private Integer slot;
+
+    @Column(nullable = false)
+    private long itemCount;
+
+    @Column(nullable = false)
+    private long totalQuantity;
+
+    // 수량 x 단가
+    @Column(nullable = false)
+    private long assetValue;
+
+    @Column(nullable = false)
+    private long activeLocations;
+
+    // 재고가 있는 활성 위치 수
+    @Column(nullable = false)
+    private long occupiedLocations;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
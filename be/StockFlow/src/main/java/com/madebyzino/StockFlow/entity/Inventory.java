@@ -12,6 +12,11 @@ import lombok.*;
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"item_id", "location_id"})
+        },
+        indexes = {
+                // 재고 현황 수량 / 품목 정렬 (InnoDB 보조 인덱스는 PK 를 포함하므로 (quantity, id), (item_id, id) 순서)
+                @Index(name = "idx_inventory_quantity", columnList = "quantity"),
+                @Index(name = "idx_inventory_item_id", columnList = "item_id")
         }
 )
 public class Inventory extends BaseEntity {
@@ -28,6 +33,11 @@ public class Inventory extends BaseEntity {
     @Column(nullable = false)
     private int quantity;
 
+    // 낙관적 락 전략에서 사용하는 버전 (조건부 UPDATE 경로에서도 함께 증가시킨다)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public void addStock(int count) {
         if (count < 0) {
             throw new IllegalArgumentException("추가 수량은 0 이상이어야 합니다.");
@@ -0,0 +1,36 @@
+package com.madebyzino.StockFlow.entity;
+
+import com.madebyzino.StockFlow.entity.user.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 품목/위치별 재고 스냅샷. snapshotAt 시점까지의 원장(Transaction)을 접어 둔 수량으로, 이후 원장만 재생하면 현재 수량이 된다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "inventory_snapshot",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"item_id", "location_id"})
+        }
+)
+public class InventorySnapshot extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id", nullable = false)
+    private Location location;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private LocalDateTime snapshotAt;
+}
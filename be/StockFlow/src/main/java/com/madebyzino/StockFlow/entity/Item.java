@@ -1,21 +1,40 @@
 package com.madebyzino.StockFlow.entity;
 
+import com.madebyzino.StockFlow.config.EntityCacheConfig;
 import com.madebyzino.StockFlow.entity.user.BaseEntity;
+import com.madebyzino.StockFlow.repository.EntityCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Cacheable
+@EntityListeners(EntityCacheEvictionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.ITEM_REGION)
+@NaturalIdCache(region = EntityCacheConfig.ITEM_NATURAL_ID_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(
+        indexes = {
+                // 이름 / 가격 정렬 (InnoDB 보조 인덱스는 PK 를 포함하므로 (컬럼, id) 순서)
+                @Index(name = "idx_item_name", columnList = "name"),
+                @Index(name = "idx_item_price", columnList = "price")
+        }
+)
 public class Item extends BaseEntity {
 
     @Column(nullable = false, length = 100)
     private String name;
 
+    // 자연 키 (유니크 제약 포함, 카테고리 변경 시 다시 생성됨)
     @Setter
-    @Column(nullable = false, unique = true, length = 50)
+    @NaturalId(mutable = true)
+    @Column(nullable = false, length = 50)
     private String sku;
 
     @Column(nullable = false)
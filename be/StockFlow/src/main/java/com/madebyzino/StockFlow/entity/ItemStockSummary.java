@@ -0,0 +1,35 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 품목별 재고 합계 (재고 변동과 같은 트랜잭션에서 증감 반영, 품목 검색 / 최소 수량 필터가 집계 없이 조회)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "item_stock_summary",
+        indexes = {
+                @Index(name = "idx_item_stock_summary_quantity", columnList = "totalQuantity")
+        }
+)
+public class ItemStockSummary {
+
+    // 품목 id 를 그대로 사용 (품목당 한 행)
+    @Id
+    private Long itemId;
+
+    @Column(nullable = false)
+    private long totalQuantity;
+
+    // 수량이 0 보다 큰 위치 수
+    @Column(nullable = false)
+    private int locationCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
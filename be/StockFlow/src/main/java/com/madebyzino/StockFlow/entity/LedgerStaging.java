@@ -0,0 +1,34 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 쓰기 지연 모드에서 요청 트랜잭션이 남기는 이력 묶음 (재고 변경과 함께 커밋되고, 원장에 저장된 트랜잭션에서 삭제된다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "ledger_staging",
+        indexes = {
+                @Index(name = "idx_ledger_staging_created", columnList = "createdAt")
+        }
+)
+public class LedgerStaging {
+
+    // 묶음의 첫 원장 id 를 그대로 사용
+    @Id
+    private Long id;
+
+    // LedgerEntry 목록 (JSON 배열)
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String entries;
+
+    // DB 기록 시각 (NOW(6)), 복구 대상 판단 기준
+    @Column(nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+}
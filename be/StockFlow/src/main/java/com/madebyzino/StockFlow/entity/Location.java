@@ -1,13 +1,25 @@
 package com.madebyzino.StockFlow.entity;
 
+import com.madebyzino.StockFlow.config.EntityCacheConfig;
 import com.madebyzino.StockFlow.entity.user.BaseEntity;
+import com.madebyzino.StockFlow.repository.EntityCacheEvictionListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Cacheable
+@EntityListeners(EntityCacheEvictionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.LOCATION_REGION)
+@NaturalIdCache(region = EntityCacheConfig.LOCATION_NATURAL_ID_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -25,7 +37,9 @@ public class Location extends BaseEntity {
     @Column(nullable = false, length = 30)
     private String zone;
 
-    @Column(nullable = false, length = 30, unique = true)
+    // 자연 키 (유니크 제약 포함, 위치 수정으로 바뀔 수 있음)
+    @NaturalId(mutable = true)
+    @Column(nullable = false, length = 30)
     private String binCode;
 
     @Column(nullable = false)
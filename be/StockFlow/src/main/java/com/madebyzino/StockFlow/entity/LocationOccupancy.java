@@ -0,0 +1,30 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 위치별 재고 보유 품목 수와 활성 여부 (0 을 넘나들 때 대시보드의 사용 중 위치 수를 증감)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "location_occupancy")
+public class LocationOccupancy {
+
+    // 위치 id 를 그대로 사용 (위치당 한 행)
+    @Id
+    private Long locationId;
+
+    // 수량이 0 보다 큰 품목 수
+    @Column(nullable = false)
+    private int itemCount;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 아웃박스 전달 순번의 마지막 값. 이 행을 잠근 인스턴스 하나만 커밋된 이벤트에 순번을 매긴다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "outbox_sequence")
+public class OutboxSequence {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastSeq;
+
+    private LocalDateTime updatedAt;
+
+    public static OutboxSequence start(String name) {
+        return OutboxSequence.builder()
+                .name(name)
+                .lastSeq(0)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // count 개의 순번을 예약하고 첫 순번을 반환
+    public long reserve(int count) {
+        long first = lastSeq + 1;
+        this.lastSeq += count;
+        this.updatedAt = LocalDateTime.now();
+        return first;
+    }
+}
@@ -0,0 +1,38 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 구독자별로 마지막으로 처리한 아웃박스 위치
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "outbox_subscriber_offset")
+public class OutboxSubscriberOffset {
+
+    @Id
+    @Column(length = 100)
+    private String subscriber;
+
+    // 마지막으로 처리한 이벤트의 전달 순번 (StockOutboxEvent.seq)
+    @Column(nullable = false)
+    private long lastSeq;
+
+    private LocalDateTime updatedAt;
+
+    public static OutboxSubscriberOffset start(String subscriber) {
+        return OutboxSubscriberOffset.builder()
+                .subscriber(subscriber)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void advance(long seq) {
+        this.lastSeq = seq;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
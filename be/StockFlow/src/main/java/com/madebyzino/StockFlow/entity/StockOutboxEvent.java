@@ -0,0 +1,51 @@
+package com.madebyzino.StockFlow.entity;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 재고 변동 아웃박스. Transaction 과 같은 트랜잭션에서 기록되고, 커밋 후 OutboxDispatcher 가 매긴 전달 순번(seq) 순으로 구독자에게 전달한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "stock_outbox",
+        indexes = {
+                @Index(name = "idx_stock_outbox_created", columnList = "createdAt, transactionId"),
+                @Index(name = "uk_stock_outbox_seq", columnList = "seq", unique = true)
+        }
+)
+public class StockOutboxEvent {
+
+    // 원장 id 를 그대로 사용 (스테이징 복구 등으로 같은 이력이 다시 기록되어도 한 번만 남는다)
+    @Id
+    private Long transactionId;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    private Long fromLocationId;
+
+    private Long toLocationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private LocalDateTime transactionDate;
+
+    // DB 기록 시각 (NOW(6)), 보관 기간 기준
+    @Column(nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    // 전달 순번. 기록 시에는 비어 있고, 커밋되어 보이게 된 뒤 순서대로 매겨진다 (null 이면 아직 전달 전)
+    private Long seq;
+}
@@ -11,6 +11,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+// 원장은 transaction_date 월 파티션으로 관리되며 (LedgerPartitionManager), 파티션 테이블에는 외래 키를 둘 수 없다
+@Table(
+        indexes = {
+                // 원장 재생 시 품목 구간 + 스냅샷 이후 이력 조회
+                @Index(name = "idx_transaction_item_date", columnList = "item_id, transactionDate"),
+                // 이력 조회 커서 모드의 (transaction_date, id) 키셋
+                @Index(name = "idx_transaction_date_id", columnList = "transactionDate, id")
+        }
+)
 public class Transaction extends BaseEntity {
 
     public enum TransactionType {
@@ -21,15 +30,15 @@ public class Transaction extends BaseEntity {
     }
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "item_id", nullable = false)
+    @JoinColumn(name = "item_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Item item;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "from_location_id")
+    @JoinColumn(name = "from_location_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Location fromLocation;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "to_location_id")
+    @JoinColumn(name = "to_location_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Location toLocation;
 
     // Transaction Details
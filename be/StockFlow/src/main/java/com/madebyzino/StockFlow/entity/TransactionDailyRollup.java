@@ -0,0 +1,59 @@
+package com.madebyzino.StockFlow.entity;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 일자 / 품목 / 센터 / 유형별 재고 변동 건수와 수량 (시간별 집계와 같은 이벤트로 누적, 하루 이상 구간 집계용)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(TransactionDailyRollup.Key.class)
+@Table(
+        name = "transaction_rollup_daily",
+        indexes = {
+                @Index(name = "idx_rollup_daily_item", columnList = "itemId, bucketDate"),
+                @Index(name = "idx_rollup_daily_center", columnList = "centerName, bucketDate")
+        }
+)
+public class TransactionDailyRollup {
+
+    @Id
+    private LocalDate bucketDate;
+
+    @Id
+    private Long itemId;
+
+    // 출고는 출발지, 나머지는 도착지 위치의 센터
+    @Id
+    @Column(length = 50)
+    private String centerName;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private long transactionCount;
+
+    // 조정은 부호 있는 수량의 합
+    @Column(nullable = false)
+    private long totalQuantity;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate bucketDate;
+        private Long itemId;
+        private String centerName;
+        private TransactionType type;
+    }
+}
@@ -0,0 +1,60 @@
+package com.madebyzino.StockFlow.entity;
+
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 1시간 / 품목 / 센터 / 유형별 재고 변동 건수와 수량 (아웃박스 구독으로 누적, 기간 집계용)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(TransactionHourlyRollup.Key.class)
+@Table(
+        name = "transaction_rollup_hourly",
+        indexes = {
+                @Index(name = "idx_rollup_hourly_item", columnList = "itemId, bucketStart"),
+                @Index(name = "idx_rollup_hourly_center", columnList = "centerName, bucketStart")
+        }
+)
+public class TransactionHourlyRollup {
+
+    // 거래 시각을 시 단위로 내린 값
+    @Id
+    private LocalDateTime bucketStart;
+
+    @Id
+    private Long itemId;
+
+    // 출고는 출발지, 나머지는 도착지 위치의 센터
+    @Id
+    @Column(length = 50)
+    private String centerName;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private long transactionCount;
+
+    // 조정은 부호 있는 수량의 합
+    @Column(nullable = false)
+    private long totalQuantity;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDateTime bucketStart;
+        private Long itemId;
+        private String centerName;
+        private TransactionType type;
+    }
+}
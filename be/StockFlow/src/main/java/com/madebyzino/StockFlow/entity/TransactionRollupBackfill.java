@@ -0,0 +1,28 @@
+package com.madebyzino.StockFlow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 집계 테이블 초기 채우기의 품목 id 구간별 진행 상태 (구간마다 집계 반영과 완료 표시를 한 트랜잭션으로 처리)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "transaction_rollup_backfill")
+public class TransactionRollupBackfill {
+
+    @Id
+    private Long fromItemId;
+
+    @Column(nullable = false)
+    private Long toItemId;
+
+    // 이 시각 이전에 기록되고 아웃박스에 없는 이력만 채움 (이후 이력은 구독자가 반영)
+    @Column(nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime cutoff;
+
+    private LocalDateTime completedAt;
+}
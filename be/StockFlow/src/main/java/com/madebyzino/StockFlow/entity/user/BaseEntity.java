@@ -16,8 +16,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public abstract class BaseEntity {
 
+    // IDENTITY 는 Hibernate 의 INSERT 배치를 비활성화하므로 엔티티별 pooled 시퀀스 테이블(xxx_seq)로 id 를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
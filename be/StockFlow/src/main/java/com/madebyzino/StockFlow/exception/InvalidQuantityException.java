@@ -0,0 +1,9 @@
+package com.madebyzino.StockFlow.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidQuantityException extends IllegalArgumentException {
+    public InvalidQuantityException(String message, Throwable cause) { super(message, cause); }
+}
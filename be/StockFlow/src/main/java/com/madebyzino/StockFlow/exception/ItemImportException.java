@@ -0,0 +1,7 @@
+package com.madebyzino.StockFlow.exception;
+
+public class ItemImportException extends RuntimeException {
+    public ItemImportException(String message) { super(message); }
+
+    public ItemImportException(String message, Throwable cause) { super(message, cause); }
+}
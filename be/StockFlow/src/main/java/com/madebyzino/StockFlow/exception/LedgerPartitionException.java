@@ -0,0 +1,9 @@
+package com.madebyzino.StockFlow.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class LedgerPartitionException extends RuntimeException {
+    public LedgerPartitionException(String message) { super(message); }
+}
@@ -0,0 +1,244 @@
+package com.madebyzino.StockFlow.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고를 변경하는 POST 요청에 Idempotency-Key 헤더가 있으면 최초 응답을 저장해 두고,
+ * 같은 키로 다시 들어온 요청에는 서비스 로직을 실행하지 않고 저장된 응답을 그대로 돌려준다.
+ * 키는 사용자 + 요청 경로 단위로 구분하며, 헤더가 없는 요청은 기존대로 처리한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final List<String> pathPatterns;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${stockflow.idempotency.paths:/api/inventory/move,/api/inventory/move/batch,/api/inventory/adjust,/api/transactions/inbound,/api/transactions/outbound}")
+            List<String> pathPatterns
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.pathPatterns = pathPatterns;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            sendErrorResponse(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " 헤더는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return;
+        }
+
+        // 1. 본문을 미리 읽어 두고 해시 계산 (같은 키로 다른 요청을 보내는 경우를 구분)
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest.body);
+        String key = scope(request) + ":" + request.getRequestURI() + ":" + idempotencyKey;
+
+        // 2. 키 선점 시도 (Redis 장애 시에는 멱등성 검사 없이 처리)
+        IdempotencyStore.Entry existing;
+        try {
+            existing = idempotencyStore.tryAcquire(key, fingerprint);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 저장소에 접근할 수 없어 검사 없이 처리합니다. key={}", idempotencyKey, e);
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        // 3. 이미 처리 중이거나 처리된 키
+        if (!existing.isAcquired()) {
+            if (!fingerprint.equals(existing.fingerprint())) {
+                sendErrorResponse(response, HttpStatus.UNPROCESSABLE_CONTENT,
+                        "같은 " + HEADER + " 로 다른 요청이 이미 처리되었습니다.");
+            } else if (existing.isInProgress()) {
+                sendErrorResponse(response, HttpStatus.CONFLICT, "같은 요청이 아직 처리 중입니다.");
+            } else {
+                replay(response, existing.response());
+            }
+            return;
+        }
+
+        // 4. 최초 요청 처리 후 성공 응답만 저장하고, 4xx 로 거절된 요청만 키를 풀어 재시도 허용
+        //    5xx / 예외 / 응답 저장 실패는 반영 여부를 알 수 없으므로 표식을 남겨 둠 (in-progress-ttl 동안 재실행 차단)
+        IdempotencyStore.Lease lease = existing.lease();
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean settled = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+
+            int status = cachingResponse.getStatus();
+            if (status >= 200 && status < 300) {
+                settled = true;
+                if (!idempotencyStore.complete(lease, new StoredResponse(
+                        fingerprint, status, cachingResponse.getContentType(), cachingResponse.getContentAsByteArray()))) {
+                    log.warn("Idempotency 처리 중 표식이 만료되어 응답을 저장하지 못했습니다. key={}", idempotencyKey);
+                }
+            } else if (status >= 400 && status < 500) {
+                settled = true;
+                idempotencyStore.release(lease);
+            }
+        } catch (DataAccessException e) {
+            log.error("Idempotency 응답 저장 / 키 해제 실패, 처리 중 표식은 만료될 때까지 남습니다. key={}", idempotencyKey, e);
+        } finally {
+            if (!settled) {
+                idempotencyStore.abandon(lease);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getBody() != null && stored.getBody().length > 0) {
+            response.getOutputStream().write(stored.getBody());
+        }
+    }
+
+    // 사용자별로 키 공간을 분리 (다른 사용자의 응답이 재전송되지 않도록)
+    private String scope(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+        return "anonymous:" + request.getRemoteAddr();
+    }
+
+    private String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        body.put("timestamp", LocalDateTime.now().toString());
+
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    // 본문을 해시 계산과 컨트롤러 바인딩에서 모두 읽을 수 있도록 메모리에 보관
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문을 모두 메모리에 읽어 두었으므로 바로 읽기 완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
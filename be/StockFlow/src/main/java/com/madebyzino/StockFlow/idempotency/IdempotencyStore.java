@@ -0,0 +1,155 @@
+package com.madebyzino.StockFlow.idempotency;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 상태 저장소 (Redis).
+ * 최초 요청은 SET NX 로 "처리 중" 표식을 원자적으로 선점하고, 처리가 끝나면 응답으로 덮어쓴다.
+ * 표식에는 요청별 토큰이 들어 있어, 완료 / 해제 / 연장은 표식이 아직 그 요청의 것일 때만 반영된다 (Lua 비교 후 변경).
+ * 처리 중에는 in-progress-ttl 의 1/3 마다 표식을 연장하므로 오래 걸리는 요청도 도중에 표식이 만료되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+
+    // 표식이 ARGV[1] 과 같을 때만 응답으로 덮어씀
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0", Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+    private static final RedisScript<Long> EXTEND = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 처리 중 표식 유지 시간 (처리 중에는 계속 연장되고, 서버가 죽으면 이 시간이 지나 다시 시도 가능)
+    @Value("${stockflow.idempotency.in-progress-ttl:30s}")
+    private Duration inProgressTtl;
+
+    // 완료된 응답 보관 시간
+    @Value("${stockflow.idempotency.response-ttl:24h}")
+    private Duration responseTtl;
+
+    // 키를 선점하면 Lease 를 담은 Entry, 이미 있으면 기존 상태를 반환
+    public Entry tryAcquire(String key, String fingerprint) {
+        String redisKey = KEY_PREFIX + key;
+        String marker = IN_PROGRESS_PREFIX + UUID.randomUUID() + ":" + fingerprint;
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, marker, inProgressTtl);
+        if (Boolean.TRUE.equals(acquired)) {
+            return Entry.acquired(fingerprint, startRenewal(redisKey, marker));
+        }
+
+        String value = redisTemplate.opsForValue().get(redisKey);
+        if (value == null) {
+            // 조회 사이에 만료된 경우 한 번 더 선점 시도
+            acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, marker, inProgressTtl);
+            return Boolean.TRUE.equals(acquired)
+                    ? Entry.acquired(fingerprint, startRenewal(redisKey, marker))
+                    : Entry.inProgress(fingerprint);
+        }
+        if (value.startsWith(IN_PROGRESS_PREFIX)) {
+            // IN_PROGRESS:<토큰>:<본문 해시>
+            return Entry.inProgress(value.substring(value.lastIndexOf(':') + 1));
+        }
+        return Entry.completed(objectMapper.readValue(value, StoredResponse.class));
+    }
+
+    // 표식이 아직 이 요청의 것이면 응답으로 덮어쓰고 true (만료되어 다른 요청이 선점했으면 false)
+    public boolean complete(Lease lease, StoredResponse response) {
+        lease.stopRenewal();
+        Long updated = redisTemplate.execute(COMPLETE, List.of(lease.redisKey()), lease.marker(),
+                objectMapper.writeValueAsString(response), String.valueOf(responseTtl.toMillis()));
+        return updated != null && updated == 1;
+    }
+
+    // 요청이 반영되지 않았을 때 같은 키로 다시 시도할 수 있도록 표식 제거 (이 요청의 표식일 때만)
+    public void release(Lease lease) {
+        lease.stopRenewal();
+        redisTemplate.execute(RELEASE, List.of(lease.redisKey()), lease.marker());
+    }
+
+    // 완료도 해제도 하지 않고 연장만 멈춤 (표식은 in-progress-ttl 이 지나면 만료)
+    public void abandon(Lease lease) {
+        lease.stopRenewal();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private Lease startRenewal(String redisKey, String marker) {
+        long periodMs = Math.max(inProgressTtl.toMillis() / 3, 1);
+        String ttlMs = String.valueOf(inProgressTtl.toMillis());
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> {
+            try {
+                redisTemplate.execute(EXTEND, List.of(redisKey), marker, ttlMs);
+            } catch (DataAccessException e) {
+                log.warn("Idempotency 처리 중 표식 연장 실패. key={}", redisKey, e);
+            }
+        }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        return new Lease(redisKey, marker, renewal);
+    }
+
+    // 선점한 처리 중 표식 (토큰이 포함된 값과 연장 작업)
+    public record Lease(String redisKey, String marker, ScheduledFuture<?> renewal) {
+
+        void stopRenewal() {
+            renewal.cancel(false);
+        }
+    }
+
+    public record Entry(String fingerprint, StoredResponse response, Lease lease) {
+
+        static Entry acquired(String fingerprint, Lease lease) {
+            return new Entry(fingerprint, null, lease);
+        }
+
+        static Entry inProgress(String fingerprint) {
+            return new Entry(fingerprint, null, null);
+        }
+
+        static Entry completed(StoredResponse response) {
+            return new Entry(response.getFingerprint(), response, null);
+        }
+
+        // 이 요청이 키를 선점함
+        public boolean isAcquired() {
+            return lease != null;
+        }
+
+        public boolean isInProgress() {
+            return lease == null && response == null;
+        }
+    }
+}
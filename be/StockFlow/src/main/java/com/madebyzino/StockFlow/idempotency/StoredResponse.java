@@ -0,0 +1,17 @@
+package com.madebyzino.StockFlow.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Idempotency-Key 로 저장해 두는 최초 응답 (재요청 시 그대로 재전송)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredResponse {
+
+    private String fingerprint;  // 요청 본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+    private int status;
+    private String contentType;
+    private byte[] body;
+}
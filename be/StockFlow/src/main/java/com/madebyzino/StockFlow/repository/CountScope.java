@@ -0,0 +1,18 @@
+package com.madebyzino.StockFlow.repository;
+
+// 건수 캐시 구분 단위. table 은 조건 없는 목록의 건수를 추정할 기준 테이블
+public enum CountScope {
+    INVENTORY("inventory"),
+    ITEM("item"),
+    TRANSACTION("transaction");
+
+    private final String table;
+
+    CountScope(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+}
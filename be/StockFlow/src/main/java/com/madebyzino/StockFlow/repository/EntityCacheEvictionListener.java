@@ -0,0 +1,86 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.madebyzino.StockFlow.entity.user.BaseEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 2차 캐시 대상 엔티티가 수정 / 삭제되면 커밋 후 다른 인스턴스에 알려 해당 캐시 항목을 지우게 한다.
+ * 자기 인스턴스의 캐시는 Hibernate 가 직접 갱신하므로 보낸 메시지는 무시한다.
+ * Redis 장애 시에는 캐시 만료 시간(stockflow.entity-cache.ttl)까지 다른 인스턴스의 캐시가 남을 수 있다.
+ */
+@Slf4j
+@Component
+public class EntityCacheEvictionListener implements MessageListener {
+
+    public static final String CHANNEL = "stockflow:entity-cache-evict";
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    // 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로 지연 조회
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public EntityCacheEvictionListener(StringRedisTemplate redisTemplate,
+                                       ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.redisTemplate = redisTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(BaseEntity entity) {
+        String message = INSTANCE_ID + "|" + Hibernate.getClass(entity).getName() + "|" + entity.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(message);
+                }
+            });
+            return;
+        }
+        publish(message);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3 || INSTANCE_ID.equals(parts[0])) {
+            return;
+        }
+
+        org.hibernate.Cache cache = entityManagerFactory.getObject().unwrap(SessionFactory.class).getCache();
+        try {
+            String entityName = parts[1];
+            cache.evictEntityData(entityName, Long.valueOf(parts[2]));
+            // 자연 키는 이전 값을 알 수 없으므로 해당 엔티티의 자연 키 캐시 전체를 비움 (수정이 드물어 부담이 적음)
+            cache.evictNaturalIdData(entityName);
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 메시지 처리 실패. message={}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 메시지 발행 실패. 다른 인스턴스는 만료 시간까지 이전 값을 사용할 수 있습니다. message={}", message, e);
+        }
+    }
+}
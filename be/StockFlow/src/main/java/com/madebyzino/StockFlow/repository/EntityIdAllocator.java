@@ -0,0 +1,28 @@
+package com.madebyzino.StockFlow.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis 등 JPA 를 거치지 않는 INSERT 에서 쓸 id 를 엔티티에 설정된 Hibernate 생성기로 할당한다.
+ * pooled 생성기를 공유하므로 JPA 로 저장되는 행과 id 가 겹치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityIdAllocator {
+
+    private final EntityManager entityManager;
+
+    public Long nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+
+        return ((Number) generator.generate(session, null)).longValue();
+    }
+}
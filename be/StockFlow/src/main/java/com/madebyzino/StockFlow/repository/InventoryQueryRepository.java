@@ -1,37 +1,53 @@
 package com.madebyzino.StockFlow.repository;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.inventory.InventorySearchCondition;
+import com.madebyzino.StockFlow.dto.inventory.InventorySort;
 import com.madebyzino.StockFlow.dto.inventory.InventorySummaryResponse;
 import com.madebyzino.StockFlow.repository.mapper.InventoryMapper;
+import com.madebyzino.StockFlow.repository.mapper.KeysetQuery;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class InventoryQueryRepository {
     private final InventoryMapper inventoryMapper;
+    private final SearchCounter searchCounter;
+    private final ItemSearchIndex itemSearchIndex;
 
-    public Page<InventorySummaryResponse> searchInventoryStatus(InventorySearchCondition condition, Pageable pageable) {
+    public Slice<InventorySummaryResponse> searchInventoryStatus(InventorySearchCondition condition, Pageable pageable,
+                                                                 CountMode countMode) {
 
-        List<InventorySummaryResponse> content = inventoryMapper.searchInventory(
-                condition,
-                pageable.getPageSize(),
-                pageable.getOffset()
-        );
+        // 요청 정렬 중 첫 번째 기준만 사용 (없으면 itemId 오름차순)
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc(InventorySort.ITEM_ID.property()));
+        InventorySort sort = InventorySort.from(order.getProperty());
+        Collection<Long> itemIds = itemSearchIndex.findItemIds(condition.getName(), condition.getSku());
 
-        long total;
+        return searchCounter.page(CountScope.INVENTORY, countMode, condition, pageable,
+                limit -> inventoryMapper.searchInventory(condition, itemIds, KeysetQuery.offset(
+                        sort, InventorySort.TIE_COLUMN, order.isDescending(), limit, pageable.getOffset())),
+                () -> inventoryMapper.countInventory(condition, itemIds));
+    }
+
+    // 커서 모드: 정렬 값 + inv.id 키셋으로 다음 페이지를 읽으므로 페이지 깊이와 무관하게 비용이 같다 (inventory 컬럼 정렬만 허용)
+    public CursorPage<InventorySummaryResponse> searchInventoryStatusByCursor(InventorySearchCondition condition,
+                                                                            InventorySort sort, boolean descending,
+                                                                            String cursor, int size) {
+        KeysetQuery page = KeysetQuery.cursor(sort, InventorySort.TIE_COLUMN, descending, cursor, size + 1);
+
+        Collection<Long> itemIds = itemSearchIndex.findItemIds(condition.getName(), condition.getSku());
 
-        if (content.size() < pageable.getPageSize() && pageable.getOffset() == 0) {
-            total = content.size();
-        } else {
-            total = inventoryMapper.countInventory(condition);
-        }
+        List<InventorySummaryResponse> fetched = inventoryMapper.searchInventory(condition, itemIds, page);
 
-        return new PageImpl<>(content, pageable, total);
+        return CursorPage.of(fetched, size,
+                last -> KeysetQuery.nextCursor(sort, last, InventorySummaryResponse::getInventoryId));
     }
 }
\ No newline at end of file
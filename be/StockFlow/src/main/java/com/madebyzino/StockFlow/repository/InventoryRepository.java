@@ -3,11 +3,16 @@ package com.madebyzino.StockFlow.repository;
 import com.madebyzino.StockFlow.entity.Inventory;
 import com.madebyzino.StockFlow.entity.Item;
 import com.madebyzino.StockFlow.entity.Location;
-import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +24,17 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     Long countTotalQuantityByItemId(@Param("itemId") Long itemId);
 
     Optional<Inventory> findByItemAndLocation(Item item, Location location);
+
+    // 일괄 이동용: 품목 ID, 위치 ID 조합에 해당하는 재고를 한 번에 조회
+    @Query("SELECT inv FROM Inventory inv WHERE inv.item.id IN :itemIds AND inv.location.id IN :locationIds")
+    List<Inventory> findByItemIdsAndLocationIds(@Param("itemIds") Collection<Long> itemIds,
+                                                @Param("locationIds") Collection<Long> locationIds);
+
+    // 재고 수량을 단일 UPDATE로 증감 (결과가 음수가 되는 경우 반영되지 않고 0을 반환)
+    // 영향 테이블을 지정하지 않은 네이티브 UPDATE 는 2차 캐시 전체를 비우므로 inventory 로 한정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inventory"))
+    @Query(value = "UPDATE inventory SET quantity = quantity + :delta, version = version + 1, updated_at = NOW(6) " +
+            "WHERE id = :id AND quantity + :delta >= 0", nativeQuery = true)
+    int addQuantity(@Param("id") Long id, @Param("delta") int delta);
 }
\ No newline at end of file
@@ -1,36 +1,52 @@
 package com.madebyzino.StockFlow.repository;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.item.ItemSearchCondition;
+import com.madebyzino.StockFlow.dto.item.ItemSort;
 import com.madebyzino.StockFlow.dto.item.ItemSummaryResponse;
 import com.madebyzino.StockFlow.repository.mapper.ItemMapper;
+import com.madebyzino.StockFlow.repository.mapper.KeysetQuery;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class ItemQueryRepository {
     private final ItemMapper itemMapper;
+    private final SearchCounter searchCounter;
+    private final ItemSearchIndex itemSearchIndex;
 
-    public Page<ItemSummaryResponse> searchItemsWithInventory(ItemSearchCondition condition, Pageable pageable) {
+    public Slice<ItemSummaryResponse> searchItemsWithInventory(ItemSearchCondition condition, Pageable pageable,
+                                                               CountMode countMode) {
 
-        List<ItemSummaryResponse> content = itemMapper.searchItems(
-                condition,
-                pageable.getPageSize(),
-                pageable.getOffset()
-        );
+        // 요청 정렬 중 첫 번째 기준만 사용 (없으면 기존과 같이 id 내림차순)
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.desc(ItemSort.ITEM_ID.property()));
+        ItemSort sort = ItemSort.from(order.getProperty());
+        Collection<Long> itemIds = itemSearchIndex.findItemIds(condition.getName(), condition.getSku());
 
-        long total;
-        if (content.size() < pageable.getPageSize() && pageable.getOffset() == 0) {
-            total = content.size();
-        } else {
-            total = itemMapper.countItems(condition);
-        }
+        return searchCounter.page(CountScope.ITEM, countMode, condition, pageable,
+                limit -> itemMapper.searchItems(condition, itemIds, KeysetQuery.offset(
+                        sort, ItemSort.TIE_COLUMN, order.isDescending(), limit, pageable.getOffset())),
+                () -> itemMapper.countItems(condition, itemIds));
+    }
+
+    public CursorPage<ItemSummaryResponse> searchItemsByCursor(ItemSearchCondition condition,
+                                                               ItemSort sort, boolean descending,
+                                                               String cursor, int size) {
+        KeysetQuery page = KeysetQuery.cursor(sort, ItemSort.TIE_COLUMN, descending, cursor, size + 1);
+
+        Collection<Long> itemIds = itemSearchIndex.findItemIds(condition.getName(), condition.getSku());
+
+        List<ItemSummaryResponse> fetched = itemMapper.searchItems(condition, itemIds, page);
 
-        return new PageImpl<>(content, pageable, total);
+        return CursorPage.of(fetched, size,
+                last -> KeysetQuery.nextCursor(sort, last, ItemSummaryResponse::getItemId));
     }
 }
\ No newline at end of file
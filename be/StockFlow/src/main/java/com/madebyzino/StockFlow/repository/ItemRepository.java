@@ -1,9 +1,34 @@
 package com.madebyzino.StockFlow.repository;
 
 import com.madebyzino.StockFlow.entity.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
-}
\ No newline at end of file
+
+    boolean existsBySku(String sku);
+
+    // 전체 SKU 를 한 행씩 읽음 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT i.sku FROM Item i")
+    Stream<String> streamAllSkus();
+
+    // 검색 색인 구성용 (id, name, sku) 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT i.id, i.name, i.sku FROM Item i")
+    Stream<Object[]> streamSearchText();
+
+    // 다른 인스턴스에서 변경된 품목의 검색 색인 반영용 (2차 캐시를 거치지 않고 DB 에서 읽음)
+    @Query("SELECT i.id, i.name, i.sku FROM Item i WHERE i.id IN :ids")
+    List<Object[]> findSearchTextByIds(@Param("ids") Collection<Long> ids);
+}
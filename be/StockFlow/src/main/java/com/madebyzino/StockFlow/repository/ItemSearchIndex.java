@@ -0,0 +1,342 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.util.NGramIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 품목 이름 / SKU 부분 일치 검색용 메모리 n-gram 색인.
+ * 검색 시 조건에 맞는 item id 후보를 먼저 구해 IN 조건으로 넘기므로 LIKE '%..%' 전체 스캔을 피한다.
+ * 후보는 item 테이블이 기본 collation(utf8mb4_0900_ai_ci)이라고 가정하고 구한다 (NGramIndex 참고). 다른 collation 이면 색인을 끈다.
+ * 등록 / 수정 / 삭제는 커밋 후 바로 반영하고, 변경된 item id 를 pub/sub 으로 알려 다른 인스턴스도 DB 에서 다시 읽어 반영한다.
+ * 재구성은 백그라운드에서 새 색인을 만든 뒤 그동안의 변경을 다시 적용하고 교체하므로 검색은 멈추지 않는다.
+ * Redis 장애로 알림이 유실되면 다른 인스턴스는 다음 주기적 재구성(rebuild-cron)까지 해당 품목을 검색하지 못할 수 있다.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex implements MessageListener {
+
+    public static final String CHANNEL = "stockflow:item-search-index";
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+    // 일괄 등록 시 메시지 하나와 IN 조건이 너무 커지지 않도록 나눠 발행
+    private static final int IDS_PER_MESSAGE = 1000;
+
+    // 한글 품목명은 짧은 경우가 많아 2글자, SKU 는 카테고리 코드 + 숫자라 3글자 단위로 색인
+    private static final int NAME_GRAM_SIZE = 2;
+    private static final int SKU_GRAM_SIZE = 3;
+
+    private final ItemRepository itemRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ExecutorService rebuildExecutor;
+    private final boolean enabled;
+    private final int maxCandidates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // lock 으로 보호
+    private NGramIndex names = new NGramIndex(NAME_GRAM_SIZE);
+    private NGramIndex skus = new NGramIndex(SKU_GRAM_SIZE);
+    private boolean ready;
+    private List<Mutation> pendingDuringRebuild;
+
+    public ItemSearchIndex(
+            ItemRepository itemRepository,
+            StringRedisTemplate redisTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${stockflow.item-search-index.enabled:true}") boolean enabled,
+            @Value("${stockflow.item-search-index.max-candidates:5000}") int maxCandidates
+    ) {
+        this.itemRepository = itemRepository;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "item-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("stockflow.item.search.index.size", this, ItemSearchIndex::size)
+                .description("n-gram 색인에 올라간 품목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이름 / SKU 조건을 모두 만족하는 item id (오름차순).
+     * 조건이 없거나, 색인이 준비되지 않았거나, 검색어가 너무 짧거나 LIKE 와일드카드를 포함하거나, 후보가 너무 많으면 null (LIKE 로만 검색).
+     */
+    public Collection<Long> findItemIds(String name, String sku) {
+        boolean hasName = name != null && !name.isEmpty();
+        boolean hasSku = sku != null && !sku.isEmpty();
+        if (!enabled || (!hasName && !hasSku)) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+
+            long[] ids = null;
+            if (hasName && names.supports(name)) {
+                ids = names.search(name, maxCandidates);
+                if (ids == null) {
+                    return null;
+                }
+            }
+            if (hasSku && skus.supports(sku)) {
+                long[] skuIds = skus.search(sku, maxCandidates);
+                if (skuIds != null) {
+                    ids = ids == null ? skuIds : intersect(ids, skuIds);
+                } else if (ids == null) {
+                    return null;
+                }
+            }
+            return ids == null ? null : Arrays.stream(ids).boxed().toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 등록 / 수정 후 호출 (트랜잭션 안이면 커밋 후 반영)
+    public void index(Item item) {
+        apply(List.of(Mutation.of(item)));
+    }
+
+    // 일괄 등록용 (커밋 후 한 번에 반영)
+    public void indexAll(Collection<Item> items) {
+        apply(items.stream().map(Mutation::of).toList());
+    }
+
+    public void remove(Long itemId) {
+        apply(List.of(new Mutation(itemId, null, null, true)));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    // 다른 인스턴스의 변경: 메시지의 item id 를 DB 에서 다시 읽어 반영 (없으면 삭제된 품목)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (!enabled || parts.length != 2 || INSTANCE_ID.equals(parts[0])) {
+            return;
+        }
+
+        try {
+            Set<Long> ids = Arrays.stream(parts[1].split(","))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toCollection(HashSet::new));
+            List<Object[]> rows = readOnlyTemplate.execute(status -> itemRepository.findSearchTextByIds(ids));
+
+            List<Mutation> mutations = new ArrayList<>(ids.size());
+            for (Object[] row : rows) {
+                Long id = ((Number) row[0]).longValue();
+                mutations.add(new Mutation(id, (String) row[1], (String) row[2], false));
+                ids.remove(id);
+            }
+            for (Long id : ids) {
+                mutations.add(new Mutation(id, null, null, true));
+            }
+            applyNow(mutations);
+        } catch (RuntimeException e) {
+            log.warn("품목 검색 색인 변경 메시지 처리 실패. 다음 재구성 때 반영됩니다. message={}",
+                    new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    // 알림이 유실된 변경을 따라잡기 위한 주기적 재구성
+    @Scheduled(cron = "${stockflow.item-search-index.rebuild-cron:0 */30 * * * *}")
+    public void scheduledRebuild() {
+        rebuildAsync();
+    }
+
+    public void rebuildAsync() {
+        if (enabled && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 1. 이후 들어오는 변경은 새 색인에도 적용할 수 있도록 모아 둠
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // 2. 전체 품목을 스트리밍으로 읽어 새 색인 구성 (검색은 기존 색인으로 계속 처리)
+            NGramIndex newNames = new NGramIndex(NAME_GRAM_SIZE);
+            NGramIndex newSkus = new NGramIndex(SKU_GRAM_SIZE);
+            readOnlyTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = itemRepository.streamSearchText()) {
+                    rows.forEach(row -> {
+                        long id = ((Number) row[0]).longValue();
+                        newNames.put(id, (String) row[1]);
+                        newSkus.put(id, (String) row[2]);
+                    });
+                }
+            });
+
+            // 3. 구성하는 동안의 변경을 다시 적용한 뒤 교체
+            lock.writeLock().lock();
+            try {
+                for (Mutation mutation : pendingDuringRebuild) {
+                    mutation.applyTo(newNames, newSkus);
+                }
+                names = newNames;
+                skus = newSkus;
+                ready = true;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("품목 검색 색인 재구성 완료. items={}, elapsedMs={}",
+                    newNames.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("품목 검색 색인 재구성 실패. 기존 색인을 계속 사용합니다.", e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void apply(List<Mutation> mutations) {
+        if (!enabled || mutations.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(mutations);
+                    publish(mutations);
+                }
+            });
+            return;
+        }
+        applyNow(mutations);
+        publish(mutations);
+    }
+
+    private void publish(List<Mutation> mutations) {
+        for (int from = 0; from < mutations.size(); from += IDS_PER_MESSAGE) {
+            String ids = mutations.subList(from, Math.min(from + IDS_PER_MESSAGE, mutations.size())).stream()
+                    .map(mutation -> String.valueOf(mutation.id()))
+                    .collect(Collectors.joining(","));
+            try {
+                redisTemplate.convertAndSend(CHANNEL, INSTANCE_ID + "|" + ids);
+            } catch (RuntimeException e) {
+                log.warn("품목 검색 색인 변경 알림 발행 실패. 다른 인스턴스는 다음 재구성 때 반영합니다. ids={}", ids, e);
+                return;
+            }
+        }
+    }
+
+    private void applyNow(List<Mutation> mutations) {
+        lock.writeLock().lock();
+        try {
+            for (Mutation mutation : mutations) {
+                mutation.applyTo(names, skus);
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.addAll(mutations);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private record Mutation(Long id, String name, String sku, boolean removed) {
+
+        static Mutation of(Item item) {
+            return new Mutation(item.getId(), item.getName(), item.getSku(), false);
+        }
+
+        void applyTo(NGramIndex names, NGramIndex skus) {
+            if (removed) {
+                names.remove(id);
+                skus.remove(id);
+            } else {
+                names.put(id, name);
+                skus.put(id, sku);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.madebyzino.StockFlow.entity.ItemStockSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ItemStockSummaryRepository extends JpaRepository<ItemStockSummary, Long> {
+}
@@ -1,13 +1,14 @@
 package com.madebyzino.StockFlow.repository;
 
 import com.madebyzino.StockFlow.entity.Location;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,5 +25,7 @@ public interface LocationRepository extends JpaRepository<Location, Long> {
 
     Optional<Location> findByBinCode(String binCode);
 
+    List<Location> findByBinCodeIn(Collection<String> binCodes);
+
     Page<Location> findByCenterNameAndZone(String centerName, String zone, Pageable pageable);
 }
\ No newline at end of file
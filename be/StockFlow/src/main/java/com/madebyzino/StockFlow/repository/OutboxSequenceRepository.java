@@ -0,0 +1,18 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.madebyzino.StockFlow.entity.OutboxSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxSequenceRepository extends JpaRepository<OutboxSequence, String> {
+
+    // 순번 부여를 한 인스턴스씩 차례로 하도록 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OutboxSequence s WHERE s.name = :name")
+    Optional<OutboxSequence> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,18 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.madebyzino.StockFlow.entity.OutboxSubscriberOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxSubscriberOffsetRepository extends JpaRepository<OutboxSubscriberOffset, String> {
+
+    // 여러 인스턴스가 같은 구독자를 동시에 처리하지 않도록 오프셋 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxSubscriberOffset o WHERE o.subscriber = :subscriber")
+    Optional<OutboxSubscriberOffset> findForUpdate(@Param("subscriber") String subscriber);
+}
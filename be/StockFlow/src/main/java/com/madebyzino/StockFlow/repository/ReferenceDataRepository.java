@@ -0,0 +1,58 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.Location;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 2차 캐시를 거치는 기준 정보 조회.
+ * Spring Data 의 파생 쿼리(findByBinCode, findAllById 등)는 JPQL 이라 2차 캐시를 쓰지 않으므로
+ * 자연 키(binCode, sku) / id 목록 조회는 Hibernate 의 자연 키 / 다중 id 로딩을 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReferenceDataRepository {
+
+    private final EntityManager entityManager;
+
+    public Optional<Location> findLocationByBinCode(String binCode) {
+        if (binCode == null) {
+            return Optional.empty();
+        }
+        return session().bySimpleNaturalId(Location.class).loadOptional(binCode);
+    }
+
+    public List<Location> findLocationsByBinCodes(Collection<String> binCodes) {
+        return nonNull(session().byMultipleNaturalId(Location.class).multiLoad(new ArrayList<>(binCodes)));
+    }
+
+    public Optional<Item> findItemBySku(String sku) {
+        if (sku == null) {
+            return Optional.empty();
+        }
+        return session().bySimpleNaturalId(Item.class).loadOptional(sku);
+    }
+
+    // 캐시에 있는 엔티티는 캐시에서, 나머지만 IN 조회
+    public <T> List<T> findAllById(Class<T> entityClass, Collection<Long> ids) {
+        return nonNull(session().byMultipleIds(entityClass).multiLoad(new ArrayList<>(ids)));
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    // 없는 키는 null 로 채워져 반환되므로 제외
+    private static <T> List<T> nonNull(List<T> loaded) {
+        return loaded.stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.madebyzino.StockFlow.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.repository.mapper.CountMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 페이지 목록의 전체 건수 처리.
+ * EXACT: 정규화한 검색 조건별로 count 결과를 캐시하고 재고 변동 / 품목 변경 시 영향을 받는 조건만 무효화한다 (TTL 로 상한).
+ *        이력(TRANSACTION) 건수는 재고 변동마다 늘어나므로 무효화하지 않고 짧은 TTL(transaction-ttl)로만 갱신한다.
+ * ESTIMATE: 조건이 없으면 information_schema 의 추정 행 수를 사용한다.
+ * NONE: count 를 생략하고 size + 1 건을 읽어 다음 페이지 여부만 알려준다.
+ */
+@Component
+public class SearchCounter {
+
+    private final CountMapper countMapper;
+    private final ObjectMapper objectMapper;
+    private final Cache<CountKey, Long> counts;
+
+    public SearchCounter(
+            CountMapper countMapper,
+            ObjectMapper objectMapper,
+            @Value("${stockflow.search-count.ttl:60s}") Duration ttl,
+            @Value("${stockflow.search-count.transaction-ttl:5s}") Duration transactionTtl,
+            @Value("${stockflow.search-count.max-entries:10000}") long maxEntries
+    ) {
+        this.countMapper = countMapper;
+        this.objectMapper = objectMapper;
+        this.counts = Caffeine.newBuilder()
+                .expireAfter(Expiry.<CountKey, Long>writing((key, count) ->
+                        key.scope() == CountScope.TRANSACTION ? transactionTtl : ttl))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * fetch 는 limit 을 받아 현재 페이지 행을 조회하고, exactCount 는 실제 count 쿼리를 실행한다.
+     */
+    public <T> Slice<T> page(CountScope scope, CountMode mode, Object condition, Pageable pageable,
+                             IntFunction<List<T>> fetch, LongSupplier exactCount) {
+        int size = pageable.getPageSize();
+
+        if (mode == CountMode.NONE) {
+            List<T> fetched = fetch.apply(size + 1);
+            boolean hasNext = fetched.size() > size;
+            return new SliceImpl<>(hasNext ? fetched.subList(0, size) : fetched, pageable, hasNext);
+        }
+
+        List<T> content = fetch.apply(size);
+
+        long total;
+        if (content.size() < size && pageable.getOffset() == 0) {
+            total = content.size();
+        } else {
+            total = count(scope, mode, condition, exactCount);
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 해당 범위의 캐시된 건수 제거
+    public void invalidate(CountScope scope) {
+        invalidate(scope, condition -> true);
+    }
+
+    // 해당 범위에서 검색 조건(정규화한 필드명 -> 값)이 affected 에 해당하는 건수만 제거
+    public void invalidate(CountScope scope, Predicate<Map<String, Object>> affected) {
+        counts.asMap().keySet().removeIf(key -> key.scope() == scope && affected.test(key.condition()));
+    }
+
+    private long count(CountScope scope, CountMode mode, Object condition, LongSupplier exactCount) {
+        Map<String, Object> normalized = normalize(condition);
+
+        if (mode == CountMode.ESTIMATE && normalized.isEmpty()) {
+            Long estimated = counts.get(new CountKey(scope, normalized, true),
+                    key -> countMapper.estimateRows(scope.getTable()));
+            if (estimated != null) {
+                return estimated;
+            }
+        }
+
+        return counts.get(new CountKey(scope, normalized, false), key -> exactCount.getAsLong());
+    }
+
+    // 값이 없는 조건을 제외하고 이름순으로 정렬 (같은 검색이면 같은 키)
+    private Map<String, Object> normalize(Object condition) {
+        Map<String, Object> normalized = new TreeMap<>();
+        if (condition == null) {
+            return normalized;
+        }
+
+        Map<?, ?> fields = objectMapper.convertValue(condition, Map.class);
+        fields.forEach((name, value) -> {
+            if (value == null || (value instanceof String text && text.isBlank())) {
+                return;
+            }
+            normalized.put(name.toString(), value instanceof String text ? text.trim() : value);
+        });
+        return normalized;
+    }
+
+    // 캐시 키: 범위 + 정규화한 조건 (estimate 는 조건 없는 추정 행 수)
+    private record CountKey(CountScope scope, Map<String, Object> condition, boolean estimate) {
+    }
+}
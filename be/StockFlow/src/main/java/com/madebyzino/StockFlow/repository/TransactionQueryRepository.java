@@ -1,37 +1,60 @@
 package com.madebyzino.StockFlow.repository;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.transaction.TransactionHistoryResponse;
 import com.madebyzino.StockFlow.dto.transaction.TransactionSearchCondition;
+import com.madebyzino.StockFlow.exception.InvalidCursorException;
 import com.madebyzino.StockFlow.repository.mapper.TransactionMapper;
+import com.madebyzino.StockFlow.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class TransactionQueryRepository {
     private final TransactionMapper transactionMapper;
+    private final SearchCounter searchCounter;
+    private final ItemSearchIndex itemSearchIndex;
 
-    public Page<TransactionHistoryResponse> searchTransactions(TransactionSearchCondition condition, Pageable pageable) {
+    public Slice<TransactionHistoryResponse> searchTransactions(TransactionSearchCondition condition, Pageable pageable,
+                                                               CountMode countMode) {
+        Collection<Long> itemIds = itemSearchIndex.findItemIds(null, condition.getItemSku());
 
-        List<TransactionHistoryResponse> content = transactionMapper.searchTransactions(
-                condition,
-                pageable.getPageSize(),
-                pageable.getOffset()
-        );
-
-        long total;
+        return searchCounter.page(CountScope.TRANSACTION, countMode, condition, pageable,
+                limit -> transactionMapper.searchTransactions(condition, itemIds, limit, pageable.getOffset()),
+                () -> transactionMapper.countTransactions(condition, itemIds));
+    }
 
-        if (content.size() < pageable.getPageSize() && pageable.getOffset() == 0) {
-            total = content.size();
-        } else {
-            total = transactionMapper.countTransactions(condition);
+    // 커서 모드: count 쿼리 없이 size + 1 건만 조회해 다음 페이지 여부를 판단
+    public CursorPage<TransactionHistoryResponse> searchTransactionsByCursor(TransactionSearchCondition condition,
+                                                                             String cursor, int size) {
+        LocalDateTime cursorDate = null;
+        Long cursorId = null;
+
+        if (cursor != null && !cursor.isBlank()) {
+            List<String> values = CursorCodec.decode(cursor, 2);
+            try {
+                cursorDate = LocalDateTime.parse(values.get(0));
+                cursorId = Long.valueOf(values.get(1));
+            } catch (DateTimeParseException | NumberFormatException | NullPointerException e) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.");
+            }
         }
 
-        return new PageImpl<>(content, pageable, total);
+        Collection<Long> itemIds = itemSearchIndex.findItemIds(null, condition.getItemSku());
+
+        List<TransactionHistoryResponse> fetched = transactionMapper.searchTransactionsAfter(
+                condition, itemIds, cursorDate, cursorId, size + 1);
+
+        return CursorPage.of(fetched, size,
+                last -> CursorCodec.encode(last.getTransactionDate(), last.getTransactionId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Mapper
+public interface CountMapper {
+
+    // InnoDB 통계의 추정 행 수 (COUNT(*) 없이 즉시 반환)
+    Long estimateRows(@Param("table") String table);
+
+    // changes 의 (itemId, locationId) 재고 행 중 since 이후에 만들어진 행 수 (유니크 인덱스 조회)
+    long countInventoryCreatedSince(@Param("changes") Collection<InventoryQuantityChange> changes,
+                                    @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,50 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.dashboard.DashboardCounts;
+import com.madebyzino.StockFlow.dto.dashboard.ItemStockValue;
+import com.madebyzino.StockFlow.dto.dashboard.LocationOccupancyChange;
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface DashboardMapper {
+
+    // 해당 slot 에 증감을 더함 (행이 없으면 추가)
+    int addTotals(@Param("slot") int slot, @Param("delta") DashboardCounts delta);
+
+    DashboardCounts sumTotals();
+
+    long countTotals();
+
+    // 현재 품목 / 재고 / 위치 상태로 slot 0 을 채움 (합계 테이블이 비어 있을 때)
+    int seedTotals();
+
+    // 가격을 읽으면서 공유 잠금 (가격 변경과 재고 변동의 자산 가치 반영 순서를 맞춤, id 오름차순)
+    List<ItemStockValue> findPricesForShare(@Param("itemIds") Collection<Long> itemIds);
+
+    // 가격 변경 전 품목과 재고 합계 행을 잠그고 현재 단가 / 총 수량을 반환 (품목이 없으면 null)
+    ItemStockValue lockItemStock(@Param("itemId") Long itemId);
+
+    // 위치별 재고 보유 품목 수에 증감을 더함 (locationId 오름차순으로 전달)
+    int applyOccupancyChanges(@Param("changes") List<LocationOccupancyChange> changes);
+
+    List<LocationOccupancyChange> findOccupancies(@Param("locationIds") Collection<Long> locationIds);
+
+    LocationOccupancyChange lockOccupancy(@Param("locationId") Long locationId);
+
+    int upsertOccupancyActive(@Param("locationId") Long locationId, @Param("active") boolean active);
+
+    long countOccupancies();
+
+    // 현재 재고 / 위치 상태로 위치별 보유 품목 수를 다시 계산
+    int seedOccupancies();
+
+    // since 이후 거래일의 원장을 스트리밍 (최다 입출고 품목 재구성용, 트랜잭션 안에서 사용)
+    Cursor<StockChangeEvent> streamTransactionsSince(@Param("since") LocalDateTime since);
+}
@@ -5,6 +5,7 @@ import com.madebyzino.StockFlow.dto.inventory.InventorySummaryResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -12,10 +13,11 @@ public interface InventoryMapper {
     // 재고 현황 (위치별 상세) 검색 목록 조회
     List<InventorySummaryResponse> searchInventory(
             @Param("cond") InventorySearchCondition condition,
-            @Param("limit") int limit,
-            @Param("offset") long offset
+            @Param("itemIds") Collection<Long> itemIds,
+            @Param("page") KeysetQuery page
     );
 
-    // 재고 현황 (위치별 상세) 전체 개수 조회 (페이징용)
-    long countInventory(@Param("cond") InventorySearchCondition condition);
+    // 재고 현황 (위치별 상세) 전체 개수 조회 (페이징용, itemIds 는 검색 색인 후보이며 null 이면 제한 없음)
+    long countInventory(@Param("cond") InventorySearchCondition condition,
+                        @Param("itemIds") Collection<Long> itemIds);
 }
\ No newline at end of file
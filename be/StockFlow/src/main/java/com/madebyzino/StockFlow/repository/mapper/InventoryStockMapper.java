@@ -0,0 +1,21 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface InventoryStockMapper {
+
+    // (item_id, location_id) 유니크 키 기준으로 재고 행을 추가하거나 수량을 가산 (다중 행 한 문장)
+    // 추가될 행의 id 는 EntityIdAllocator 로 미리 할당해 전달해야 한다
+    int upsertIncrease(@Param("changes") List<InventoryQuantityChange> changes);
+
+    // 재고가 충분한 행만 차감, 반영된 행 수가 요청 수보다 적으면 재고 부족
+    int decreaseIfEnough(@Param("changes") List<InventoryQuantityChange> changes);
+
+    // 차감 실패 시 부족한 라인을 찾기 위한 현재 수량 조회
+    List<InventoryQuantityChange> findQuantities(@Param("changes") List<InventoryQuantityChange> changes);
+}
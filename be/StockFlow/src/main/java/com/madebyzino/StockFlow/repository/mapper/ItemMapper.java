@@ -5,15 +5,18 @@ import com.madebyzino.StockFlow.dto.item.ItemSummaryResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface ItemMapper {
     List<ItemSummaryResponse> searchItems(
             @Param("cond") ItemSearchCondition condition,
-            @Param("limit") int limit,
-            @Param("offset") long offset
+            @Param("itemIds") Collection<Long> itemIds,
+            @Param("page") KeysetQuery page
     );
 
-    long countItems(@Param("cond") ItemSearchCondition condition);
+    // itemIds: 검색 색인이 구한 후보 (null 이면 제한 없음)
+    long countItems(@Param("cond") ItemSearchCondition condition,
+                    @Param("itemIds") Collection<Long> itemIds);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.inventory.ItemStockLevel;
+import com.madebyzino.StockFlow.dto.inventory.ItemStockSummaryChange;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface ItemStockSummaryMapper {
+
+    // 품목별 합계에 증감을 더함 (행이 없으면 추가, 잠금 순서를 맞추기 위해 itemId 오름차순으로 전달)
+    int applyChanges(@Param("changes") List<ItemStockSummaryChange> changes);
+
+    // 재고 테이블 기준으로 다시 계산 (itemIds 가 null 이면 전체)
+    int refreshFromInventory(@Param("itemIds") Collection<Long> itemIds);
+
+    long countSummaries();
+
+    // 품목별 총 재고와 안전 재고 (삭제된 품목은 결과에 없음)
+    List<ItemStockLevel> findStockLevels(@Param("itemIds") Collection<Long> itemIds);
+
+    // 총 재고가 안전 재고 미만인 품목 전체
+    List<ItemStockLevel> findBelowSafetyStock();
+}
@@ -0,0 +1,77 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.SortKey;
+import com.madebyzino.StockFlow.exception.InvalidCursorException;
+import com.madebyzino.StockFlow.exception.InvalidPageRequestException;
+import com.madebyzino.StockFlow.util.CursorCodec;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 정렬 + 페이지 조건 (매퍼 파라미터).
+ * 정렬 컬럼 뒤에 유일한 id 컬럼을 붙여 순서를 고정하고, 커서가 있으면 (정렬 값, id) 다음 행부터 읽는다(키셋).
+ * 커서가 없으면 offset 으로 읽는다(기존 페이지 방식).
+ */
+@Getter
+public class KeysetQuery {
+
+    private final String sortColumn;
+    private final String tieColumn;
+    private final boolean descending;
+    private final Object cursorValue;
+    private final Long cursorId;
+    private final int limit;
+    private final long offset;
+
+    private KeysetQuery(String sortColumn, String tieColumn, boolean descending,
+                        Object cursorValue, Long cursorId, int limit, long offset) {
+        this.sortColumn = sortColumn;
+        this.tieColumn = tieColumn;
+        this.descending = descending;
+        this.cursorValue = cursorValue;
+        this.cursorId = cursorId;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    public static KeysetQuery offset(SortKey<?> key, String tieColumn, boolean descending, int limit, long offset) {
+        return new KeysetQuery(key.column(), tieColumn, descending, null, null, limit, offset);
+    }
+
+    // 커서에는 정렬 속성도 담아 두고, 다른 정렬로 커서를 재사용하면 거부한다
+    public static KeysetQuery cursor(SortKey<?> key, String tieColumn, boolean descending, String cursor, int limit) {
+        if (!key.seekable()) {
+            throw new InvalidPageRequestException("커서 모드에서 지원하지 않는 정렬 기준입니다: " + key.property()
+                    + " (page / size 로 조회하세요)");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetQuery(key.column(), tieColumn, descending, null, null, limit, 0);
+        }
+
+        List<String> values = CursorCodec.decode(cursor, 3);
+        if (!key.property().equals(values.get(0))) {
+            throw new InvalidCursorException("커서와 정렬 기준이 일치하지 않습니다.");
+        }
+        try {
+            return new KeysetQuery(key.column(), tieColumn, descending,
+                    key.parse(values.get(1)), Long.valueOf(values.get(2)), limit, 0);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static <T> String nextCursor(SortKey<T> key, T row, Function<T, Long> idOf) {
+        return CursorCodec.encode(key.property(), key.valueOf(row), idOf.apply(row));
+    }
+
+    // 키셋 비교 연산자 (정렬 방향에 맞춤)
+    public String getSeekOperator() {
+        return descending ? "<" : ">";
+    }
+
+    public String getDirection() {
+        return descending ? "DESC" : "ASC";
+    }
+}
@@ -0,0 +1,49 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerPartition;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 원장(transaction) 테이블의 RANGE COLUMNS(transaction_date) 월 파티션 관리.
+ * 파티션 / 보관 테이블 이름은 서비스가 만든 값만 전달한다 (${} 치환).
+ */
+@Mapper
+public interface LedgerPartitionMapper {
+
+    // 여러 인스턴스가 동시에 DDL 을 실행하지 않도록 이름 잠금 (같은 커넥션에서 해제)
+    Integer acquireLock(@Param("name") String name, @Param("timeoutSeconds") int timeoutSeconds);
+
+    Integer releaseLock(@Param("name") String name);
+
+    // 파티션 순서대로 이름 / 상한 / 통계상 행 수 (파티션이 없으면 빈 목록)
+    List<LedgerPartition> findPartitions();
+
+    LocalDateTime findMinTransactionDate();
+
+    // 기본 키를 (id, transaction_date) 로 바꾸고 월 파티션으로 재구성
+    void partitionByMonth(@Param("partitions") List<LedgerPartition> partitions);
+
+    // MAXVALUE 파티션을 나눠 앞으로의 월 파티션 추가
+    void splitMaxPartition(@Param("maxPartition") String maxPartition,
+                           @Param("partitions") List<LedgerPartition> partitions);
+
+    // 파티션의 원장 중 스냅샷에 접히지 않은(원장 재생에 아직 필요한) 행이 있는지
+    boolean hasUnfoldedRows(@Param("partition") String partition);
+
+    boolean hasRows(@Param("partition") String partition);
+
+    boolean tableExists(@Param("table") String table);
+
+    // 파티션을 떼어 같은 구조의 일반 테이블로 보관 (EXCHANGE 후 빈 파티션 삭제)
+    void createArchiveTable(@Param("table") String table);
+
+    void removePartitioning(@Param("table") String table);
+
+    void exchangePartition(@Param("partition") String partition, @Param("table") String table);
+
+    void dropPartition(@Param("partition") String partition);
+}
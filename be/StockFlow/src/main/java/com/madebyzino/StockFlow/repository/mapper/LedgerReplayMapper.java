@@ -0,0 +1,46 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface LedgerReplayMapper {
+
+    // 품목 id 구간 분할 기준
+    Long findMaxItemId();
+
+    // 품목 구간의 스냅샷 이후 원장 증감 합계 (upTo 가 있으면 그 시점까지만, keys 가 있으면 해당 품목/위치만)
+    List<InventoryQuantityChange> sumDeltasSinceSnapshot(@Param("fromItemId") long fromItemId,
+                                                         @Param("toItemId") long toItemId,
+                                                         @Param("upTo") LocalDateTime upTo,
+                                                         @Param("keys") List<InventoryQuantityChange> keys);
+
+    // 품목 구간의 after 이후 원장 증감 합계
+    List<InventoryQuantityChange> sumDeltasAfter(@Param("fromItemId") long fromItemId,
+                                                 @Param("toItemId") long toItemId,
+                                                 @Param("after") LocalDateTime after);
+
+    List<InventoryQuantityChange> findSnapshots(@Param("fromItemId") long fromItemId,
+                                                @Param("toItemId") long toItemId);
+
+    List<InventoryQuantityChange> findInventoryQuantities(@Param("fromItemId") long fromItemId,
+                                                          @Param("toItemId") long toItemId);
+
+    // 스냅샷 갱신 (없으면 추가, 새 행의 id 는 미리 할당)
+    int upsertSnapshots(@Param("snapshots") List<InventoryQuantityChange> snapshots,
+                        @Param("snapshotAt") LocalDateTime snapshotAt);
+
+    // 스냅샷이 없는 행만 추가 (현재 재고로 초기 스냅샷 생성)
+    int insertMissingSnapshots(@Param("snapshots") List<InventoryQuantityChange> snapshots,
+                               @Param("snapshotAt") LocalDateTime snapshotAt);
+
+    // 보정 대상 재고 행 잠금 (id 오름차순)
+    List<InventoryQuantityChange> lockInventories(@Param("keys") List<InventoryQuantityChange> keys);
+
+    // 원장 기준 수량으로 재고 덮어쓰기
+    int overwriteQuantities(@Param("changes") List<InventoryQuantityChange> changes);
+}
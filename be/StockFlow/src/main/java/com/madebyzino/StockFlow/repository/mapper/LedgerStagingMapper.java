@@ -0,0 +1,23 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerStagingRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface LedgerStagingMapper {
+
+    // 요청 트랜잭션에서 이력 묶음을 한 행으로 기록
+    int insert(@Param("id") long id, @Param("entries") String entries);
+
+    // 아직 남아 있는(원장에 저장되지 않은) 묶음을 잠그고 id 를 조회
+    List<Long> lockExisting(@Param("ids") Collection<Long> ids);
+
+    // DB 시각 기준 olderThanMs 보다 오래 남은 묶음을 잠그고 조회 (다른 인스턴스가 잠근 행은 건너뜀)
+    List<LedgerStagingRow> lockStale(@Param("olderThanMs") long olderThanMs, @Param("limit") int limit);
+
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,9 +1,12 @@
 package com.madebyzino.StockFlow.repository.mapper;
 
+import com.madebyzino.StockFlow.dto.location.LocationOccupancyState;
 import com.madebyzino.StockFlow.entity.Location;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -24,4 +27,10 @@ public interface LocationMapper {
             @Param("zone") String zone,
             @Param("isActive") Boolean isActive
     );
-}
\ No newline at end of file
+
+    // 3. 점유 색인용 위치 상태 (재고 보유 여부는 location_occupancy 기준)
+    List<LocationOccupancyState> findOccupancyStates(@Param("locationIds") Collection<Long> locationIds);
+
+    // 전체 위치 상태를 스트리밍 (트랜잭션 안에서 사용)
+    Cursor<LocationOccupancyState> streamOccupancyStates();
+}
@@ -0,0 +1,30 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface OutboxMapper {
+
+    // 원장과 같은 트랜잭션에서 다중 행 INSERT (이미 기록된 이력은 무시)
+    int insertAll(@Param("entries") List<LedgerEntry> entries);
+
+    // 커밋되었지만 아직 전달 순번이 없는 이벤트를 잠그고 id 를 조회 (순번을 매길 순서)
+    List<Long> lockUnsequenced(@Param("limit") int limit);
+
+    // 목록 순서대로 firstSeq 부터 전달 순번 부여
+    int assignSeq(@Param("transactionIds") List<Long> transactionIds, @Param("firstSeq") long firstSeq);
+
+    // afterSeq 다음 순번부터 순서대로 조회
+    List<StockChangeEvent> findEvents(@Param("afterSeq") long afterSeq, @Param("limit") int limit);
+
+    // 마지막으로 매겨진 순번 (메모리 구독자의 시작 위치, 없으면 0)
+    long findLatestSeq();
+
+    // 순번이 매겨졌고 DB 시각 기준 보관 기간이 지난 이벤트 삭제
+    int deleteExpired(@Param("retentionSeconds") long retentionSeconds, @Param("limit") int limit);
+}
@@ -1,10 +1,13 @@
 package com.madebyzino.StockFlow.repository.mapper;
 
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
 import com.madebyzino.StockFlow.dto.transaction.TransactionHistoryResponse;
 import com.madebyzino.StockFlow.dto.transaction.TransactionSearchCondition;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -12,9 +15,25 @@ public interface TransactionMapper {
 
     List<TransactionHistoryResponse> searchTransactions(
             @Param("cond") TransactionSearchCondition condition,
+            @Param("itemIds") Collection<Long> itemIds,
             @Param("limit") int limit,
             @Param("offset") long offset
     );
 
-    long countTransactions(@Param("cond") TransactionSearchCondition condition);
+    // 커서 모드: (cursorDate, cursorId) 이후 행을 limit 건 조회 (커서가 없으면 처음부터)
+    List<TransactionHistoryResponse> searchTransactionsAfter(
+            @Param("cond") TransactionSearchCondition condition,
+            @Param("itemIds") Collection<Long> itemIds,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    // itemIds: SKU 검색 색인이 구한 후보 item id (null 이면 제한 없음)
+    long countTransactions(@Param("cond") TransactionSearchCondition condition,
+                           @Param("itemIds") Collection<Long> itemIds);
+
+    // 쓰기 지연 원장 기록용 다중 행 INSERT (id 는 미리 할당된 값을 사용, 복구 시에는 중복 id 를 무시)
+    int insertAll(@Param("entries") List<LedgerEntry> entries,
+                  @Param("ignoreDuplicates") boolean ignoreDuplicates);
 }
\ No newline at end of file
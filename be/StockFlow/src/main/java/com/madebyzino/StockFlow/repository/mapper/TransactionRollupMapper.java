@@ -0,0 +1,57 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.transaction.RollupBackfillPartition;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupDelta;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupGroupBy;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupRow;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface TransactionRollupMapper {
+
+    // 시간별 / 일별 집계에 증감을 더함 (행이 없으면 추가, 키 순으로 전달)
+    int applyHourly(@Param("deltas") List<TransactionRollupDelta> deltas);
+
+    int applyDaily(@Param("deltas") List<TransactionRollupDelta> deltas);
+
+    /**
+     * 일별 집계 [dayFrom, dayTo) 와 시간별 집계 [headFrom, headTo), [tailFrom, tailTo) 를 합쳐 groupBy 기준으로 합산.
+     * 비어 있는 구간은 null 로 전달한다.
+     */
+    List<TransactionRollupRow> sumRollups(@Param("dayFrom") LocalDate dayFrom,
+                                          @Param("dayTo") LocalDate dayTo,
+                                          @Param("headFrom") LocalDateTime headFrom,
+                                          @Param("headTo") LocalDateTime headTo,
+                                          @Param("tailFrom") LocalDateTime tailFrom,
+                                          @Param("tailTo") LocalDateTime tailTo,
+                                          @Param("centerName") String centerName,
+                                          @Param("itemId") Long itemId,
+                                          @Param("type") TransactionType type,
+                                          @Param("groupBy") List<TransactionRollupGroupBy> groupBy);
+
+    // 초기 채우기 계획 (없으면 추가)
+    long countBackfillPartitions();
+
+    int insertBackfillPartitions(@Param("partitions") List<RollupBackfillPartition> partitions);
+
+    List<RollupBackfillPartition> findPendingBackfillPartitions();
+
+    // 구간 잠금 후 상태 조회 (다른 인스턴스와 같은 구간을 중복 처리하지 않도록)
+    RollupBackfillPartition lockBackfillPartition(@Param("fromItemId") Long fromItemId);
+
+    int completeBackfillPartition(@Param("fromItemId") Long fromItemId);
+
+    // 구간 내 cutoff 이전에 기록되고 아웃박스에 없는 원장을 시간별 / 일별 집계에 더함
+    int backfillHourly(@Param("partition") RollupBackfillPartition partition);
+
+    int backfillDaily(@Param("partition") RollupBackfillPartition partition);
+
+    // 아웃박스에 남아 있는 가장 오래된 기록 시각 (없으면 null)
+    LocalDateTime findOutboxStart();
+}
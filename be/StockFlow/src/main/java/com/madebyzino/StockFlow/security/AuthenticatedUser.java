@@ -0,0 +1,26 @@
+package com.madebyzino.StockFlow.security;
+
+import com.madebyzino.StockFlow.entity.user.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 클레임만으로 만든 로그인 사용자 (DB 조회 없음).
+ * id / username / role 외의 정보가 필요한 핸들러는 @CurrentUser User 로 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser {
+
+    private final Long id;
+    private final String username;
+    private final UserRole role;
+
+    public static AuthenticatedUser from(SimpleUserDetails userDetails) {
+        return new AuthenticatedUser(
+                userDetails.getUserId(),
+                userDetails.getUsername(),
+                userDetails.getRole() != null ? UserRole.valueOf(userDetails.getRole()) : null
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.madebyzino.StockFlow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.madebyzino.StockFlow.entity.user.User;
+import com.madebyzino.StockFlow.exception.ResourceNotFoundException;
+import com.madebyzino.StockFlow.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * @CurrentUser User 로 전체 사용자 엔티티가 필요할 때만 사용하는 짧은 TTL 캐시.
+ * 같은 사용자의 연속 요청마다 users 를 조회하지 않도록 하며, 캐시된 엔티티는 준영속 상태이므로 읽기 용도로만 쓴다.
+ * 가입 외에 사용자를 변경하는 경로가 없어 따로 무효화하지 않는다 (변경 기능이 생기면 ttl 동안 이전 값이 보일 수 있음).
+ */
+@Component
+public class CurrentUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> users;
+
+    public CurrentUserCache(
+            UserRepository userRepository,
+            @Value("${stockflow.current-user.ttl:30s}") Duration ttl,
+            @Value("${stockflow.current-user.max-entries:1000}") long maxEntries
+    ) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public User get(Long userId) {
+        User user = users.get(userId, id -> userRepository.findById(id).orElse(null));
+        if (user == null) {
+            throw new ResourceNotFoundException("유저를 찾을 수 없습니다. ID: " + userId);
+        }
+        return user;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected void doFilterInternal(
@@ -48,27 +49,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         Claims claims;
         try {
-            claims = jwtService.extractAllClaims(jwt);
+            claims = jwtService.verify(jwt);
         } catch (Exception e) {
             sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
             return;
         }
 
+        // 리프레시 토큰으로는 API 를 호출할 수 없음
+        if (jwtService.isRefreshToken(claims)) {
+            sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+            return;
+        }
+
+        // 로그아웃 등으로 폐기된 토큰 (대부분 메모리의 블룸 필터에서 판정)
+        if (tokenRevocationStore.isRevoked(claims.getId())) {
+            sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "폐기된 토큰입니다.");
+            return;
+        }
+
         final String username = claims.get("username", String.class);
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
+            // 서명 / 만료는 verify 에서 이미 검증됨
             UserDetails userDetails = jwtService.createSimpleUserDetailsFromClaims(claims);
 
-            if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
-
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
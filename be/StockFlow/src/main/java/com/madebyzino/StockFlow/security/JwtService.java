@@ -1,8 +1,12 @@
 package com.madebyzino.StockFlow.security;
 
 import com.madebyzino.StockFlow.entity.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -13,25 +17,48 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret-b64:}")
-    private String secretKeyB64;
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpirationMs;
+    private final String secretKeyB64;
+    private final long jwtExpirationMs;
+    private final long refreshExpirationMs;
 
-    @Value("${jwt.refresh-expiration}")
-    private long refreshExpirationMs;
+    // 검증을 통과한 토큰의 클레임 (키: 토큰 SHA-256, 토큰 만료 시각까지 보관)
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
 
     private Key signKey;
+    private JwtParser parser;
+
+    public JwtService(
+            @Value("${jwt.secret-b64:}") String secretKeyB64,
+            @Value("${jwt.expiration}") long jwtExpirationMs,
+            @Value("${jwt.refresh-expiration}") long refreshExpirationMs,
+            @Value("${jwt.verified-cache.max-entries:10000}") long verifiedCacheMaxEntries
+    ) {
+        this.secretKeyB64 = secretKeyB64;
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.refreshExpirationMs = refreshExpirationMs;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxEntries)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
 
     @PostConstruct
     void initKey() {
@@ -43,6 +70,8 @@ public class JwtService {
             throw new IllegalStateException("JWT secret must be >= 32 bytes after Base64 decoding.");
         }
         this.signKey = Keys.hmacShaKeyFor(keyBytes);
+        // 파서는 불변이고 스레드 안전하므로 한 번만 생성
+        this.parser = Jwts.parserBuilder().setSigningKey(signKey).build();
     }
 
     private Key getSignInKey() { return signKey; }
@@ -52,6 +81,7 @@ public class JwtService {
         extra.put("id", user.getId());
         extra.put("username", user.getUsername());
         extra.put("role", user.getRole().name());
+        extra.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN);
         return generateToken(extra, user);
     }
 
@@ -60,13 +90,18 @@ public class JwtService {
     }
 
     public String generateRefreshToken(User user) {
-        return buildToken(new HashMap<>(), user, refreshExpirationMs);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("username", user.getUsername());
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN);
+        return buildToken(claims, user, refreshExpirationMs);
     }
 
     private String buildToken(Map<String, Object> claims, User user, long expMs) {
         long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(claims)
+                // 폐기(로그아웃, 리프레시 토큰 회전) 대상 식별자
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + expMs))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
@@ -74,11 +109,35 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, String username) {
-        final String sub = extractUsername(token);
-        final boolean notExpired = extractExpiration(token).after(new Date());
-        String expected = username;
+        // 서명 / 만료 검증과 클레임 추출을 한 번의 파싱으로 처리
+        final Claims claims = verify(token);
+        final String sub = claims.get("username", String.class);
+        final boolean notExpired = claims.getExpiration().after(new Date());
+
+        return notExpired && sub != null && sub.equals(username);
+    }
+
+    /**
+     * 서명 / 만료를 검증한 클레임. 같은 토큰은 만료 시각까지 캐시된 결과를 사용하므로 요청마다 다시 파싱하지 않는다.
+     * 반환된 클레임은 여러 요청이 공유하므로 읽기 전용으로 사용한다.
+     */
+    public Claims verify(String token) {
+        ByteBuffer key = tokenHash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return cached;
+        }
 
-        return notExpired && sub.equals(expected);
+        Claims claims = extractAllClaims(token);
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> resolver) {
@@ -95,7 +154,7 @@ public class JwtService {
 
     public Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(getSignInKey()).build().parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new CredentialsExpiredException("토큰이 만료되었습니다.", e);
         } catch (Exception e) {
@@ -114,4 +173,33 @@ public class JwtService {
                 null
         );
     }
-}
\ No newline at end of file
+
+    private static ByteBuffer tokenHash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목은 토큰의 exp 시각에 만료
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, remainingMs) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
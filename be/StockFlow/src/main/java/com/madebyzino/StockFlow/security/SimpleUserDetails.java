@@ -28,6 +28,8 @@ public class SimpleUserDetails implements UserDetails {
 
     public Long getUserId() { return userId; }
 
+    public String getRole() { return role; }
+
     @Override
     public String getUsername() {
         return username;
@@ -0,0 +1,142 @@
+package com.madebyzino.StockFlow.security;
+
+import com.madebyzino.StockFlow.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * 토큰 폐기 목록 (로그아웃한 액세스 토큰, 사용한 / 로그아웃한 리프레시 토큰).
+ * 원본은 Redis sorted set (jti -> 토큰 만료 시각) 이고, 각 인스턴스는 블룸 필터 사본을 메모리에 둔다.
+ * 요청마다의 검사는 대부분 블룸 필터에서 "폐기되지 않음" 으로 끝나고, 양성일 때만 Redis 로 확인한다.
+ * 폐기는 pub/sub 으로 다른 인스턴스의 필터에 바로 추가되며, 누락된 메시지와 만료된 항목은 주기적인 재구성으로 정리한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore implements MessageListener {
+
+    public static final String CHANNEL = "stockflow:token-revoked";
+
+    private static final String REVOKED_KEY = "auth:revoked-tokens";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재구성 중에 들어온 폐기를 새 필터에도 반영하기 위한 참조
+    private volatile BloomFilter rebuilding;
+    // 필터를 한 번도 채우지 못했으면(Redis 장애 등) 필터 대신 Redis 로 확인
+    private volatile boolean loaded;
+
+    public TokenRevocationStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${stockflow.token-revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${stockflow.token-revocation.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기한다. 이미 폐기된 토큰이면 false (리프레시 토큰 재사용 감지용).
+     */
+    public boolean revoke(String jti, Date expiresAt) {
+        if (expiresAt == null || !expiresAt.after(new Date())) {
+            return true;
+        }
+
+        Boolean added = redisTemplate.opsForZSet().addIfAbsent(REVOKED_KEY, jti, expiresAt.getTime());
+        addLocal(jti);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, jti);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 다음 재구성 때 반영 (그 전까지는 Redis 에는 기록되어 있음)
+            log.warn("토큰 폐기 알림 발행 실패. jti={}", jti, e);
+        }
+        return Boolean.TRUE.equals(added);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (loaded && !filter.mightContain(jti)) {
+            return false;
+        }
+
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(REVOKED_KEY, jti);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            // 필터가 양성인데 확인할 수 없으면 거부. 필터가 아직 없으면 모든 요청이 거부되지 않도록 허용
+            log.warn("토큰 폐기 여부 확인 실패. jti={}", jti, e);
+            return loaded;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    // 만료된 항목 제거 및 누락된 폐기 알림 반영
+    @Scheduled(cron = "${stockflow.token-revocation.rebuild-cron:0 0 * * * *}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 1. 만료된 토큰은 더 이상 검사할 필요가 없으므로 원본에서 제거
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, startedAt);
+
+            // 2. 새 필터를 만드는 동안의 폐기는 새 필터에도 추가되도록 한 뒤 원본을 읽어 채움
+            BloomFilter next = new BloomFilter(expectedRevocations, falsePositiveRate);
+            rebuilding = next;
+            long count = 0;
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet()
+                    .scan(REVOKED_KEY, ScanOptions.scanOptions().count(1000).build())) {
+                while (cursor.hasNext()) {
+                    next.put(cursor.next().getValue());
+                    count++;
+                }
+            }
+
+            // 3. 교체
+            filter = next;
+            loaded = true;
+            log.info("토큰 폐기 필터 재구성 완료. revoked={}, elapsedMs={}", count, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("토큰 폐기 필터 재구성 실패. 기존 필터를 계속 사용합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // Redis 에 기록된 뒤 호출됨. 재구성 참조를 먼저 읽어야 교체 직전에 추가된 항목이 새 필터에서 빠지지 않음
+    private void addLocal(String jti) {
+        BloomFilter pending = rebuilding;
+        BloomFilter current = filter;
+        current.put(jti);
+        if (pending != null && pending != current) {
+            pending.put(jti);
+        }
+    }
+}
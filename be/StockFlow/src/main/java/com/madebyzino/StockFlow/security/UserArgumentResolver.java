@@ -1,8 +1,6 @@
 package com.madebyzino.StockFlow.security;
 
 import com.madebyzino.StockFlow.entity.user.User;
-import com.madebyzino.StockFlow.exception.ResourceNotFoundException;
-import com.madebyzino.StockFlow.repository.UserRepository;
 import org.apache.coyote.BadRequestException;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -13,18 +11,23 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * @CurrentUser 파라미터 처리.
+ * AuthenticatedUser 는 토큰 클레임으로 바로 만들고, User 는 필요한 핸들러에서만 캐시를 거쳐 조회한다.
+ */
 @Component
 public class UserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final UserRepository userRepository;
+    private final CurrentUserCache currentUserCache;
 
-    public UserArgumentResolver(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserArgumentResolver(CurrentUserCache currentUserCache) {
+        this.currentUserCache = currentUserCache;
     }
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return parameter.getParameterType().equals(User.class)
+        Class<?> type = parameter.getParameterType();
+        return (type.equals(AuthenticatedUser.class) || type.equals(User.class))
                 && parameter.hasParameterAnnotation(CurrentUser.class);
     }
 
@@ -43,7 +46,9 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
         }
         SimpleUserDetails userDetails = (SimpleUserDetails) authentication.getPrincipal();
 
-        return userRepository.findById(userDetails.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다. ID: " + userDetails.getUserId()));
+        if (parameter.getParameterType().equals(AuthenticatedUser.class)) {
+            return AuthenticatedUser.from(userDetails);
+        }
+        return currentUserCache.get(userDetails.getUserId());
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,10 @@ package com.madebyzino.StockFlow.service;
 import com.madebyzino.StockFlow.dto.inventory.AdjustmentRequest;
 import com.madebyzino.StockFlow.entity.Inventory;
 import com.madebyzino.StockFlow.entity.Transaction;
-import com.madebyzino.StockFlow.entity.user.User;
 import com.madebyzino.StockFlow.exception.ResourceNotFoundException;
 import com.madebyzino.StockFlow.repository.InventoryRepository;
-import com.madebyzino.StockFlow.repository.TransactionRepository;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import com.madebyzino.StockFlow.service.ledger.LedgerAppender;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,25 +18,21 @@ import java.time.LocalDateTime;
 public class AdjustmentService {
 
     private final InventoryRepository inventoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final LedgerAppender ledgerAppender;
 
     @Transactional
-    public void recordAdjustment(AdjustmentRequest request, User currentUser) {
+    public void recordAdjustment(AdjustmentRequest request, AuthenticatedUser currentUser) {
 
         // 1. 조정 대상 Inventory 엔티티 조회
         Inventory inventory = inventoryRepository.findById(request.getInventoryId())
                 .orElseThrow(() -> new ResourceNotFoundException(request.getInventoryId()+"를 찾을 수 없습니다."));
 
-        // 2. 재고 수량 업데이트
-        int newQuantity = inventory.getQuantity() + request.getAdjustmentQuantity();
-        if (newQuantity < 0) {
+        // 2. 재고 수량 업데이트 (조건부 UPDATE, 반영된 행이 없으면 재고 부족)
+        int updated = inventoryRepository.addQuantity(inventory.getId(), request.getAdjustmentQuantity());
+        if (updated == 0) {
             throw new IllegalArgumentException("재고수량은 0보다 커야합니다.");
         }
 
-        inventory.setQuantity(newQuantity);
-
-        inventoryRepository.save(inventory);
-
         // 3. Transaction 기록
         Transaction transaction = Transaction.builder()
                 .item(inventory.getItem())
@@ -49,6 +45,6 @@ public class AdjustmentService {
                 .notes(request.getNotes())
                 .build();
 
-        transactionRepository.save(transaction);
+        ledgerAppender.append(transaction);
     }
 }
\ No newline at end of file
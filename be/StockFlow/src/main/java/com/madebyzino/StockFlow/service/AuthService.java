@@ -9,6 +9,8 @@ import com.madebyzino.StockFlow.exception.TokenRefreshException;
 import com.madebyzino.StockFlow.exception.UserException;
 import com.madebyzino.StockFlow.repository.UserRepository;
 import com.madebyzino.StockFlow.security.JwtService;
+import com.madebyzino.StockFlow.security.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,6 +30,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -82,14 +85,19 @@ public class AuthService {
 
     public AuthResponse refreshToken(HttpServletRequest request) {
         String refreshToken = request.getHeader("X-Refresh-Token");
-        final String username;
+        final Claims claims;
 
         try {
-            username = jwtService.extractUsername(refreshToken);
+            claims = jwtService.verify(refreshToken);
         } catch (Exception e) {
             throw new TokenRefreshException(refreshToken, "유효하지 않거나 만료된 리프레시 토큰입니다.");
         }
 
+        if (!jwtService.isRefreshToken(claims) || claims.getId() == null) {
+            throw new TokenRefreshException(refreshToken, "리프레시 토큰이 아닙니다.");
+        }
+
+        final String username = claims.get("username", String.class);
         if (username == null) {
             throw new TokenRefreshException(refreshToken, "리프레시 토큰에 사용자 정보(이메일)가 누락되었습니다.");
         }
@@ -97,8 +105,9 @@ public class AuthService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new TokenRefreshException(refreshToken, "토큰 정보와 일치하는 사용자를 찾을 수 없습니다."));
 
-        if (!jwtService.isTokenValid(refreshToken, user.getUsername())) {
-            throw new TokenRefreshException(refreshToken, "리프레시 토큰이 만료되었거나 서명이 유효하지 않습니다.");
+        // 회전: 사용한 리프레시 토큰은 폐기. 이미 폐기된 토큰이면 재사용(탈취 가능성)이므로 거부
+        if (!tokenRevocationStore.revoke(claims.getId(), claims.getExpiration())) {
+            throw new TokenRefreshException(refreshToken, "이미 사용되었거나 폐기된 리프레시 토큰입니다.");
         }
 
         String newAccessToken = jwtService.generateToken(user);
@@ -118,12 +127,25 @@ public class AuthService {
 
         String refreshToken = request.getHeader("X-Refresh-Token");
 
-        if (accessToken == null && refreshToken == null) {
-            SecurityContextHolder.clearContext();
-            return;
-        }
+        // 두 토큰 모두 만료 시각까지 폐기
+        revoke(accessToken);
+        revoke(refreshToken);
 
         SecurityContextHolder.clearContext();
     }
 
+    private void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        try {
+            Claims claims = jwtService.verify(token);
+            if (claims.getId() != null) {
+                tokenRevocationStore.revoke(claims.getId(), claims.getExpiration());
+            }
+        } catch (AuthenticationException e) {
+            // 만료되었거나 유효하지 않은 토큰은 폐기할 필요 없음
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.madebyzino.StockFlow.service;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import com.madebyzino.StockFlow.dto.transaction.StockLineRequest;
+import com.madebyzino.StockFlow.dto.transaction.StockLinesResponse;
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.Location;
+import com.madebyzino.StockFlow.entity.Transaction;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.exception.InvalidQuantityException;
+import com.madebyzino.StockFlow.exception.ResourceNotFoundException;
+import com.madebyzino.StockFlow.repository.EntityIdAllocator;
+import com.madebyzino.StockFlow.repository.ReferenceDataRepository;
+import com.madebyzino.StockFlow.repository.mapper.InventoryStockMapper;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import com.madebyzino.StockFlow.service.ledger.LedgerAppender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 입고/출고 전표 처리.
+ * 전표의 모든 라인을 품목/위치 단위로 합산해 재고는 다중 행 문장 하나로 반영하고,
+ * 이력(Transaction)은 라인별로 한 번에 저장한다. 한 라인이라도 실패하면 전표 전체가 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class InboundOutboundService {
+
+    // 한 전표에서 처리할 수 있는 최대 라인 수
+    private static final int MAX_LINES = 5000;
+    private static final int OUT_OF_RANGE_ERROR_CODE = 1264;
+    private static final String OUT_OF_RANGE_SQL_STATE = "22003";
+
+    private final ReferenceDataRepository referenceDataRepository;
+    private final LedgerAppender ledgerAppender;
+    private final InventoryStockMapper inventoryStockMapper;
+    private final EntityIdAllocator entityIdAllocator;
+
+    // 입고: 재고 행이 없으면 추가하고 있으면 가산 (INSERT ... ON DUPLICATE KEY UPDATE)
+    @Transactional
+    public StockLinesResponse recordInbound(List<StockLineRequest> lines, AuthenticatedUser currentUser) {
+        StockLines stockLines = load(lines);
+
+        for (StockLineRequest line : lines) {
+            Location location = stockLines.locations().get(line.getLocationId());
+            if (!location.isActive()) {
+                throw new IllegalArgumentException("비활성화된 위치로는 입고할 수 없습니다. Code: " + location.getBinCode());
+            }
+        }
+
+        // 새 행이 될 수도 있으므로 id 를 미리 할당 (기존 행이면 사용되지 않고 버려짐)
+        List<InventoryQuantityChange> changes = aggregate(lines);
+        changes.forEach(change -> change.setId(entityIdAllocator.nextId(Inventory.class)));
+
+        try {
+            inventoryStockMapper.upsertIncrease(changes);
+        } catch (DataAccessException e) {
+            // 기존 수량 + 입고 수량이 int 범위를 넘으면 MySQL 이 1264(Out of range value, SQLSTATE 22003)로 거절
+            if (e.getMostSpecificCause() instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == OUT_OF_RANGE_ERROR_CODE
+                    || OUT_OF_RANGE_SQL_STATE.equals(sqlException.getSQLState()))) {
+                throw new InvalidQuantityException("입고 후 재고 수량이 허용 범위를 벗어납니다.", e);
+            }
+            throw e;
+        }
+
+        return saveTransactions(lines, stockLines, TransactionType.INBOUND, currentUser);
+    }
+
+    // 출고: 재고가 충분한 행만 차감하고, 반영된 행 수가 모자라면 부족한 라인을 찾아 예외 처리
+    @Transactional
+    public StockLinesResponse recordOutbound(List<StockLineRequest> lines, AuthenticatedUser currentUser) {
+        StockLines stockLines = load(lines);
+
+        List<InventoryQuantityChange> changes = aggregate(lines);
+        int updated = inventoryStockMapper.decreaseIfEnough(changes);
+
+        if (updated < changes.size()) {
+            throw shortage(changes, stockLines.locations());
+        }
+
+        return saveTransactions(lines, stockLines, TransactionType.OUTBOUND, currentUser);
+    }
+
+    // 1. 라인 검증 후 품목, 위치를 IN 조회로 한 번에 로딩
+    private StockLines load(List<StockLineRequest> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("처리할 라인이 없습니다.");
+        }
+        if (lines.size() > MAX_LINES) {
+            throw new IllegalArgumentException("한 전표에서 처리할 수 있는 라인은 최대 " + MAX_LINES + "개입니다.");
+        }
+
+        for (StockLineRequest line : lines) {
+            if (line.getItemId() == null || line.getLocationId() == null) {
+                throw new IllegalArgumentException("품목 ID와 위치 ID는 필수입니다.");
+            }
+            if (line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
+            }
+        }
+
+        Set<Long> itemIds = lines.stream().map(StockLineRequest::getItemId).collect(Collectors.toSet());
+        Set<Long> locationIds = lines.stream().map(StockLineRequest::getLocationId).collect(Collectors.toSet());
+
+        // 2차 캐시에 있는 품목 / 위치는 캐시에서, 나머지만 IN 조회
+        Map<Long, Item> items = referenceDataRepository.findAllById(Item.class, itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, Location> locations = referenceDataRepository.findAllById(Location.class, locationIds).stream()
+                .collect(Collectors.toMap(Location::getId, Function.identity()));
+
+        for (Long itemId : itemIds) {
+            if (!items.containsKey(itemId)) {
+                throw new ResourceNotFoundException("품목을 찾을 수 없습니다. ID: " + itemId);
+            }
+        }
+        for (Long locationId : locationIds) {
+            if (!locations.containsKey(locationId)) {
+                throw new ResourceNotFoundException("위치를 찾을 수 없습니다. ID: " + locationId);
+            }
+        }
+
+        return new StockLines(items, locations);
+    }
+
+    // 같은 품목/위치의 라인은 수량을 합산해 한 행으로 반영
+    private List<InventoryQuantityChange> aggregate(List<StockLineRequest> lines) {
+        Map<String, InventoryQuantityChange> merged = new LinkedHashMap<>();
+        for (StockLineRequest line : lines) {
+            merged.merge(line.getItemId() + ":" + line.getLocationId(),
+                    new InventoryQuantityChange(line.getItemId(), line.getLocationId(), line.getQuantity()),
+                    (a, b) -> new InventoryQuantityChange(a.getItemId(), a.getLocationId(),
+                            addQuantity(a, b)));
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    // 합산 결과가 int 범위를 넘으면 요청 오류(400)로 처리
+    private static int addQuantity(InventoryQuantityChange a, InventoryQuantityChange b) {
+        try {
+            return Math.addExact(a.getQuantity(), b.getQuantity());
+        } catch (ArithmeticException e) {
+            throw new InvalidQuantityException("같은 품목/위치의 수량 합계가 허용 범위를 벗어났습니다. 품목 ID: " + a.getItemId(), e);
+        }
+    }
+
+    private IllegalStateException shortage(List<InventoryQuantityChange> changes, Map<Long, Location> locations) {
+        Map<String, Integer> current = inventoryStockMapper.findQuantities(changes).stream()
+                .collect(Collectors.toMap(c -> c.getItemId() + ":" + c.getLocationId(),
+                        InventoryQuantityChange::getQuantity, (a, b) -> a));
+
+        return changes.stream()
+                .filter(change -> current.getOrDefault(change.getItemId() + ":" + change.getLocationId(), 0)
+                        < change.getQuantity())
+                .findFirst()
+                .map(change -> new IllegalStateException("출고 위치(" + locations.get(change.getLocationId()).getBinCode()
+                        + ")의 재고가 부족합니다. 품목 ID: " + change.getItemId()))
+                .orElseGet(() -> new IllegalStateException("출고 처리 중 재고가 변경되었습니다. 다시 시도해주세요."));
+    }
+
+    // 라인별 이력을 한 번에 저장
+    private StockLinesResponse saveTransactions(List<StockLineRequest> lines, StockLines stockLines,
+                                                TransactionType type, AuthenticatedUser currentUser) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>(lines.size());
+
+        for (StockLineRequest line : lines) {
+            Location location = stockLines.locations().get(line.getLocationId());
+            transactions.add(Transaction.builder()
+                    .item(stockLines.items().get(line.getItemId()))
+                    .fromLocation(type == TransactionType.OUTBOUND ? location : null)
+                    .toLocation(type == TransactionType.INBOUND ? location : null)
+                    .type(type)
+                    .quantity(line.getQuantity())
+                    .transactionDate(now)
+                    .userId(currentUser.getId())
+                    .notes(line.getNotes())
+                    .build());
+        }
+
+        List<Transaction> saved = ledgerAppender.appendAll(transactions);
+
+        return StockLinesResponse.builder()
+                .type(type)
+                .lineCount(lines.size())
+                .totalQuantity(lines.stream().mapToLong(StockLineRequest::getQuantity).sum())
+                .transactionIds(saved.stream().map(Transaction::getId).toList())
+                .build();
+    }
+
+    private record StockLines(Map<Long, Item> items, Map<Long, Location> locations) {
+    }
+}
@@ -1,30 +1,48 @@
 package com.madebyzino.StockFlow.service;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.item.ItemRegistrationRequest;
 import com.madebyzino.StockFlow.dto.item.ItemResponse;
 import com.madebyzino.StockFlow.dto.item.ItemSearchCondition;
+import com.madebyzino.StockFlow.dto.item.ItemSort;
 import com.madebyzino.StockFlow.dto.item.ItemSummaryResponse;
 import com.madebyzino.StockFlow.entity.Category;
 import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.ItemStockSummary;
 import com.madebyzino.StockFlow.exception.ResourceNotFoundException;
 import com.madebyzino.StockFlow.repository.CategoryRepository;
-import com.madebyzino.StockFlow.repository.InventoryRepository;
+import com.madebyzino.StockFlow.repository.CountScope;
 import com.madebyzino.StockFlow.repository.ItemQueryRepository;
 import com.madebyzino.StockFlow.repository.ItemRepository;
+import com.madebyzino.StockFlow.repository.ItemSearchIndex;
+import com.madebyzino.StockFlow.repository.ItemStockSummaryRepository;
+import com.madebyzino.StockFlow.repository.SearchCounter;
+import com.madebyzino.StockFlow.service.alert.SafetyStockAlertEngine;
+import com.madebyzino.StockFlow.service.dashboard.DashboardRollupService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemService {
 
+    // 커서 모드 한 페이지 최대 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ItemRepository itemRepository;
     private final CategoryRepository categoryRepository;
-    private final InventoryRepository inventoryRepository;
+    private final ItemStockSummaryRepository itemStockSummaryRepository;
     private final ItemQueryRepository itemQueryRepository;
+    private final SearchCounter searchCounter;
+    private final ItemSearchIndex itemSearchIndex;
+    private final DashboardRollupService dashboardRollupService;
+    private final SafetyStockAlertEngine safetyStockAlertEngine;
 
 
     @Transactional(readOnly = true)
@@ -49,11 +67,16 @@ public class ItemService {
                 .sku("")
                 .build();
 
+        // pooled 시퀀스로 id 만 먼저 할당되고 INSERT 는 flush 시점에 SKU 와 함께 한 번만 실행됨
         Item savedItem = itemRepository.save(newItem);
 
         String sku = generateSku(category.getCode(), savedItem.getId());
         savedItem.setSku(sku);
 
+        itemSearchIndex.index(savedItem);
+        searchCounter.invalidate(CountScope.ITEM);
+        dashboardRollupService.onItemsRegistered(1);
+        safetyStockAlertEngine.itemsChanged(List.of(savedItem.getId()));
         return savedItem;
     }
 
@@ -71,6 +94,11 @@ public class ItemService {
             updatedSku = generateSku(newCategory.getCode(), item.getId());
         }
 
+        // 단가가 바뀌면 현재 재고만큼 자산 가치 차이를 반영 (엔티티 변경이 flush 되기 전에 품목을 잠금)
+        if (item.getPrice() != dto.getPrice()) {
+            dashboardRollupService.onItemPriceChanging(itemId, dto.getPrice());
+        }
+
         item.updateInfo(
                 dto.getName(),
                 dto.getSafetyStock(),
@@ -78,13 +106,18 @@ public class ItemService {
                 newCategory,
                 updatedSku
         );
+        itemSearchIndex.index(item);
+        searchCounter.invalidate(CountScope.ITEM);
+        safetyStockAlertEngine.itemsChanged(List.of(itemId));
 
         return item;
     }
 
     @Transactional
     public void deleteItem(Long itemId) {
-        Long totalStock = inventoryRepository.countTotalQuantityByItemId(itemId);
+        long totalStock = itemStockSummaryRepository.findById(itemId)
+                .map(ItemStockSummary::getTotalQuantity)
+                .orElse(0L);
 
         if (totalStock > 0) {
             throw new IllegalStateException("재고가 남아 있는 품목은 삭제할 수 없습니다. 현재 재고 수량: " + totalStock);
@@ -94,11 +127,25 @@ public class ItemService {
                 .orElseThrow(() -> new ResourceNotFoundException("해당 상품이 존재하지 않습니다 : " + itemId));
 
         itemRepository.delete(item);
+        itemStockSummaryRepository.deleteById(itemId);
+        itemSearchIndex.remove(itemId);
+        dashboardRollupService.onItemDeleted();
+        safetyStockAlertEngine.itemsChanged(List.of(itemId));
+
+        searchCounter.invalidate(CountScope.ITEM);
+        searchCounter.invalidate(CountScope.INVENTORY);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ItemSummaryResponse> searchItems(ItemSearchCondition condition, Pageable pageable, CountMode countMode) {
+        return itemQueryRepository.searchItemsWithInventory(condition, pageable, countMode);
     }
 
     @Transactional(readOnly = true)
-    public Page<ItemSummaryResponse> searchItems(ItemSearchCondition condition, Pageable pageable) {
-        return itemQueryRepository.searchItemsWithInventory(condition, pageable);
+    public CursorPage<ItemSummaryResponse> searchItems(ItemSearchCondition condition, ItemSort sort,
+                                                       boolean descending, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return itemQueryRepository.searchItemsByCursor(condition, sort, descending, cursor, pageSize);
     }
 
     private String generateSku(String categoryCode, Long itemId) {
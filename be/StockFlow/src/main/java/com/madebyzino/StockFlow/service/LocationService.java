@@ -4,15 +4,20 @@ import com.madebyzino.StockFlow.dto.location.ItemInLocationResponse;
 import com.madebyzino.StockFlow.dto.location.LocationDetailResponse;
 import com.madebyzino.StockFlow.dto.location.LocationRequest;
 import com.madebyzino.StockFlow.dto.location.LocationResponse;
+import com.madebyzino.StockFlow.dto.location.LocationUtilizationResponse;
 import com.madebyzino.StockFlow.entity.Inventory;
 import com.madebyzino.StockFlow.entity.Location;
 import com.madebyzino.StockFlow.repository.InventoryRepository;
 import com.madebyzino.StockFlow.repository.LocationQueryRepository;
 import com.madebyzino.StockFlow.repository.LocationRepository;
+import com.madebyzino.StockFlow.repository.ReferenceDataRepository;
+import com.madebyzino.StockFlow.service.dashboard.DashboardRollupService;
+import com.madebyzino.StockFlow.service.occupancy.LocationOccupancyIndex;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +33,9 @@ public class LocationService {
     private final LocationRepository locationRepository;
     private final LocationQueryRepository locationQueryRepository;
     private final InventoryRepository inventoryRepository;
+    private final DashboardRollupService dashboardRollupService;
+    private final LocationOccupancyIndex locationOccupancyIndex;
+    private final ReferenceDataRepository referenceDataRepository;
 
     // 1. 위치 등록
     @Transactional
@@ -44,7 +52,11 @@ public class LocationService {
                 .isActive(request.getIsActive())
                 .build();
 
-        return LocationResponse.of(locationRepository.save(newLocation));
+        Location savedLocation = locationRepository.save(newLocation);
+        dashboardRollupService.onLocationActiveChanged(savedLocation.getId(), savedLocation.isActive());
+        locationOccupancyIndex.locationsChanged(List.of(savedLocation.getId()));
+
+        return LocationResponse.of(savedLocation);
     }
 
     // 2. 위치 수정
@@ -63,6 +75,11 @@ public class LocationService {
                 });
 
         location.update(request.getCenterName(), request.getZone(), request.getBinCode(), request.getIsActive());
+
+        // 위치 변경을 먼저 반영해 위치 → 보유 현황 순으로 잠금 (재고 변동과 같은 순서)
+        locationRepository.flush();
+        dashboardRollupService.onLocationActiveChanged(id, location.isActive());
+        locationOccupancyIndex.locationsChanged(List.of(id));
         return LocationResponse.of(location);
     }
 
@@ -106,6 +123,10 @@ public class LocationService {
 
         location.toggleActive();
 
+        locationRepository.flush();
+        dashboardRollupService.onLocationActiveChanged(id, location.isActive());
+        locationOccupancyIndex.locationsChanged(List.of(id));
+
         return LocationResponse.of(location);
     }
 
@@ -129,4 +150,24 @@ public class LocationService {
 
         return locations.map(LocationResponse::of);
     }
-}
\ No newline at end of file
+
+    // 8. 재고가 없는 활성 위치 조회 (점유 비트맵 색인으로 id 를 구한 뒤 해당 페이지만 로딩, id 순)
+    public Page<LocationResponse> searchEmptyLocations(String centerName, String zone, Pageable pageable) {
+        LocationOccupancyIndex.EmptyLocations empty = locationOccupancyIndex.findEmptyLocationIds(
+                emptyToNull(centerName), emptyToNull(zone), pageable.getOffset(), pageable.getPageSize());
+
+        List<LocationResponse> content = referenceDataRepository.findAllById(Location.class, empty.locationIds()).stream()
+                .map(LocationResponse::of)
+                .toList();
+        return new PageImpl<>(content, pageable, empty.total());
+    }
+
+    // 9. 센터 / 구역별 공간 활용률
+    public List<LocationUtilizationResponse> getUtilization(String centerName, String zone) {
+        return locationOccupancyIndex.getUtilization(emptyToNull(centerName), emptyToNull(zone));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
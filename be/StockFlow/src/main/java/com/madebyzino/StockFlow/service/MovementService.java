@@ -1,77 +1,204 @@
 package com.madebyzino.StockFlow.service;
 
+import com.madebyzino.StockFlow.dto.inventory.MovementBatchResponse;
+import com.madebyzino.StockFlow.dto.inventory.MovementLineResult;
 import com.madebyzino.StockFlow.dto.inventory.MovementRequest;
 import com.madebyzino.StockFlow.entity.Inventory;
 import com.madebyzino.StockFlow.entity.Item;
 import com.madebyzino.StockFlow.entity.Location;
 import com.madebyzino.StockFlow.entity.Transaction;
-import com.madebyzino.StockFlow.entity.user.User;
 import com.madebyzino.StockFlow.exception.MovementException;
 import com.madebyzino.StockFlow.exception.ResourceNotFoundException;
 import com.madebyzino.StockFlow.repository.InventoryRepository;
 import com.madebyzino.StockFlow.repository.ItemRepository;
-import com.madebyzino.StockFlow.repository.LocationRepository;
-import com.madebyzino.StockFlow.repository.TransactionRepository;
+import com.madebyzino.StockFlow.repository.ReferenceDataRepository;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import com.madebyzino.StockFlow.service.concurrency.StockConcurrencyStrategy;
+import com.madebyzino.StockFlow.service.concurrency.StockTransferBatch;
+import com.madebyzino.StockFlow.service.ledger.LedgerAppender;
 import lombok.RequiredArgsConstructor;
-import org.apache.coyote.BadRequestException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MovementService {
 
+    // 한 번의 일괄 이동 요청에서 처리할 수 있는 최대 라인 수
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final InventoryRepository inventoryRepository;
-    private final LocationRepository locationRepository;
-    private final TransactionRepository transactionRepository;
+    private final ReferenceDataRepository referenceDataRepository;
+    private final LedgerAppender ledgerAppender;
     private final ItemRepository itemRepository;
+    private final StockConcurrencyStrategy concurrencyStrategy;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public void recordMovement(MovementRequest request, User currentUser) {
+    // 트랜잭션 경계는 동시성 전략이 재시도할 수 있도록 TransactionTemplate 으로 직접 관리
+    public void recordMovement(MovementRequest request, AuthenticatedUser currentUser) {
         // 1. 기본 검증
-        if (request.getQuantity() <= 0) {
-            throw new MovementException("이동 수량은 0보다 커야 합니다.");
+        validate(request);
+
+        concurrencyStrategy.execute(() -> transactionTemplate.execute(status -> {
+            move(request, currentUser);
+            return null;
+        }));
+    }
+
+    // 여러 건의 이동을 한 트랜잭션에서 처리하고 라인별 결과를 반환
+    public MovementBatchResponse recordMovements(List<MovementRequest> requests, AuthenticatedUser currentUser) {
+        if (requests == null || requests.isEmpty()) {
+            throw new MovementException("이동 요청이 비어 있습니다.");
         }
-        if (request.getFromBinCode().equals(request.getToBinCode())) {
-            throw new MovementException("출발지와 도착지 위치 코드가 동일할 수 없습니다.");
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new MovementException("한 번에 처리할 수 있는 이동 요청은 최대 " + MAX_BATCH_SIZE + "건입니다.");
         }
 
+        return concurrencyStrategy.execute(() -> transactionTemplate.execute(status -> moveAll(requests, currentUser)));
+    }
+
+    private void move(MovementRequest request, AuthenticatedUser currentUser) {
         // 2. Item, Location 엔티티 조회
+        // 2차 캐시 (품목은 id, 위치는 binCode 자연 키)
         Item item = itemRepository.findById(request.getItemId())
                 .orElseThrow(() -> new ResourceNotFoundException("품목을 찾을 수 없습니다. ID: " + request.getItemId()));
 
-        Location fromLocation = locationRepository.findByBinCode(request.getFromBinCode())
+        Location fromLocation = referenceDataRepository.findLocationByBinCode(request.getFromBinCode())
                 .orElseThrow(() -> new MovementException("출발 위치를 찾을 수 없습니다. Code: " + request.getFromBinCode()));
 
-        Location toLocation = locationRepository.findByBinCode(request.getToBinCode())
+        Location toLocation = referenceDataRepository.findLocationByBinCode(request.getToBinCode())
                 .orElseThrow(() -> new MovementException("도착 위치를 찾을 수 없습니다. Code: " + request.getToBinCode()));
 
-        // 3. 재고 차감 (출발지)
+        // 3. 재고 조회 (출발지 / 도착지)
         Inventory fromInventory = inventoryRepository.findByItemAndLocation(item, fromLocation)
                 .orElseThrow(() -> new ResourceNotFoundException("출발지에 해당 품목 재고가 없습니다."));
 
-        if (fromInventory.getQuantity() < request.getQuantity()) {
-            throw new MovementException("출발지(" + fromLocation.getBinCode() + ")의 재고가 부족합니다.");
+        Inventory toInventory = inventoryRepository.findByItemAndLocation(item, toLocation)
+                .orElseGet(() -> Inventory.builder()
+                        .item(item)
+                        .location(toLocation)
+                        .quantity(0) // 새 위치의 초기 재고는 0
+                        .build());
+
+        // 4. 전략에 따라 재고 행을 확보한 뒤 출발지 차감, 도착지 가산
+        concurrencyStrategy.acquire(List.of(fromInventory, toInventory));
+        concurrencyStrategy.transfer(fromInventory, toInventory, request.getQuantity());
+
+        // 5. Transaction 기록
+        ledgerAppender.append(buildTransaction(request, item, fromLocation, toLocation, currentUser));
+    }
+
+    private MovementBatchResponse moveAll(List<MovementRequest> requests, AuthenticatedUser currentUser) {
+        // 1. 품목, 위치, 재고를 IN 조회로 한 번에 로딩
+        Set<Long> itemIds = requests.stream()
+                .map(MovementRequest::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Set<String> binCodes = new HashSet<>();
+        for (MovementRequest request : requests) {
+            if (request.getFromBinCode() != null) binCodes.add(request.getFromBinCode());
+            if (request.getToBinCode() != null) binCodes.add(request.getToBinCode());
         }
 
-         fromInventory.removeStock(request.getQuantity());
+        Map<Long, Item> items = referenceDataRepository.findAllById(Item.class, itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
 
-        Inventory toInventory = inventoryRepository.findByItemAndLocation(item, toLocation)
-                .orElseGet(() -> Inventory.builder()
+        Map<String, Location> locations = binCodes.isEmpty() ? Map.of() :
+                referenceDataRepository.findLocationsByBinCodes(binCodes).stream()
+                        .collect(Collectors.toMap(Location::getBinCode, Function.identity()));
+
+        Map<InventoryKey, Inventory> inventories = new HashMap<>();
+        if (!items.isEmpty() && !locations.isEmpty()) {
+            Set<Long> locationIds = locations.values().stream().map(Location::getId).collect(Collectors.toSet());
+            for (Inventory inventory : inventoryRepository.findByItemIdsAndLocationIds(items.keySet(), locationIds)) {
+                inventories.put(InventoryKey.of(inventory.getItem(), inventory.getLocation()), inventory);
+            }
+        }
+
+        // 2. 전략에 따라 재고 행을 확보 (비관적 락이면 id 오름차순으로 한 번에 잠금)
+        concurrencyStrategy.acquire(inventories.values());
+
+        // 3. 라인별 적용 (요청 순서대로 반영하므로 앞 라인의 결과가 뒤 라인에 반영됨)
+        StockTransferBatch batch = concurrencyStrategy.newBatch();
+        List<MovementLineResult> results = new ArrayList<>(requests.size());
+        List<Transaction> transactions = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            MovementRequest request = requests.get(index);
+            try {
+                validate(request);
+
+                Item item = items.get(request.getItemId());
+                if (item == null) {
+                    throw new ResourceNotFoundException("품목을 찾을 수 없습니다. ID: " + request.getItemId());
+                }
+                Location fromLocation = locations.get(request.getFromBinCode());
+                if (fromLocation == null) {
+                    throw new MovementException("출발 위치를 찾을 수 없습니다. Code: " + request.getFromBinCode());
+                }
+                Location toLocation = locations.get(request.getToBinCode());
+                if (toLocation == null) {
+                    throw new MovementException("도착 위치를 찾을 수 없습니다. Code: " + request.getToBinCode());
+                }
+
+                InventoryKey fromKey = InventoryKey.of(item, fromLocation);
+                Inventory fromInventory = inventories.get(fromKey);
+                if (fromInventory == null) {
+                    throw new ResourceNotFoundException("출발지에 해당 품목 재고가 없습니다.");
+                }
+
+                InventoryKey toKey = InventoryKey.of(item, toLocation);
+                Inventory toInventory = inventories.computeIfAbsent(toKey, key -> Inventory.builder()
                         .item(item)
                         .location(toLocation)
                         .quantity(0) // 새 위치의 초기 재고는 0
                         .build());
 
-        toInventory.addStock(request.getQuantity());
+                batch.transfer(fromInventory, toInventory, request.getQuantity());
+
+                transactions.add(buildTransaction(request, item, fromLocation, toLocation, currentUser));
+                results.add(MovementLineResult.success(index));
+            } catch (MovementException | ResourceNotFoundException e) {
+                results.add(MovementLineResult.failure(index, e.getMessage()));
+            }
+        }
+
+        // 4. 모아 둔 재고 변경 반영 (atomic 전략은 행별 합계를 id 오름차순으로 UPDATE)
+        batch.flush();
+
+        // 5. 이력을 한 번에 저장
+        ledgerAppender.appendAll(transactions);
+
+        return MovementBatchResponse.of(results);
+    }
 
-        inventoryRepository.save(fromInventory);
-        inventoryRepository.save(toInventory);
+    private void validate(MovementRequest request) {
+        if (request.getQuantity() <= 0) {
+            throw new MovementException("이동 수량은 0보다 커야 합니다.");
+        }
+        if (request.getFromBinCode() == null || request.getToBinCode() == null) {
+            throw new MovementException("출발지와 도착지 위치 코드는 필수입니다.");
+        }
+        if (request.getFromBinCode().equals(request.getToBinCode())) {
+            throw new MovementException("출발지와 도착지 위치 코드가 동일할 수 없습니다.");
+        }
+    }
 
-        // 6. Transaction 기록
-        Transaction transaction = Transaction.builder()
+    private Transaction buildTransaction(MovementRequest request, Item item, Location fromLocation,
+                                         Location toLocation, AuthenticatedUser currentUser) {
+        return Transaction.builder()
                 .item(item)
                 .fromLocation(fromLocation) // 출발지 기록
                 .toLocation(toLocation)     // 도착지 기록
@@ -81,7 +208,11 @@ public class MovementService {
                 .userId(currentUser.getId())
                 .notes(request.getNotes())
                 .build();
+    }
 
-        transactionRepository.save(transaction);
+    private record InventoryKey(Long itemId, Long locationId) {
+        static InventoryKey of(Item item, Location location) {
+            return new InventoryKey(item.getId(), location.getId());
+        }
     }
-}
\ No newline at end of file
+}
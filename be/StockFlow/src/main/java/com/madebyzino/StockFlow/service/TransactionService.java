@@ -1,20 +1,32 @@
 package com.madebyzino.StockFlow.service;
 
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.CursorPage;
 import com.madebyzino.StockFlow.dto.transaction.TransactionHistoryResponse;
 import com.madebyzino.StockFlow.dto.transaction.TransactionSearchCondition;
 import com.madebyzino.StockFlow.repository.TransactionQueryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
+    // 커서 모드 한 페이지 최대 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TransactionQueryRepository transactionQueryRepository;
 
-    public Page<TransactionHistoryResponse> searchTransactionHistory(TransactionSearchCondition condition, Pageable pageable) {
-        return transactionQueryRepository.searchTransactions(condition, pageable);
+    public Slice<TransactionHistoryResponse> searchTransactionHistory(TransactionSearchCondition condition, Pageable pageable,
+                                                                      CountMode countMode) {
+        return transactionQueryRepository.searchTransactions(condition, pageable, countMode);
+    }
+
+    public CursorPage<TransactionHistoryResponse> searchTransactionHistory(TransactionSearchCondition condition,
+                                                                           String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return transactionQueryRepository.searchTransactionsByCursor(condition, cursor, pageSize);
     }
 }
\ No newline at end of file
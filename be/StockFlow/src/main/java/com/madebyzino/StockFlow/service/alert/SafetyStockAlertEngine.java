@@ -0,0 +1,195 @@
+package com.madebyzino.StockFlow.service.alert;
+
+import com.madebyzino.StockFlow.dto.inventory.ItemStockLevel;
+import com.madebyzino.StockFlow.dto.inventory.SafetyStockAlertEvent;
+import com.madebyzino.StockFlow.dto.inventory.SafetyStockAlertResponse;
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.repository.mapper.ItemStockSummaryMapper;
+import com.madebyzino.StockFlow.service.outbox.StockChangeSubscriber;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 안전 재고 미달 품목 집합을 메모리에 유지한다.
+ * 재고 변동(아웃박스 이벤트)과 품목 등록 / 수정 / 삭제가 생기면 해당 품목만 다시 판정하고,
+ * 미달로 떨어지거나 회복되면 SafetyStockAlertEvent 를 발행한다.
+ * 판정은 증감이 아니라 현재 총 재고(item_stock_summary) 기준이므로 같은 이벤트를 다시 받아도 결과가 같다.
+ * 다른 인스턴스의 품목 변경은 주기적인 재구성으로 반영한다.
+ */
+@Slf4j
+@Component
+public class SafetyStockAlertEngine implements StockChangeSubscriber {
+
+    // 한 번에 조회할 품목 수
+    private static final int REFRESH_CHUNK = 1000;
+
+    private final ItemStockSummaryMapper itemStockSummaryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, SafetyStockAlertResponse> below = new ConcurrentHashMap<>();
+    // 판정 / 재구성은 한 번에 하나씩 (조회 결과가 늦게 반영되어 최신 판정을 덮어쓰지 않도록)
+    private final Object mutex = new Object();
+
+    public SafetyStockAlertEngine(ItemStockSummaryMapper itemStockSummaryMapper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.itemStockSummaryMapper = itemStockSummaryMapper;
+        this.eventPublisher = eventPublisher;
+
+        Gauge.builder("stockflow.safety.stock.alerts", below, Map::size)
+                .description("안전 재고 미달 품목 수")
+                .register(meterRegistry);
+    }
+
+    // 부족 수량이 큰 순
+    public List<SafetyStockAlertResponse> getAlerts() {
+        return below.values().stream()
+                .sorted(Comparator.comparingLong(SafetyStockAlertResponse::getShortage).reversed()
+                        .thenComparing(SafetyStockAlertResponse::getItemId))
+                .toList();
+    }
+
+    public int count() {
+        return below.size();
+    }
+
+    @Override
+    public String name() {
+        return "safety-stock-alert";
+    }
+
+    @Override
+    public void onEvents(List<StockChangeEvent> events) {
+        Set<Long> itemIds = new LinkedHashSet<>();
+        for (StockChangeEvent event : events) {
+            itemIds.add(event.getItemId());
+        }
+        refresh(itemIds);
+    }
+
+    @Override
+    public boolean durable() {
+        return false;
+    }
+
+    // 품목 등록 / 수정(안전 재고 변경) / 삭제 후 호출 (트랜잭션 안이면 커밋 후 판정)
+    public void itemsChanged(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        List<Long> changed = List.copyOf(itemIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshQuietly(changed);
+                }
+            });
+            return;
+        }
+        refreshQuietly(changed);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild(false);
+    }
+
+    @Scheduled(cron = "${stockflow.safety-stock-alert.rebuild-cron:0 */5 * * * *}")
+    public void scheduledRebuild() {
+        rebuild(true);
+    }
+
+    // 전체 미달 품목을 다시 조회해 교체 (publish 가 true 면 달라진 품목의 알림도 발행)
+    public void rebuild(boolean publish) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            synchronized (mutex) {
+                Map<Long, SafetyStockAlertResponse> current = new HashMap<>();
+                for (ItemStockLevel level : itemStockSummaryMapper.findBelowSafetyStock()) {
+                    current.put(level.getItemId(), SafetyStockAlertResponse.from(level));
+                }
+
+                for (SafetyStockAlertResponse previous : List.copyOf(below.values())) {
+                    if (!current.containsKey(previous.getItemId())) {
+                        below.remove(previous.getItemId());
+                        if (publish) {
+                            publish(SafetyStockAlertEvent.Type.RECOVERED, previous);
+                        }
+                    }
+                }
+                current.forEach((itemId, alert) -> {
+                    if (below.put(itemId, alert) == null && publish) {
+                        publish(SafetyStockAlertEvent.Type.BELOW, alert);
+                    }
+                });
+            }
+            log.debug("안전 재고 알림 재구성 완료. alerts={}, elapsedMs={}", below.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("안전 재고 알림 재구성 실패. 기존 알림 목록을 계속 사용합니다.", e);
+        }
+    }
+
+    private void refreshQuietly(Collection<Long> itemIds) {
+        try {
+            refresh(itemIds);
+        } catch (RuntimeException e) {
+            // 다음 재구성에서 반영
+            log.warn("안전 재고 알림 갱신 실패. itemIds={}", itemIds.size(), e);
+        }
+    }
+
+    private void refresh(Collection<Long> itemIds) {
+        List<Long> ids = new ArrayList<>(itemIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK, ids.size()));
+
+            synchronized (mutex) {
+                Map<Long, ItemStockLevel> levels = new HashMap<>();
+                for (ItemStockLevel level : itemStockSummaryMapper.findStockLevels(chunk)) {
+                    levels.put(level.getItemId(), level);
+                }
+
+                for (Long itemId : chunk) {
+                    ItemStockLevel level = levels.get(itemId);
+                    if (level != null && level.isBelowSafetyStock()) {
+                        SafetyStockAlertResponse alert = SafetyStockAlertResponse.from(level);
+                        if (below.put(itemId, alert) == null) {
+                            publish(SafetyStockAlertEvent.Type.BELOW, alert);
+                        }
+                    } else {
+                        // 회복되었거나 삭제된 품목
+                        SafetyStockAlertResponse previous = below.remove(itemId);
+                        if (previous != null) {
+                            publish(SafetyStockAlertEvent.Type.RECOVERED,
+                                    level != null ? SafetyStockAlertResponse.from(level) : previous);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void publish(SafetyStockAlertEvent.Type type, SafetyStockAlertResponse alert) {
+        eventPublisher.publishEvent(new SafetyStockAlertEvent(type, alert, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.madebyzino.StockFlow.service.alert;
+
+import com.madebyzino.StockFlow.dto.inventory.SafetyStockAlertEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 안전 재고 알림을 연결된 웹소켓 세션 전체에 JSON 으로 전달한다 (클라이언트 → 서버 메시지는 받지 않음).
+ * 느린 클라이언트가 다른 세션 전송을 막지 않도록 세션마다 전송 시간 / 버퍼 한도를 둔다.
+ */
+@Slf4j
+@Component
+public class SafetyStockAlertWebSocketHandler extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public SafetyStockAlertWebSocketHandler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(session.getId(),
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+    }
+
+    @EventListener
+    public void onAlert(SafetyStockAlertEvent event) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        TextMessage message = new TextMessage(objectMapper.writeValueAsString(event));
+        for (WebSocketSession session : sessions.values()) {
+            try {
+                session.sendMessage(message);
+            } catch (Exception e) {
+                log.debug("안전 재고 알림 전송 실패, 세션을 닫습니다. session={}", session.getId(), e);
+                sessions.remove(session.getId());
+                closeQuietly(session);
+            }
+        }
+    }
+
+    private static void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception ignored) {
+            // 이미 닫힘
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.exception.MovementException;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 기본 전략. 잠금 없이 조건부 UPDATE만으로 수량을 변경한다.
+ * 두 행의 UPDATE를 항상 id 오름차순으로 실행해 반대 방향 이동끼리 교착되지 않도록 한다.
+ * 일괄 이동은 라인별 변경을 재고 행 단위로 합산한 뒤 id 오름차순으로 한 번씩 UPDATE 하므로
+ * 같은 행을 다른 순서로 건드리는 일괄 이동끼리도 교착되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "stockflow.movement.concurrency", havingValue = "atomic", matchIfMissing = true)
+public class AtomicStockConcurrencyStrategy implements StockConcurrencyStrategy {
+
+    private final InventoryRepository inventoryRepository;
+    private final int maxAttempts;
+
+    public AtomicStockConcurrencyStrategy(
+            InventoryRepository inventoryRepository,
+            @Value("${stockflow.movement.atomic.max-attempts:3}") int maxAttempts
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    // 일괄 이동 중 다른 요청이 먼저 재고를 줄여 합산한 차감이 반영되지 않으면 트랜잭션 전체를 다시 시도
+    @Override
+    public <T> T execute(Supplier<T> attempt) {
+        for (int tryCount = 1; ; tryCount++) {
+            try {
+                return attempt.get();
+            } catch (StockChangedException e) {
+                if (tryCount >= maxAttempts) {
+                    throw new MovementException("동시 변경이 많아 재고 이동에 실패했습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void transfer(Inventory fromInventory, Inventory toInventory, int quantity) {
+        // 도착지 재고가 없는 경우 출발지만 차감하고 새 행을 추가
+        if (toInventory.getId() == null) {
+            decrease(fromInventory, quantity);
+            toInventory.setQuantity(quantity);
+            inventoryRepository.save(toInventory);
+            return;
+        }
+
+        if (fromInventory.getId() < toInventory.getId()) {
+            decrease(fromInventory, quantity);
+            inventoryRepository.addQuantity(toInventory.getId(), quantity);
+        } else {
+            inventoryRepository.addQuantity(toInventory.getId(), quantity);
+            if (inventoryRepository.addQuantity(fromInventory.getId(), -quantity) == 0) {
+                // 일괄 이동에서는 실패한 라인만 건너뛰므로 먼저 반영한 가산을 되돌린다
+                inventoryRepository.addQuantity(toInventory.getId(), -quantity);
+                throw shortage(fromInventory);
+            }
+        }
+    }
+
+    @Override
+    public StockTransferBatch newBatch() {
+        return new AggregatingBatch();
+    }
+
+    private void decrease(Inventory inventory, int quantity) {
+        if (inventoryRepository.addQuantity(inventory.getId(), -quantity) == 0) {
+            throw shortage(inventory);
+        }
+    }
+
+    private static MovementException shortage(Inventory inventory) {
+        return new MovementException("출발지(" + inventory.getLocation().getBinCode() + ")의 재고가 부족합니다.");
+    }
+
+    /**
+     * 라인별 재고 부족은 트랜잭션에서 읽은 수량 + 앞 라인들의 변경으로 판단하고, 변경은 행별 합계로 모아 둔다.
+     * flush 에서 기존 행은 id 오름차순으로 조건부 UPDATE 하고, 새 재고 행은 마지막에 추가한다.
+     * 읽은 뒤 다른 요청이 재고를 줄여 조건부 UPDATE 가 실패하면 StockChangedException 으로 전체를 다시 시도한다.
+     */
+    private final class AggregatingBatch implements StockTransferBatch {
+
+        // 같은 (품목, 위치) 재고는 한 엔티티로 전달되므로 엔티티 기준으로 합산 (새 행은 id 가 없음)
+        private final Map<Inventory, Integer> deltas = new IdentityHashMap<>();
+        private final List<Inventory> created = new ArrayList<>();
+
+        @Override
+        public void transfer(Inventory fromInventory, Inventory toInventory, int quantity) {
+            int available = fromInventory.getQuantity() + deltas.getOrDefault(fromInventory, 0);
+            if (available < quantity) {
+                throw shortage(fromInventory);
+            }
+
+            if (toInventory.getId() == null && !deltas.containsKey(toInventory)) {
+                created.add(toInventory);
+            }
+            deltas.merge(fromInventory, -quantity, Integer::sum);
+            deltas.merge(toInventory, quantity, Integer::sum);
+        }
+
+        @Override
+        public void flush() {
+            // 1. 기존 재고 행: 모든 일괄 이동이 같은 순서로 잠그므로 교착되지 않음
+            List<Map.Entry<Inventory, Integer>> updates = deltas.entrySet().stream()
+                    .filter(entry -> entry.getKey().getId() != null && entry.getValue() != 0)
+                    .sorted(Comparator.comparing(entry -> entry.getKey().getId()))
+                    .toList();
+            for (Map.Entry<Inventory, Integer> update : updates) {
+                if (inventoryRepository.addQuantity(update.getKey().getId(), update.getValue()) == 0) {
+                    throw new StockChangedException();
+                }
+            }
+
+            // 2. 새 재고 행 (이 배치에서 다시 옮겨 나간 수량을 뺀 값으로 추가)
+            for (Inventory inventory : created) {
+                inventory.setQuantity(deltas.get(inventory));
+                inventoryRepository.save(inventory);
+            }
+        }
+    }
+
+    // 트랜잭션을 롤백하고 execute 에서 다시 시도하기 위한 신호
+    private static final class StockChangedException extends RuntimeException {
+
+        StockChangedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.exception.MovementException;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔티티의 수량을 직접 변경하고 변경 감지로 반영하는 전략의 공통 부분.
+ * 잠금(비관적) 또는 버전 검사(낙관적)는 하위 클래스가 담당한다.
+ */
+@RequiredArgsConstructor
+public abstract class EntityStockConcurrencyStrategy implements StockConcurrencyStrategy {
+
+    protected final InventoryRepository inventoryRepository;
+
+    @Override
+    public void transfer(Inventory fromInventory, Inventory toInventory, int quantity) {
+        try {
+            fromInventory.removeStock(quantity);
+        } catch (IllegalStateException e) {
+            throw new MovementException("출발지(" + fromInventory.getLocation().getBinCode() + ")의 재고가 부족합니다.");
+        }
+
+        toInventory.addStock(quantity);
+
+        if (toInventory.getId() == null) {
+            inventoryRepository.save(toInventory);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.exception.MovementException;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Inventory 의 @Version 으로 충돌을 감지하고, 충돌 시 트랜잭션 전체를 제한된 횟수만큼 재시도하는 전략.
+ */
+@Component
+@ConditionalOnProperty(name = "stockflow.movement.concurrency", havingValue = "optimistic")
+public class OptimisticStockConcurrencyStrategy extends EntityStockConcurrencyStrategy {
+
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public OptimisticStockConcurrencyStrategy(
+            InventoryRepository inventoryRepository,
+            @Value("${stockflow.movement.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${stockflow.movement.optimistic.backoff-ms:10}") long backoffMs
+    ) {
+        super(inventoryRepository);
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> attempt) {
+        for (int tryCount = 1; ; tryCount++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (tryCount >= maxAttempts) {
+                    throw new MovementException("동시 변경이 많아 재고 이동에 실패했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                sleepBeforeRetry(tryCount);
+            }
+        }
+    }
+
+    // 재시도 간격을 시도 횟수에 비례해 늘리고 무작위 지연을 더해 같은 행끼리의 재충돌을 줄인다
+    private void sleepBeforeRetry(int tryCount) {
+        long delay = backoffMs * tryCount + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MovementException("재고 이동 재시도 중 인터럽트가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * SELECT ... FOR UPDATE 로 재고 행을 잠근 뒤 변경하는 전략.
+ * 잠금은 항상 inventory id 오름차순으로 획득하므로 반대 방향 이동끼리 교착되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "stockflow.movement.concurrency", havingValue = "pessimistic")
+public class PessimisticStockConcurrencyStrategy extends EntityStockConcurrencyStrategy {
+
+    private final EntityManager entityManager;
+
+    public PessimisticStockConcurrencyStrategy(InventoryRepository inventoryRepository, EntityManager entityManager) {
+        super(inventoryRepository);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void acquire(Collection<Inventory> inventories) {
+        // refresh 로 잠금과 동시에 최신 수량을 다시 읽는다 (새로 만들 재고 행은 잠글 대상이 없음)
+        inventories.stream()
+                .filter(inventory -> inventory.getId() != null)
+                .distinct()
+                .sorted(Comparator.comparing(Inventory::getId))
+                .forEach(inventory -> entityManager.refresh(inventory, LockModeType.PESSIMISTIC_WRITE));
+    }
+}
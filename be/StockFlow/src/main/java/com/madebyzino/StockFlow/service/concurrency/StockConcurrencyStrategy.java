@@ -0,0 +1,39 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.entity.Inventory;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 재고 이동(출발지/도착지 두 행 변경)의 동시성 제어 전략.
+ * stockflow.movement.concurrency 설정값(atomic / pessimistic / optimistic)으로 선택한다.
+ */
+public interface StockConcurrencyStrategy {
+
+    // 트랜잭션 한 번의 시도를 감싸 재시도 등의 정책을 적용
+    default <T> T execute(Supplier<T> attempt) {
+        return attempt.get();
+    }
+
+    // 이동 대상 재고 행을 변경 전에 확보 (잠금이 필요한 전략만 구현)
+    default void acquire(Collection<Inventory> inventories) {
+    }
+
+    // 출발지 재고를 차감하고 도착지 재고를 가산, 재고가 부족하면 MovementException
+    void transfer(Inventory fromInventory, Inventory toInventory, int quantity);
+
+    // 일괄 이동용 (기본은 라인마다 바로 transfer)
+    default StockTransferBatch newBatch() {
+        return new StockTransferBatch() {
+            @Override
+            public void transfer(Inventory fromInventory, Inventory toInventory, int quantity) {
+                StockConcurrencyStrategy.this.transfer(fromInventory, toInventory, quantity);
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.entity.Inventory;
+
+/**
+ * 일괄 이동의 라인별 재고 변경. 트랜잭션 하나에서 여러 라인을 transfer 한 뒤 flush 를 한 번 호출한다.
+ * 라인마다 바로 반영하는 전략도 있고, 변경을 모아 flush 에서 한 번에 반영하는 전략도 있다.
+ */
+public interface StockTransferBatch {
+
+    // 라인 하나의 이동, 재고가 부족하면 MovementException (해당 라인만 실패)
+    void transfer(Inventory fromInventory, Inventory toInventory, int quantity);
+
+    // 모아 둔 변경을 반영
+    void flush();
+}
@@ -0,0 +1,100 @@
+package com.madebyzino.StockFlow.service.count;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.CountScope;
+import com.madebyzino.StockFlow.repository.SearchCounter;
+import com.madebyzino.StockFlow.repository.mapper.CountMapper;
+import com.madebyzino.StockFlow.service.outbox.StockChangeSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 변동이 생기면 영향을 받는 검색 건수만 무효화 (인스턴스마다 각자 받으므로 메모리 구독자).
+ * - 재고 / 품목 건수 중 수량 조건(minQuantity)이 있는 것: 수량이 바뀌면 (품목 합계는 이동으로 바뀌지 않음)
+ * - 재고 건수 전체: 입고 / 이동으로 새 재고 행이 생겼을 때 (재고 행은 수량이 0 이 되어도 남으므로 그 외에는 건수가 그대로)
+ * - 이력 건수: 무효화하지 않음 (재고 변동마다 늘어나므로 SearchCounter 의 짧은 transaction-ttl 로 갱신)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchCountInvalidator implements StockChangeSubscriber {
+
+    private static final String QUANTITY_CONDITION = "minQuantity";
+    // 이벤트 기록 시각(앱)과 재고 행 생성 시각(DB) 사이의 차이를 흡수하는 여유
+    private static final Duration CREATED_MARGIN = Duration.ofMinutes(1);
+    // 한 번에 조회할 재고 행 수
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private final SearchCounter searchCounter;
+    private final CountMapper countMapper;
+
+    @Override
+    public String name() {
+        return "search-count-invalidator";
+    }
+
+    @Override
+    public void onEvents(List<StockChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (createdInventoryRows(events)) {
+            searchCounter.invalidate(CountScope.INVENTORY);
+        } else {
+            searchCounter.invalidate(CountScope.INVENTORY, condition -> condition.containsKey(QUANTITY_CONDITION));
+        }
+
+        if (events.stream().anyMatch(event -> event.getType() != TransactionType.MOVEMENT)) {
+            searchCounter.invalidate(CountScope.ITEM, condition -> condition.containsKey(QUANTITY_CONDITION));
+        }
+    }
+
+    @Override
+    public boolean durable() {
+        return false;
+    }
+
+    // 입고 / 이동 도착지의 재고 행 중 이벤트 무렵에 만들어진 행이 있는지
+    private boolean createdInventoryRows(List<StockChangeEvent> events) {
+        Map<List<Long>, InventoryQuantityChange> destinations = new LinkedHashMap<>();
+        LocalDateTime earliest = null;
+        for (StockChangeEvent event : events) {
+            if ((event.getType() != TransactionType.INBOUND && event.getType() != TransactionType.MOVEMENT)
+                    || event.getToLocationId() == null) {
+                continue;
+            }
+            destinations.putIfAbsent(List.of(event.getItemId(), event.getToLocationId()),
+                    new InventoryQuantityChange(event.getItemId(), event.getToLocationId(), 0));
+            LocalDateTime recordedAt = event.getCreatedAt() != null ? event.getCreatedAt() : event.getTransactionDate();
+            if (recordedAt == null) {
+                // 기록 시각을 알 수 없으면 새 행이 생겼다고 봄
+                return true;
+            }
+            if (earliest == null || recordedAt.isBefore(earliest)) {
+                earliest = recordedAt;
+            }
+        }
+        if (destinations.isEmpty()) {
+            return false;
+        }
+
+        LocalDateTime since = earliest.minus(CREATED_MARGIN);
+        List<InventoryQuantityChange> changes = new ArrayList<>(destinations.values());
+        for (int from = 0; from < changes.size(); from += LOOKUP_CHUNK) {
+            List<InventoryQuantityChange> chunk = changes.subList(from, Math.min(from + LOOKUP_CHUNK, changes.size()));
+            if (countMapper.countInventoryCreatedSince(chunk, since) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package com.madebyzino.StockFlow.service.dashboard;
+
+import com.madebyzino.StockFlow.dto.dashboard.DashboardCounts;
+import com.madebyzino.StockFlow.dto.dashboard.ItemStockValue;
+import com.madebyzino.StockFlow.dto.dashboard.LocationOccupancyChange;
+import com.madebyzino.StockFlow.dto.inventory.ItemStockSummaryChange;
+import com.madebyzino.StockFlow.repository.mapper.DashboardMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 대시보드 누적 합계(dashboard_totals)와 위치별 재고 보유 품목 수(location_occupancy) 갱신.
+ * 재고 / 품목 / 위치를 바꾸는 트랜잭션 안에서 호출되므로 합계는 원본과 함께 커밋되거나 롤백된다.
+ * 잠금 순서는 품목 → 위치별 보유 수 → 합계 slot → 품목별 재고 합계로 맞춘다 (가격 변경, 위치 활성화 변경과 교착 방지).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardRollupService {
+
+    // 합계를 나눠 담는 행 수 (동시에 갱신하는 트랜잭션끼리 같은 행을 기다리지 않도록)
+    private static final int SLOTS = 16;
+
+    private final DashboardMapper dashboardMapper;
+
+    /**
+     * 재고 변동 반영. ItemStockSummaryUpdater 가 품목별 재고 합계를 갱신하기 직전에 호출한다.
+     * locationItemDeltas 는 위치별로 수량이 0 을 넘나든 품목 수의 증감 (locationId 오름차순).
+     */
+    public void applyStockChanges(Collection<ItemStockSummaryChange> itemChanges, SortedMap<Long, Integer> locationItemDeltas) {
+        DashboardCounts delta = new DashboardCounts();
+
+        // 1. 수량 / 자산 가치 (단가는 공유 잠금으로 읽어 진행 중인 가격 변경이 끝난 뒤의 값을 사용)
+        if (!itemChanges.isEmpty()) {
+            Map<Long, Integer> prices = new HashMap<>();
+            for (ItemStockValue value : dashboardMapper.findPricesForShare(
+                    itemChanges.stream().map(ItemStockSummaryChange::getItemId).toList())) {
+                prices.put(value.getId(), value.getPrice());
+            }
+            for (ItemStockSummaryChange change : itemChanges) {
+                delta.setTotalQuantity(delta.getTotalQuantity() + change.getQuantityDelta());
+                delta.setAssetValue(delta.getAssetValue()
+                        + change.getQuantityDelta() * prices.getOrDefault(change.getItemId(), 0));
+            }
+        }
+
+        // 2. 보유 품목 수가 0 을 넘나든 활성 위치만 사용 중 위치 수에 반영
+        if (!locationItemDeltas.isEmpty()) {
+            List<LocationOccupancyChange> changes = new ArrayList<>();
+            locationItemDeltas.forEach((locationId, itemDelta) ->
+                    changes.add(new LocationOccupancyChange(locationId, itemDelta, false)));
+            dashboardMapper.applyOccupancyChanges(changes);
+
+            // 이 트랜잭션이 방금 갱신한(잠근) 행이므로 최신 값
+            for (LocationOccupancyChange after : dashboardMapper.findOccupancies(locationItemDeltas.keySet())) {
+                int itemsBefore = after.getItemCount() - locationItemDeltas.getOrDefault(after.getLocationId(), 0);
+                if (after.isActive()) {
+                    delta.setOccupiedLocations(delta.getOccupiedLocations()
+                            + (after.getItemCount() > 0 ? 1 : 0) - (itemsBefore > 0 ? 1 : 0));
+                }
+            }
+        }
+
+        addTotals(delta);
+    }
+
+    public void onItemsRegistered(int count) {
+        addTotals(DashboardCounts.builder().itemCount(count).build());
+    }
+
+    // 재고가 없는 품목만 삭제되므로 수량 / 자산 가치는 그대로
+    public void onItemDeleted() {
+        addTotals(DashboardCounts.builder().itemCount(-1).build());
+    }
+
+    // 품목 수정 트랜잭션에서 엔티티 변경이 flush 되기 전에 호출 (품목 → 재고 합계 순으로 잠금)
+    public void onItemPriceChanging(Long itemId, int newPrice) {
+        ItemStockValue current = dashboardMapper.lockItemStock(itemId);
+        if (current == null || current.getPrice() == newPrice || current.getTotalQuantity() == 0) {
+            return;
+        }
+        addTotals(DashboardCounts.builder()
+                .assetValue(current.getTotalQuantity() * (newPrice - current.getPrice()))
+                .build());
+    }
+
+    // 위치 등록 / 수정 / 활성화 토글 후 호출 (위치 변경을 flush 한 뒤 호출해 위치 → 보유 수 순으로 잠금)
+    public void onLocationActiveChanged(Long locationId, boolean active) {
+        LocationOccupancyChange before = dashboardMapper.lockOccupancy(locationId);
+        dashboardMapper.upsertOccupancyActive(locationId, active);
+
+        boolean wasActive = before != null && before.isActive();
+        if (wasActive == active) {
+            return;
+        }
+        int sign = active ? 1 : -1;
+        boolean occupied = before != null && before.getItemCount() > 0;
+        addTotals(DashboardCounts.builder()
+                .activeLocations(sign)
+                .occupiedLocations(occupied ? sign : 0)
+                .build());
+    }
+
+    // 처음 기동할 때(테이블이 비어 있을 때) 현재 상태로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (dashboardMapper.countOccupancies() == 0) {
+            int seeded = dashboardMapper.seedOccupancies();
+            log.info("위치별 재고 보유 현황 초기화 완료. rows={}", seeded);
+        }
+        if (dashboardMapper.countTotals() == 0) {
+            dashboardMapper.seedTotals();
+            log.info("대시보드 합계 초기화 완료.");
+        }
+    }
+
+    private void addTotals(DashboardCounts delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        // 한 트랜잭션(스레드)은 항상 같은 slot 을 사용해 slot 간 잠금 순서 문제가 생기지 않도록 함
+        int slot = (int) (Thread.currentThread().getId() % SLOTS);
+        dashboardMapper.addTotals(slot, delta);
+    }
+}
@@ -0,0 +1,145 @@
+package com.madebyzino.StockFlow.service.dashboard;
+
+import com.madebyzino.StockFlow.dto.dashboard.DailyFlowResponse;
+import com.madebyzino.StockFlow.dto.dashboard.DashboardCounts;
+import com.madebyzino.StockFlow.dto.dashboard.DashboardResponse;
+import com.madebyzino.StockFlow.dto.dashboard.TopMoverResponse;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupGroupBy;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupRow;
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.ReferenceDataRepository;
+import com.madebyzino.StockFlow.repository.mapper.DashboardMapper;
+import com.madebyzino.StockFlow.service.alert.SafetyStockAlertEngine;
+import com.madebyzino.StockFlow.service.rollup.TransactionRollupService;
+import com.madebyzino.StockFlow.util.SpaceSaving;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대시보드 조회. 미리 누적된 합계(slot 합산)와 일별 재고 변동 집계(transaction_rollup_daily)만 읽으므로 원장 / 재고 크기와 무관하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    public static final int MAX_DAYS = 90;
+
+    private final DashboardMapper dashboardMapper;
+    private final SafetyStockAlertEngine safetyStockAlertEngine;
+    private final TopMoversTracker topMoversTracker;
+    private final TransactionRollupService transactionRollupService;
+    private final ReferenceDataRepository referenceDataRepository;
+
+    public DashboardResponse getDashboard(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1 ~ " + MAX_DAYS + "일 사이여야 합니다.");
+        }
+
+        // 1. 누적 합계
+        DashboardCounts totals = dashboardMapper.sumTotals();
+
+        // 2. 기간 내 일자 / 유형별 합계 (하루 단위 구간이므로 일별 집계만 읽음, 변동이 없는 날은 0 으로 채움)
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1);
+        List<TransactionRollupRow> rows = transactionRollupService.aggregate(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(), null, null, null,
+                List.of(TransactionRollupGroupBy.DAY, TransactionRollupGroupBy.TYPE)).getRows();
+        Map<LocalDate, Map<TransactionType, TransactionRollupRow>> byDate = new HashMap<>();
+        Map<TransactionType, Long> countsByType = new EnumMap<>(TransactionType.class);
+        for (TransactionRollupRow row : rows) {
+            byDate.computeIfAbsent(row.getDay(), date -> new EnumMap<>(TransactionType.class))
+                    .put(row.getType(), row);
+            countsByType.merge(row.getType(), row.getTransactionCount(), Long::sum);
+        }
+
+        List<DailyFlowResponse> dailyFlow = new ArrayList<>(days);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Map<TransactionType, TransactionRollupRow> stats = byDate.getOrDefault(date, Map.of());
+            dailyFlow.add(DailyFlowResponse.builder()
+                    .date(date)
+                    .inboundQuantity(quantity(stats, TransactionType.INBOUND))
+                    .outboundQuantity(quantity(stats, TransactionType.OUTBOUND))
+                    .movementQuantity(quantity(stats, TransactionType.MOVEMENT))
+                    .adjustmentQuantity(quantity(stats, TransactionType.ADJUSTMENT))
+                    .inboundCount(count(stats, TransactionType.INBOUND))
+                    .outboundCount(count(stats, TransactionType.OUTBOUND))
+                    .movementCount(count(stats, TransactionType.MOVEMENT))
+                    .adjustmentCount(count(stats, TransactionType.ADJUSTMENT))
+                    .build());
+        }
+
+        // 3. 재고 정확도 (입출고 / 이동 대비 조정 비율)
+        long adjustmentCount = countsByType.getOrDefault(TransactionType.ADJUSTMENT, 0L);
+        long operationCount = countsByType.getOrDefault(TransactionType.INBOUND, 0L)
+                + countsByType.getOrDefault(TransactionType.OUTBOUND, 0L)
+                + countsByType.getOrDefault(TransactionType.MOVEMENT, 0L);
+        double adjustmentRatio = operationCount == 0 ? 0 : (double) adjustmentCount / operationCount;
+
+        // 4. 공간 활용률
+        long activeLocations = totals.getActiveLocations();
+        long occupiedLocations = totals.getOccupiedLocations();
+
+        return DashboardResponse.builder()
+                .itemCount(totals.getItemCount())
+                .totalQuantity(totals.getTotalQuantity())
+                .assetValue(totals.getAssetValue())
+                .belowSafetyStockCount(safetyStockAlertEngine.count())
+                .dailyFlow(dailyFlow)
+                .adjustmentCount(adjustmentCount)
+                .operationCount(operationCount)
+                .adjustmentRatio(adjustmentRatio)
+                .accuracy(1 - Math.min(1, adjustmentRatio))
+                .activeLocations(activeLocations)
+                .occupiedLocations(occupiedLocations)
+                .emptyLocations(Math.max(0, activeLocations - occupiedLocations))
+                .utilization(activeLocations == 0 ? 0 : (double) occupiedLocations / activeLocations)
+                .build();
+    }
+
+    // 최근 1일 / 7일 최다 입출고 품목 (메모리 근사 집계, 품목 정보는 2차 캐시에서 로딩)
+    @Transactional(readOnly = true)
+    public List<TopMoverResponse> getTopMovers(TopMoversTracker.Window window, TopMoversTracker.Metric metric, int limit) {
+        if (limit < 1 || limit > topMoversTracker.capacity()) {
+            throw new IllegalArgumentException("조회 건수는 1 ~ " + topMoversTracker.capacity() + " 사이여야 합니다.");
+        }
+
+        List<SpaceSaving.Estimate> estimates = topMoversTracker.top(window, metric, limit);
+        Map<Long, Item> items = referenceDataRepository.findAllById(Item.class,
+                        estimates.stream().map(SpaceSaving.Estimate::key).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return estimates.stream()
+                .map(estimate -> {
+                    Item item = items.get(estimate.key());
+                    return TopMoverResponse.builder()
+                            .itemId(estimate.key())
+                            .sku(item != null ? item.getSku() : null)
+                            .name(item != null ? item.getName() : null)
+                            .value(estimate.count())
+                            .maxError(estimate.error())
+                            .build();
+                })
+                .toList();
+    }
+
+    private static long quantity(Map<TransactionType, TransactionRollupRow> stats, TransactionType type) {
+        TransactionRollupRow row = stats.get(type);
+        return row != null ? row.getTotalQuantity() : 0;
+    }
+
+    private static long count(Map<TransactionType, TransactionRollupRow> stats, TransactionType type) {
+        TransactionRollupRow row = stats.get(type);
+        return row != null ? row.getTransactionCount() : 0;
+    }
+}
@@ -0,0 +1,256 @@
+package com.madebyzino.StockFlow.service.dashboard;
+
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.repository.mapper.DashboardMapper;
+import com.madebyzino.StockFlow.service.outbox.StockChangeSubscriber;
+import com.madebyzino.StockFlow.util.SpaceSaving;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 최근 1일 / 7일 최다 입출고 품목 (건수, 수량 기준) 근사 집계.
+ * 거래 시각 기준 1시간 단위 구간마다 Space-Saving 요약을 두고, 조회 시 기간에 해당하는 구간만 합친다.
+ * 구간 수와 요약 크기가 고정이라 메모리는 거래량과 무관하고, 오차는 구간별 (가중치 합 / capacity) 의 합 이하이다.
+ * 재고 변동(아웃박스 이벤트)을 받아 더하고, 기동 시와 주기적으로 원장(transaction)에서 다시 구성한다.
+ */
+@Slf4j
+@Component
+public class TopMoversTracker implements StockChangeSubscriber {
+
+    // 가장 긴 조회 기간(7일)만큼의 1시간 구간
+    private static final int BUCKETS = 7 * 24;
+    // 재구성 직후 다시 전달될 수 있는 이벤트를 거르기 위해, 재구성 시작 전 이 시간 이후에 기록된 원장 id 를 기억
+    private static final Duration REPLAY_OVERLAP = Duration.ofMinutes(5);
+
+    public enum Window {
+        DAY(24),
+        WEEK(7 * 24);
+
+        private final int hours;
+
+        Window(int hours) {
+            this.hours = hours;
+        }
+    }
+
+    public enum Metric {
+        COUNT,     // 건수
+        QUANTITY   // 수량 (조정은 절대값)
+    }
+
+    private final DashboardMapper dashboardMapper;
+    private final TransactionTemplate readOnlyTemplate;
+    private final int capacity;
+
+    // lock 으로 보호
+    private final Object lock = new Object();
+    private Bucket[] buckets;
+    // 첫 재구성이 끝나기 전에 받은 이벤트도 새 구간에 반영할 수 있도록 처음부터 모아 둠
+    private List<StockChangeEvent> pendingDuringRebuild = new ArrayList<>();
+    private Set<Long> replayedIds = Set.of();
+    private LocalDateTime replayedUntil;
+
+    private final Object rebuildMutex = new Object();
+
+    public TopMoversTracker(DashboardMapper dashboardMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${stockflow.top-movers.capacity:200}") int capacity) {
+        this.dashboardMapper = dashboardMapper;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.capacity = capacity;
+        this.buckets = newBuckets(capacity);
+    }
+
+    // 조회 가능한 최대 건수 (요약이 유지하는 항목 수)
+    public int capacity() {
+        return capacity;
+    }
+
+    // 기간 내 추정값이 큰 순으로 limit 개
+    public List<SpaceSaving.Estimate> top(Window window, Metric metric, int limit) {
+        long currentHour = hourOf(LocalDateTime.now());
+        List<SpaceSaving> summaries = new ArrayList<>(window.hours);
+        synchronized (lock) {
+            for (Bucket bucket : buckets) {
+                if (bucket.hour > currentHour - window.hours && bucket.hour <= currentHour) {
+                    summaries.add(metric == Metric.COUNT ? bucket.count : bucket.quantity);
+                }
+            }
+            return SpaceSaving.top(summaries, limit);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "dashboard-top-movers";
+    }
+
+    @Override
+    public void onEvents(List<StockChangeEvent> events) {
+        long currentHour = hourOf(LocalDateTime.now());
+        synchronized (lock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.addAll(events);
+            }
+            for (StockChangeEvent event : events) {
+                if (!replayed(event)) {
+                    add(buckets, event, currentHour);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean durable() {
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 오래 실행되면서 생길 수 있는 누락 / 중복을 원장 기준으로 바로잡음
+    @Scheduled(cron = "${stockflow.top-movers.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (rebuildMutex) {
+            LocalDateTime startedAt = LocalDateTime.now();
+            try {
+                // 1. 이후 들어오는 이벤트는 새 구간에도 적용할 수 있도록 모아 둠
+                synchronized (lock) {
+                    if (pendingDuringRebuild == null) {
+                        pendingDuringRebuild = new ArrayList<>();
+                    }
+                }
+
+                // 2. 가장 긴 기간의 원장을 스트리밍으로 읽어 새 구간 구성
+                long currentHour = hourOf(startedAt);
+                LocalDateTime since = startedAt.truncatedTo(ChronoUnit.HOURS).minusHours(BUCKETS - 1);
+                LocalDateTime recentFrom = startedAt.minus(REPLAY_OVERLAP);
+                Bucket[] rebuilt = newBuckets(capacity);
+                Set<Long> recentIds = new HashSet<>();
+                readOnlyTemplate.executeWithoutResult(status -> {
+                    try (Cursor<StockChangeEvent> rows = dashboardMapper.streamTransactionsSince(since)) {
+                        rows.forEach(row -> {
+                            add(rebuilt, row, currentHour);
+                            if (row.getCreatedAt() != null && !row.getCreatedAt().isBefore(recentFrom)) {
+                                recentIds.add(row.getTransactionId());
+                            }
+                        });
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                // 3. 구성하는 동안 받은 이벤트 중 원장에서 읽지 않은 것만 더한 뒤 교체
+                synchronized (lock) {
+                    for (StockChangeEvent event : pendingDuringRebuild) {
+                        if (!recentIds.contains(event.getTransactionId())) {
+                            add(rebuilt, event, hourOf(LocalDateTime.now()));
+                        }
+                    }
+                    buckets = rebuilt;
+                    replayedIds = recentIds;
+                    replayedUntil = LocalDateTime.now().plus(REPLAY_OVERLAP);
+                    pendingDuringRebuild = null;
+                }
+
+                log.info("최다 입출고 품목 집계 재구성 완료. since={}, elapsedMs={}",
+                        since, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+            } catch (RuntimeException e) {
+                // 받은 이벤트는 기존 구간에도 더해져 있으므로 모아 둔 목록만 버림
+                log.error("최다 입출고 품목 집계 재구성 실패. 기존 집계를 계속 사용합니다.", e);
+                synchronized (lock) {
+                    pendingDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    // 재구성에서 이미 원장으로 읽은 이벤트 (replayedUntil 이후에 기록된 이벤트가 오면 더 확인할 필요 없음)
+    private boolean replayed(StockChangeEvent event) {
+        if (replayedIds.isEmpty()) {
+            return false;
+        }
+        if (event.getCreatedAt() != null && event.getCreatedAt().isAfter(replayedUntil)) {
+            replayedIds = Set.of();
+            return false;
+        }
+        return replayedIds.contains(event.getTransactionId());
+    }
+
+    // 거래 시각의 구간에 더함 (기간을 벗어난 이력은 무시, 미래 시각은 현재 구간으로)
+    private static void add(Bucket[] buckets, StockChangeEvent event, long currentHour) {
+        if (event.getTransactionDate() == null || event.getItemId() == null) {
+            return;
+        }
+        long hour = Math.min(hourOf(event.getTransactionDate()), currentHour);
+        if (hour <= currentHour - BUCKETS) {
+            return;
+        }
+
+        Bucket bucket = buckets[(int) Math.floorMod(hour, (long) BUCKETS)];
+        if (bucket.hour != hour) {
+            if (bucket.hour > hour) {
+                return;
+            }
+            bucket.reset(hour);
+        }
+        bucket.count.add(event.getItemId(), 1);
+        bucket.quantity.add(event.getItemId(), Math.abs((long) event.getQuantity()));
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 3600L);
+    }
+
+    private static Bucket[] newBuckets(int capacity) {
+        Bucket[] buckets = new Bucket[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket(capacity);
+        }
+        return buckets;
+    }
+
+    // 1시간 구간의 건수 / 수량 요약
+    private static final class Bucket {
+
+        private long hour = Long.MIN_VALUE;
+        private final SpaceSaving count;
+        private final SpaceSaving quantity;
+
+        Bucket(int capacity) {
+            this.count = new SpaceSaving(capacity);
+            this.quantity = new SpaceSaving(capacity);
+        }
+
+        void reset(long hour) {
+            this.hour = hour;
+            count.clear();
+            quantity.clear();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import com.madebyzino.StockFlow.exception.ItemImportException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+// CSV (RFC 4180: 큰따옴표로 감싼 값, "" 이스케이프, 값 안의 줄바꿈) 를 한 문자씩 읽어 행 단위로 전달
+class CsvItemRowSource implements ItemRowSource {
+
+    private static final char BOM = '\uFEFF';
+
+    private final File file;
+
+    CsvItemRowSource(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void forEachRow(RowHandler handler) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8), 64 * 1024)) {
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            boolean rowStarted = false;
+            int rowNumber = 0;
+
+            int c = reader.read();
+            if (c == BOM) {
+                c = reader.read();
+            }
+            for (; c != -1; c = reader.read()) {
+                char ch = (char) c;
+                if (quoted) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            cell.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        cell.append(ch);
+                    }
+                    continue;
+                }
+
+                switch (ch) {
+                    case '"' -> {
+                        quoted = true;
+                        rowStarted = true;
+                    }
+                    case ',' -> {
+                        cells.add(cell.toString());
+                        cell.setLength(0);
+                        rowStarted = true;
+                    }
+                    case '\r' -> {
+                        // \r\n 은 \n 에서 처리
+                    }
+                    case '\n' -> {
+                        if (rowStarted || cell.length() > 0) {
+                            cells.add(cell.toString());
+                            handler.handle(++rowNumber, cells);
+                        } else {
+                            rowNumber++;  // 빈 줄
+                        }
+                        cells = new ArrayList<>();
+                        cell.setLength(0);
+                        rowStarted = false;
+                    }
+                    default -> {
+                        cell.append(ch);
+                        rowStarted = true;
+                    }
+                }
+            }
+
+            if (quoted) {
+                throw new ItemImportException("CSV 파일의 따옴표가 닫히지 않았습니다. 행: " + (rowNumber + 1));
+            }
+            if (rowStarted || cell.length() > 0) {
+                cells.add(cell.toString());
+                handler.handle(++rowNumber, cells);
+            }
+        } catch (IOException e) {
+            throw new ItemImportException("CSV 파일을 읽을 수 없습니다.", e);
+        }
+    }
+}
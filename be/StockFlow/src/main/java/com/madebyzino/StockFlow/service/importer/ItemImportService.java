@@ -0,0 +1,356 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import com.madebyzino.StockFlow.dto.item.ItemImportError;
+import com.madebyzino.StockFlow.dto.item.ItemImportResponse;
+import com.madebyzino.StockFlow.entity.Category;
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.exception.ItemImportException;
+import com.madebyzino.StockFlow.repository.CategoryRepository;
+import com.madebyzino.StockFlow.repository.CountScope;
+import com.madebyzino.StockFlow.repository.ItemRepository;
+import com.madebyzino.StockFlow.repository.ItemSearchIndex;
+import com.madebyzino.StockFlow.repository.SearchCounter;
+import com.madebyzino.StockFlow.service.alert.SafetyStockAlertEngine;
+import com.madebyzino.StockFlow.service.dashboard.DashboardRollupService;
+import com.madebyzino.StockFlow.util.BloomFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 엑셀(.xlsx) / CSV 품목 일괄 등록.
+ * 파일을 한 행씩 읽고 chunk-size 건마다 한 트랜잭션으로 저장한 뒤 영속성 컨텍스트를 비우므로 파일 크기와 무관하게 메모리가 일정하다.
+ * id 는 pooled 시퀀스에서 persist 시점에 할당되므로 SKU(카테고리 코드 + id)를 INSERT 전에 채워 JDBC 배치 한 번으로 기록된다.
+ */
+@Slf4j
+@Service
+public class ItemImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_NAME_LENGTH = 100;
+
+    // 헤더 별칭 (소문자, 공백/밑줄 제거 후 비교)
+    private static final Map<String, Column> HEADER_ALIASES = Map.of(
+            "name", Column.NAME, "품목명", Column.NAME, "상품명", Column.NAME, "이름", Column.NAME,
+            "category", Column.CATEGORY, "카테고리", Column.CATEGORY,
+            "price", Column.PRICE, "가격", Column.PRICE,
+            "safetystock", Column.SAFETY_STOCK, "안전재고", Column.SAFETY_STOCK
+    );
+
+    private final CategoryRepository categoryRepository;
+    private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final SearchCounter searchCounter;
+    private final ItemSearchIndex itemSearchIndex;
+    private final DashboardRollupService dashboardRollupService;
+    private final SafetyStockAlertEngine safetyStockAlertEngine;
+
+    private final int chunkSize;
+    private final int maxRows;
+
+    public ItemImportService(
+            CategoryRepository categoryRepository,
+            ItemRepository itemRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            SearchCounter searchCounter,
+            ItemSearchIndex itemSearchIndex,
+            DashboardRollupService dashboardRollupService,
+            SafetyStockAlertEngine safetyStockAlertEngine,
+            @Value("${stockflow.item-import.chunk-size:1000}") int chunkSize,
+            @Value("${stockflow.item-import.max-rows:1000000}") int maxRows
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.itemRepository = itemRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.searchCounter = searchCounter;
+        this.itemSearchIndex = itemSearchIndex;
+        this.dashboardRollupService = dashboardRollupService;
+        this.safetyStockAlertEngine = safetyStockAlertEngine;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    public ItemImportResponse importItems(MultipartFile file) {
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        boolean csv = filename.endsWith(".csv");
+        if (!csv && !filename.endsWith(".xlsx")) {
+            throw new ItemImportException(".xlsx 또는 .csv 파일만 등록할 수 있습니다.");
+        }
+
+        // 행 수 확인과 등록으로 두 번 읽고, xlsx 는 zip 이라 임의 접근이 필요하므로 임시 파일로 옮긴 뒤 읽음
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("item-import-", csv ? ".csv" : ".xlsx");
+            file.transferTo(temp);
+            return importRows(csv ? new CsvItemRowSource(temp.toFile()) : new XlsxItemRowSource(temp.toFile()));
+        } catch (IOException e) {
+            throw new ItemImportException("업로드 파일을 읽을 수 없습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private ItemImportResponse importRows(ItemRowSource source) {
+        long startedAt = System.currentTimeMillis();
+
+        // 1. chunk 마다 커밋하므로 도중에 멈추면 앞부분만 등록됨: 저장 전에 행 수부터 확인
+        int dataRows = source.countRows() - 1;  // 헤더 제외
+        if (dataRows > maxRows) {
+            throw new ItemImportException("한 번에 등록할 수 있는 품목은 최대 " + maxRows + "건입니다. (파일: " + dataRows + "건)");
+        }
+
+        // 2. 카테고리는 이름/코드로 메모리에서 조회
+        CategoryLookup categories = new CategoryLookup(categoryRepository.findAll());
+
+        // 3. 기존 SKU 로 블룸 필터 구성 (필터에 걸린 경우에만 DB 로 확인)
+        BloomFilter skuFilter = new BloomFilter(itemRepository.count() + Math.max(dataRows, 0), 0.001);
+        readOnlyTemplate.executeWithoutResult(status -> {
+            try (Stream<String> skus = itemRepository.streamAllSkus()) {
+                skus.forEach(skuFilter::put);
+            }
+        });
+
+        // 4. 행 단위로 읽어 chunk 단위로 저장
+        ImportState state = new ImportState(categories, skuFilter);
+        source.forEachRow(state::accept);
+        state.flush();
+
+        if (state.header == null) {
+            throw new ItemImportException("파일에 헤더 행이 없습니다.");
+        }
+
+        if (state.importedCount > 0) {
+            searchCounter.invalidate(CountScope.ITEM);
+        }
+
+        return ItemImportResponse.builder()
+                .totalRows(state.totalRows)
+                .importedCount(state.importedCount)
+                .failedCount(state.failedCount)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .errors(state.errors)
+                .build();
+    }
+
+    private enum Column {
+        NAME, CATEGORY, PRICE, SAFETY_STOCK
+    }
+
+    /**
+     * 카테고리 열 값(이름 또는 코드)으로 카테고리 조회.
+     * 이름은 유일하지만 코드는 유일하지 않고 다른 카테고리의 이름과 같을 수도 있으므로 따로 두고,
+     * 값이 서로 다른 카테고리의 이름과 코드에 걸리거나 여러 카테고리의 코드이면 모호하므로 거부한다.
+     */
+    private static final class CategoryLookup {
+
+        private final Map<String, Category> byName = new HashMap<>();
+        private final Map<String, Category> byCode = new HashMap<>();
+        private final Set<String> duplicateCodes = new HashSet<>();
+
+        CategoryLookup(List<Category> categories) {
+            for (Category category : categories) {
+                byName.put(category.getName(), category);
+                if (category.getCode() != null && byCode.putIfAbsent(category.getCode(), category) != null) {
+                    duplicateCodes.add(category.getCode());
+                }
+            }
+        }
+
+        Category resolve(String value) {
+            Category named = byName.get(value);
+            Category coded = byCode.get(value);
+            if (duplicateCodes.contains(value) || (named != null && coded != null && named != coded)) {
+                throw new IllegalArgumentException("여러 카테고리와 일치하는 값입니다 (이름 / 코드): " + value);
+            }
+            if (named == null && coded == null) {
+                throw new IllegalArgumentException("카테고리가 존재하지 않습니다: " + value);
+            }
+            return named != null ? named : coded;
+        }
+    }
+
+    private class ImportState {
+
+        private final CategoryLookup categories;
+        private final BloomFilter skuFilter;
+
+        private Map<Column, Integer> header;
+        private final List<PendingItem> chunk = new ArrayList<>(chunkSize);
+        private final List<ItemImportError> errors = new ArrayList<>();
+        private int totalRows;
+        private int importedCount;
+        private int failedCount;
+
+        ImportState(CategoryLookup categories, BloomFilter skuFilter) {
+            this.categories = categories;
+            this.skuFilter = skuFilter;
+        }
+
+        void accept(int rowNumber, List<String> cells) {
+            if (header == null) {
+                header = parseHeader(cells);
+                return;
+            }
+            totalRows++;
+
+            try {
+                chunk.add(new PendingItem(rowNumber, parseRow(cells)));
+            } catch (IllegalArgumentException e) {
+                fail(rowNumber, e.getMessage());
+            }
+
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<Item> imported = new ArrayList<>(chunk.size());
+            transactionTemplate.executeWithoutResult(status -> {
+                // SKU 중복 확인 조회가 대기 중인 INSERT 를 끌어내지 않도록 커밋 시점에만 flush
+                entityManager.setFlushMode(FlushModeType.COMMIT);
+
+                for (PendingItem pending : chunk) {
+                    Item item = pending.item();
+                    entityManager.persist(item);  // pooled 시퀀스에서 id 할당 (INSERT 는 아직 실행되지 않음)
+
+                    String sku = item.getCategory().getCode() + item.getId();
+                    if (skuFilter.mightContain(sku) && itemRepository.existsBySku(sku)) {
+                        entityManager.detach(item);  // 대기 중인 INSERT 취소
+                        fail(pending.rowNumber(), "SKU 가 이미 존재합니다: " + sku);
+                        continue;
+                    }
+
+                    item.setSku(sku);
+                    skuFilter.put(sku);
+                    imported.add(item);
+                    importedCount++;
+                }
+
+                itemSearchIndex.indexAll(imported);  // 커밋 후 검색 색인에 반영
+                if (!imported.isEmpty()) {
+                    dashboardRollupService.onItemsRegistered(imported.size());
+                    // 안전 재고가 있는 새 품목은 재고 0 이므로 바로 미달 (커밋 후 판정)
+                    safetyStockAlertEngine.itemsChanged(imported.stream().map(Item::getId).toList());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            chunk.clear();
+        }
+
+        private Map<Column, Integer> parseHeader(List<String> cells) {
+            Map<Column, Integer> columns = new HashMap<>();
+            for (int index = 0; index < cells.size(); index++) {
+                String normalized = cells.get(index).trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_]", "");
+                Column column = HEADER_ALIASES.get(normalized);
+                if (column != null) {
+                    columns.putIfAbsent(column, index);
+                }
+            }
+            for (Column required : List.of(Column.NAME, Column.CATEGORY, Column.PRICE)) {
+                if (!columns.containsKey(required)) {
+                    throw new ItemImportException("필수 열이 없습니다: " + required.name().toLowerCase(Locale.ROOT));
+                }
+            }
+            return columns;
+        }
+
+        private Item parseRow(List<String> cells) {
+            String name = cell(cells, Column.NAME);
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("품목명은 필수입니다.");
+            }
+            if (name.length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("품목명은 " + MAX_NAME_LENGTH + "자 이내여야 합니다.");
+            }
+
+            Category category = categories.resolve(cell(cells, Column.CATEGORY));
+
+            return Item.builder()
+                    .name(name)
+                    .category(category)
+                    .price(parseAmount(cell(cells, Column.PRICE), "가격", true))
+                    .safetyStock(parseAmount(cell(cells, Column.SAFETY_STOCK), "안전재고", false))
+                    .sku("")
+                    .build();
+        }
+
+        private String cell(List<String> cells, Column column) {
+            Integer index = header.get(column);
+            if (index == null || index >= cells.size()) {
+                return "";
+            }
+            return cells.get(index).trim();
+        }
+
+        // "1,000", "1000.0" 형식 허용
+        private int parseAmount(String value, String label, boolean required) {
+            if (value.isEmpty()) {
+                if (required) {
+                    throw new IllegalArgumentException(label + "은(는) 필수입니다.");
+                }
+                return 0;
+            }
+            int amount;
+            try {
+                amount = new BigDecimal(value.replace(",", "")).intValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException(label + " 값이 올바르지 않습니다: " + value);
+            }
+            if (amount < 0) {
+                throw new IllegalArgumentException(label + "은(는) 0 이상이어야 합니다.");
+            }
+            return amount;
+        }
+
+        private void fail(int rowNumber, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ItemImportError(rowNumber, message));
+            }
+        }
+    }
+
+    private record PendingItem(int rowNumber, Item item) {
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import java.util.List;
+
+// 업로드 파일을 한 행씩 읽어 전달 (전체를 메모리에 올리지 않음)
+interface ItemRowSource {
+
+    void forEachRow(RowHandler handler);
+
+    // 헤더를 포함한 행 수 (저장 전에 최대 행 수를 확인하기 위해 파일을 한 번 더 읽음)
+    default int countRows() {
+        int[] rows = {0};
+        forEachRow((rowNumber, cells) -> rows[0]++);
+        return rows[0];
+    }
+
+    @FunctionalInterface
+    interface RowHandler {
+        // rowNumber 는 파일 기준 1부터 시작 (헤더 포함)
+        void handle(int rowNumber, List<String> cells);
+    }
+}
@@ -0,0 +1,192 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공유 문자열 표(sharedStrings.xml)를 임시 파일에 UTF-8 로 옮겨 두고 필요한 항목만 읽는 SharedStrings.
+ * ReadOnlySharedStringsTable 은 모든 문자열을 힙에 올리므로 품목명이 모두 다른 대용량 파일에서는 메모리가 파일 크기만큼 늘어난다.
+ * 힙에는 항목별 시작 위치(8 byte)와 최근 읽은 문자열 일부(카테고리처럼 반복되는 값)만 둔다.
+ * 서식(rich text)과 윗주(rPh)는 버리고 텍스트만 보관한다. 한 스레드에서만 사용한다.
+ */
+class TempFileSharedStrings implements SharedStrings, Closeable {
+
+    private static final int CACHE_SIZE = 1024;
+
+    private final Path file;
+    private long[] offsets = new long[1024];
+    private int count;
+    private FileChannel channel;
+
+    // 직접 사상(direct-mapped) 캐시: 항목 번호 % CACHE_SIZE 자리에 마지막으로 읽은 값
+    private final int[] cachedIndexes = new int[CACHE_SIZE];
+    private final String[] cachedValues = new String[CACHE_SIZE];
+
+    private TempFileSharedStrings(Path file) {
+        this.file = file;
+        Arrays.fill(cachedIndexes, -1);
+    }
+
+    static TempFileSharedStrings load(OPCPackage pkg) throws IOException, SAXException, ParserConfigurationException {
+        TempFileSharedStrings strings = new TempFileSharedStrings(Files.createTempFile("item-import-strings-", ".txt"));
+        try {
+            List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(strings.file), 64 * 1024)) {
+                if (!parts.isEmpty()) {
+                    try (InputStream in = parts.get(0).getInputStream()) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(strings.new Writer(out));
+                        parser.parse(new InputSource(in));
+                    }
+                }
+            }
+            strings.channel = FileChannel.open(strings.file, StandardOpenOption.READ);
+            return strings;
+        } catch (IOException | SAXException | ParserConfigurationException | RuntimeException e) {
+            strings.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public RichTextString getItemAt(int idx) {
+        if (idx < 0 || idx >= count) {
+            throw new IllegalArgumentException("공유 문자열 번호가 범위를 벗어났습니다: " + idx);
+        }
+
+        int slot = idx % CACHE_SIZE;
+        if (cachedIndexes[slot] != idx) {
+            cachedValues[slot] = read(idx);
+            cachedIndexes[slot] = idx;
+        }
+        return new XSSFRichTextString(cachedValues[slot]);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private String read(int idx) {
+        long start = offsets[idx];
+        ByteBuffer buffer = ByteBuffer.allocate((int) (offsets[idx + 1] - start));
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new EOFException("공유 문자열 임시 파일이 잘렸습니다.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    // <si> 마다 <t> 의 텍스트를 이어 붙여 기록 (rPh 안의 <t> 는 윗주라 제외, ReadOnlySharedStringsTable 과 같은 규칙)
+    private class Writer extends DefaultHandler {
+
+        private final OutputStream out;
+        private final StringBuilder text = new StringBuilder();
+        private long written;
+        private boolean inText;
+        private boolean inPhonetic;
+
+        Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (!XSSFRelation.NS_SPREADSHEETML.equals(uri)) {
+                return;
+            }
+            switch (localName) {
+                case "si" -> text.setLength(0);
+                case "rPh" -> inPhonetic = true;
+                case "t" -> inText = !inPhonetic;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if (!XSSFRelation.NS_SPREADSHEETML.equals(uri)) {
+                return;
+            }
+            switch (localName) {
+                case "t" -> inText = false;
+                case "rPh" -> inPhonetic = false;
+                case "si" -> append();
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private void append() throws SAXException {
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                out.write(bytes);
+            } catch (IOException e) {
+                throw new SAXException(e);
+            }
+
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[count] = written;
+            written += bytes.length;
+            offsets[++count] = written;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import com.madebyzino.StockFlow.exception.ItemImportException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// .xlsx 첫 번째 시트를 SAX(이벤트) 방식으로 읽음. 워크북 전체를 객체로 만들지 않고
+// 공유 문자열도 임시 파일에 두므로(TempFileSharedStrings) 행 수와 무관하게 메모리가 거의 일정하다
+class XlsxItemRowSource implements ItemRowSource {
+
+    // 행 수만 셀 때는 문자열 값이 필요 없으므로 공유 문자열 표를 읽지 않음
+    private static final SharedStrings NO_STRINGS = new SharedStrings() {
+        @Override
+        public RichTextString getItemAt(int idx) {
+            return new XSSFRichTextString("");
+        }
+
+        @Override
+        public int getCount() {
+            return 0;
+        }
+
+        @Override
+        public int getUniqueCount() {
+            return 0;
+        }
+    };
+
+    private final File file;
+
+    XlsxItemRowSource(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void forEachRow(RowHandler handler) {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+             TempFileSharedStrings strings = TempFileSharedStrings.load(pkg)) {
+            parseFirstSheet(pkg, strings, handler);
+        } catch (IOException | UncheckedIOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new ItemImportException("엑셀 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public int countRows() {
+        int[] rows = {0};
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            parseFirstSheet(pkg, NO_STRINGS, (rowNumber, cells) -> rows[0]++);
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new ItemImportException("엑셀 파일을 읽을 수 없습니다.", e);
+        }
+        return rows[0];
+    }
+
+    private void parseFirstSheet(OPCPackage pkg, SharedStrings strings, RowHandler handler)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        StylesTable styles = reader.getStylesTable();
+
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            throw new ItemImportException("엑셀 파일에 시트가 없습니다.");
+        }
+
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(
+                    styles, null, strings, new RowCollector(handler), new DataFormatter(), false));
+            parser.parse(new InputSource(sheet));
+        }
+    }
+
+    // 셀 이벤트를 행 단위 목록으로 모음 (비어 있는 셀은 빈 문자열로 채움)
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!cells.isEmpty()) {
+                handler.handle(rowNum + 1, new ArrayList<>(cells));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+}
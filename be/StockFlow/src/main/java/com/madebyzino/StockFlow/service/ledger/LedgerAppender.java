@@ -0,0 +1,19 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.entity.Transaction;
+
+import java.util.List;
+
+/**
+ * 재고 변동 이력(Transaction) 기록 창구.
+ * stockflow.ledger.mode 설정값(sync / write-behind)에 따라 즉시 저장하거나 커밋 후 백그라운드로 모아서 저장한다.
+ */
+public interface LedgerAppender {
+
+    // 이력을 기록하고 id 가 채워진 Transaction 을 반환
+    default Transaction append(Transaction transaction) {
+        return appendAll(List.of(transaction)).get(0);
+    }
+
+    List<Transaction> appendAll(List<Transaction> transactions);
+}
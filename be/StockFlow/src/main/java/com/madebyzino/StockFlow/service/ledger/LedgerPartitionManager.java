@@ -0,0 +1,262 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerPartition;
+import com.madebyzino.StockFlow.exception.LedgerPartitionException;
+import com.madebyzino.StockFlow.repository.mapper.LedgerPartitionMapper;
+import com.madebyzino.StockFlow.repository.mapper.TransactionRollupMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 원장(transaction) 월 단위 RANGE 파티션 관리.
+ * 월 파티션으로의 변환(convert)은 테이블 전체를 복사하며 그동안 원장 쓰기를 막으므로, 관리자가 점검 시간에 명시적으로 실행한다.
+ * 변환된 뒤에는 주기적으로 앞으로 쓸 파티션을 미리 만들고, 보관 기간이 지난 파티션은
+ * (스냅샷에 모두 접힌 경우에만) 보관 테이블로 옮기거나 삭제한다.
+ * 기간 조건이 있는 이력 / 재생 / 집계 조회는 해당 월 파티션만 읽는다.
+ */
+@Slf4j
+@Service
+public class LedgerPartitionManager {
+
+    private static final String LOCK_NAME = "stockflow.ledger-partition";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p\\d{6}");
+
+    public record MaintenanceResult(List<String> created, List<String> expired) {
+
+        static MaintenanceResult empty() {
+            return new MaintenanceResult(List.of(), List.of());
+        }
+    }
+
+    private final LedgerPartitionMapper ledgerPartitionMapper;
+    private final TransactionRollupMapper transactionRollupMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean archive;
+
+    public LedgerPartitionManager(
+            LedgerPartitionMapper ledgerPartitionMapper,
+            TransactionRollupMapper transactionRollupMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${stockflow.ledger.partitioning.enabled:false}") boolean enabled,
+            @Value("${stockflow.ledger.partitioning.premake-months:3}") int premakeMonths,
+            @Value("${stockflow.ledger.partitioning.retention-months:0}") int retentionMonths,
+            @Value("${stockflow.ledger.partitioning.archive:true}") boolean archive
+    ) {
+        this.ledgerPartitionMapper = ledgerPartitionMapper;
+        this.transactionRollupMapper = transactionRollupMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.premakeMonths = Math.max(premakeMonths, 1);
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+    }
+
+    // 변환된 테이블의 파티션 추가 / 만료만 수행 (변환은 하지 않음)
+    @Scheduled(cron = "${stockflow.ledger.partitioning.cron:0 30 2 * * *}")
+    public void scheduledMaintain() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.error("원장 파티션 관리 실패. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    public List<LedgerPartition> findPartitions() {
+        return ledgerPartitionMapper.findPartitions();
+    }
+
+    /**
+     * 파티션이 없는 원장 테이블을 가장 오래된 이력의 달부터 월 파티션으로 변환한다 (관리자 작업).
+     * 기본 키를 (id, transaction_date) 로 바꾸는 테이블 복사(ALGORITHM=COPY)라 끝날 때까지 원장 쓰기가 막히므로,
+     * 이력이 많은 운영 테이블은 점검 시간에 실행하거나 온라인 스키마 변경 도구로 같은 DDL 을 적용한다.
+     */
+    public List<String> convert() {
+        requireEnabled();
+        List<String> created = withLock(() -> {
+            if (!ledgerPartitionMapper.findPartitions().isEmpty()) {
+                throw new LedgerPartitionException("원장 테이블이 이미 파티션으로 나뉘어 있습니다.");
+            }
+
+            YearMonth current = YearMonth.now();
+            YearMonth last = current.plusMonths(premakeMonths);
+            LocalDateTime oldest = ledgerPartitionMapper.findMinTransactionDate();
+            YearMonth first = oldest != null && YearMonth.from(oldest).isBefore(current) ? YearMonth.from(oldest) : current;
+            List<LedgerPartition> definitions = monthPartitions(first, last);
+            definitions.add(new LedgerPartition(MAX_PARTITION, null, null));
+
+            long startedAt = System.currentTimeMillis();
+            ledgerPartitionMapper.partitionByMonth(definitions);
+            log.info("원장 월 파티션 변환 완료. from={}, to={}, elapsedMs={}", first, last, System.currentTimeMillis() - startedAt);
+            return names(definitions.subList(0, definitions.size() - 1));
+        });
+        if (created == null) {
+            throw new LedgerPartitionException("다른 인스턴스가 원장 파티션을 관리 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return created;
+    }
+
+    /**
+     * 파티션 추가 / 만료를 한 번 수행한다. 아직 변환되지 않은 테이블은 건드리지 않는다.
+     * 다른 인스턴스가 실행 중이면 아무것도 하지 않는다.
+     */
+    public MaintenanceResult maintain() {
+        if (!enabled) {
+            return MaintenanceResult.empty();
+        }
+        MaintenanceResult result = withLock(() -> {
+            List<LedgerPartition> partitions = ledgerPartitionMapper.findPartitions();
+            if (partitions.isEmpty()) {
+                log.info("원장 테이블이 파티션으로 나뉘어 있지 않아 파티션 관리를 건너뜁니다. (POST /api/ledger/partitions/convert 로 변환)");
+                return MaintenanceResult.empty();
+            }
+            YearMonth current = YearMonth.now();
+            List<String> created = createPartitions(partitions, current);
+            List<String> expired = retentionMonths > 0 ? expirePartitions(current) : List.of();
+            return new MaintenanceResult(created, expired);
+        });
+        return result != null ? result : MaintenanceResult.empty();
+    }
+
+    /**
+     * 이름 잠금을 잡고 실행한다. 다른 인스턴스가 잡고 있으면 null 을 반환한다 (변환은 예외).
+     * GET_LOCK 은 커넥션 단위이므로 잠금부터 해제까지 한 커넥션을 쓰도록 트랜잭션으로 묶는다 (DDL 은 각자 자동 커밋).
+     */
+    private <T> T withLock(Supplier<T> action) {
+        return transactionTemplate.execute(status -> {
+            Integer locked = ledgerPartitionMapper.acquireLock(LOCK_NAME, 0);
+            if (locked == null || locked != 1) {
+                log.info("다른 인스턴스가 원장 파티션을 관리 중이므로 건너뜁니다.");
+                return null;
+            }
+            try {
+                return action.get();
+            } finally {
+                ledgerPartitionMapper.releaseLock(LOCK_NAME);
+            }
+        });
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new LedgerPartitionException("원장 파티션 관리가 꺼져 있습니다. (stockflow.ledger.partitioning.enabled)");
+        }
+    }
+
+    // 이번 달 + premakeMonths 까지 월 파티션을 두고, 그 뒤의 이력은 MAXVALUE 파티션에 받음
+    private List<String> createPartitions(List<LedgerPartition> partitions, YearMonth current) {
+        YearMonth last = current.plusMonths(premakeMonths);
+
+        // 마지막 월 파티션 다음 달부터 MAXVALUE 파티션을 나눠 추가
+        LedgerPartition maxPartition = partitions.get(partitions.size() - 1);
+        if (maxPartition.getLessThan() != null) {
+            log.warn("원장 테이블에 MAXVALUE 파티션이 없어 파티션을 추가하지 않습니다. last={}", maxPartition.getName());
+            return List.of();
+        }
+        YearMonth next = partitions.size() > 1
+                ? YearMonth.from(partitions.get(partitions.size() - 2).getLessThan())
+                : current;
+        if (next.isAfter(last)) {
+            return List.of();
+        }
+
+        List<LedgerPartition> definitions = monthPartitions(next, last);
+        definitions.add(new LedgerPartition(maxPartition.getName(), null, null));
+        ledgerPartitionMapper.splitMaxPartition(maxPartition.getName(), definitions);
+
+        List<String> created = names(definitions.subList(0, definitions.size() - 1));
+        log.info("원장 월 파티션 추가. partitions={}", created);
+        return created;
+    }
+
+    /**
+     * 상한이 (이번 달 - retentionMonths) 1일 이전인 월 파티션을 오래된 순으로 떼어낸다.
+     * 원장 재생에 아직 필요한 행이 있는 파티션에서 멈춰 남은 이력이 중간에 비지 않게 하고,
+     * 집계 초기 채우기가 끝나기 전에는 원장을 읽어야 하므로 떼어내지 않는다.
+     */
+    private List<String> expirePartitions(YearMonth current) {
+        if (transactionRollupMapper.countBackfillPartitions() == 0
+                || !transactionRollupMapper.findPendingBackfillPartitions().isEmpty()) {
+            log.info("재고 변동 집계 초기 채우기가 끝나지 않아 원장 파티션을 만료하지 않습니다.");
+            return List.of();
+        }
+
+        LocalDateTime cutoff = current.minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        List<String> expired = new ArrayList<>();
+        for (LedgerPartition partition : ledgerPartitionMapper.findPartitions()) {
+            if (partition.getLessThan() == null || partition.getLessThan().isAfter(cutoff)) {
+                break;
+            }
+            String name = partition.getName();
+            if (!MONTH_PARTITION.matcher(name).matches()) {
+                log.warn("월 파티션 이름 형식이 아니어서 만료를 멈춥니다. partition={}", name);
+                break;
+            }
+            if (ledgerPartitionMapper.hasUnfoldedRows(name)) {
+                log.info("스냅샷에 접히지 않은 이력이 남아 있어 만료를 멈춥니다. partition={}", name);
+                break;
+            }
+            if (!detach(name)) {
+                break;
+            }
+            expired.add(name);
+        }
+
+        if (!expired.isEmpty()) {
+            log.info("원장 파티션 만료. partitions={}, archive={}", expired, archive);
+        }
+        return expired;
+    }
+
+    // MySQL 에는 DETACH 가 없으므로 빈 보관 테이블과 EXCHANGE 한 뒤 비워진 파티션을 삭제
+    private boolean detach(String partition) {
+        if (!archive) {
+            ledgerPartitionMapper.dropPartition(partition);
+            return true;
+        }
+
+        String table = "transaction_archive_" + partition.substring(1);
+        if (ledgerPartitionMapper.tableExists(table)) {
+            // 이전 실행이 EXCHANGE 후 삭제 전에 멈춘 경우: 파티션이 비어 있을 때만 삭제를 마저 진행
+            if (ledgerPartitionMapper.hasRows(partition)) {
+                log.warn("보관 테이블이 이미 있고 파티션에 이력이 남아 있어 만료를 멈춥니다. partition={}, table={}", partition, table);
+                return false;
+            }
+        } else {
+            ledgerPartitionMapper.createArchiveTable(table);
+            ledgerPartitionMapper.removePartitioning(table);
+            ledgerPartitionMapper.exchangePartition(partition, table);
+        }
+        ledgerPartitionMapper.dropPartition(partition);
+        return true;
+    }
+
+    private static List<LedgerPartition> monthPartitions(YearMonth from, YearMonth to) {
+        List<LedgerPartition> partitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            partitions.add(new LedgerPartition(month.format(MONTH_NAME), month.plusMonths(1).atDay(1).atStartOfDay(), null));
+        }
+        return partitions;
+    }
+
+    private static List<String> names(List<LedgerPartition> partitions) {
+        return partitions.stream().map(LedgerPartition::getName).toList();
+    }
+}
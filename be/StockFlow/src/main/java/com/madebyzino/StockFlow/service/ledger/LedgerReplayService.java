@@ -0,0 +1,396 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryDrift;
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import com.madebyzino.StockFlow.dto.inventory.LedgerReconcileResponse;
+import com.madebyzino.StockFlow.entity.InventorySnapshot;
+import com.madebyzino.StockFlow.repository.EntityIdAllocator;
+import com.madebyzino.StockFlow.repository.mapper.LedgerReplayMapper;
+import com.madebyzino.StockFlow.service.summary.ItemStockSummaryUpdater;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 원장(Transaction) 재생 엔진.
+ * 품목별 현재 수량 = 마지막 스냅샷 수량 + 스냅샷 이후 원장 증감 합계.
+ * 품목 id 구간 단위로 나눠 병렬로 처리하고, 구간마다 DB 에서 증감을 합산해 가져오므로 원장 행을 애플리케이션으로 옮기지 않는다.
+ */
+@Slf4j
+@Service
+public class LedgerReplayService {
+
+    // 보정 결과에 담는 최대 차이 건수
+    private static final int MAX_REPORTED_DRIFTS = 1000;
+    // 다중 행 INSERT / UPDATE 한 문장당 최대 행 수
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final LedgerReplayMapper ledgerReplayMapper;
+    private final EntityIdAllocator entityIdAllocator;
+    private final ItemStockSummaryUpdater itemStockSummaryUpdater;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final int partitionSize;
+    private final Duration settleWindow;
+    private final boolean eventSourced;
+    private final String ledgerMode;
+    private final int maxRepairs;
+
+    public LedgerReplayService(
+            LedgerReplayMapper ledgerReplayMapper,
+            EntityIdAllocator entityIdAllocator,
+            ItemStockSummaryUpdater itemStockSummaryUpdater,
+            PlatformTransactionManager transactionManager,
+            @Value("${stockflow.ledger.replay.parallelism:4}") int parallelism,
+            @Value("${stockflow.ledger.replay.partition-size:1000}") int partitionSize,
+            @Value("${stockflow.ledger.snapshot.settle-window:5m}") Duration settleWindow,
+            @Value("${stockflow.ledger.event-sourced:false}") boolean eventSourced,
+            @Value("${stockflow.ledger.mode:sync}") String ledgerMode,
+            @Value("${stockflow.ledger.reconcile.max-repairs:1000}") int maxRepairs
+    ) {
+        this.ledgerReplayMapper = ledgerReplayMapper;
+        this.entityIdAllocator = entityIdAllocator;
+        this.itemStockSummaryUpdater = itemStockSummaryUpdater;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // seedSnapshots 의 재고 / 원장 조회가 같은 시점을 보도록 (MySQL 기본값이지만 설정에 의존하지 않음)
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.partitionSize = partitionSize;
+        this.settleWindow = settleWindow;
+        this.eventSourced = eventSourced;
+        this.ledgerMode = ledgerMode;
+        this.maxRepairs = maxRepairs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ledger-replay-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 단일 품목/위치의 원장 재생 수량
+    public InventoryDrift replay(Long itemId, Long locationId) {
+        List<InventoryQuantityChange> keys = List.of(new InventoryQuantityChange(itemId, locationId, 0));
+        ItemRange range = new ItemRange(itemId, itemId);
+
+        Map<InventoryKey, InventoryQuantityChange> ledger = replayPartition(range, null, keys);
+        int inventoryQuantity = ledgerReplayMapper.findInventoryQuantities(itemId, itemId).stream()
+                .filter(row -> row.getLocationId().equals(locationId))
+                .mapToInt(InventoryQuantityChange::getQuantity)
+                .findFirst()
+                .orElse(0);
+        InventoryQuantityChange replayed = ledger.get(new InventoryKey(itemId, locationId));
+
+        return new InventoryDrift(itemId, locationId, inventoryQuantity, replayed != null ? replayed.getQuantity() : 0);
+    }
+
+    // 주기적 스냅샷 갱신 (이벤트 소싱 모드면 이어서 재고를 원장 기준으로 보정)
+    @Scheduled(cron = "${stockflow.ledger.snapshot.cron:0 0 3 * * *}")
+    public void scheduledCompaction() {
+        long compacted = compact();
+        log.info("원장 스냅샷 갱신 완료. rows={}", compacted);
+
+        if (eventSourced) {
+            LedgerReconcileResponse result = reconcile(true);
+            if (result.getRepairRefusedReason() != null) {
+                log.error("원장 기준 재고 보정을 하지 않았습니다. reason={}, drift={}",
+                        result.getRepairRefusedReason(), result.getDriftCount());
+            } else {
+                log.info("원장 기준 재고 보정 완료. drift={}, repaired={}, unseeded={}",
+                        result.getDriftCount(), result.getRepairedCount(), result.getUnseededCount());
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 이후 settle-window 이전까지의 원장을 스냅샷에 접어 넣는다.
+     * 최근 이력은 아직 기록 중일 수 있으므로(쓰기 지연 모드 등) settle-window 만큼 남겨 둔다.
+     * 스냅샷이 없는 품목/위치는 원장 이전 재고가 있을 수 있어 0 에서 새로 만들지 않는다 (seedSnapshots 로 기준을 먼저 만듦).
+     */
+    public long compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(settleWindow);
+        return forEachPartition(range -> transactionTemplate.execute(status -> compactPartition(range, cutoff)))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * 스냅샷이 없는 재고 행을 초기화한다 (원장 이전 재고의 기준. 이후 생긴 품목/위치도 다시 실행하면 현재 수량이 기준이 됨).
+     * compact 와 같이 settle-window 이전 시점(cutoff)을 스냅샷 시각으로 하고, 현재 수량에서 cutoff 이후 원장 증감을 빼서
+     * 그 시점 수량으로 되돌린다. 조회 시점에 커밋 전이던 변경(transaction_date 는 이미 정해짐)은 재고와 원장 양쪽에서 빠지고,
+     * 커밋 후에는 cutoff 이후 이력으로 재생되므로 스냅샷과 원장 사이에 차이가 생기지 않는다.
+     * 두 조회는 한 트랜잭션의 일관된 읽기(REPEATABLE READ)로 같은 시점을 본다.
+     * 쓰기 지연 모드에서는 커밋된 변경의 원장이 아직 없을 수 있어 (재고에만 반영) 만들지 않는다.
+     */
+    public long seedSnapshots() {
+        if (!"sync".equals(ledgerMode)) {
+            throw new IllegalStateException("원장 기록 방식이 sync 일 때만 초기 스냅샷을 만들 수 있습니다.");
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(settleWindow);
+        return forEachPartition(range -> transactionTemplate.execute(status -> {
+            List<InventoryQuantityChange> inventories = ledgerReplayMapper.findInventoryQuantities(range.from(), range.to());
+            Map<InventoryKey, InventoryQuantityChange> recent =
+                    toMap(ledgerReplayMapper.sumDeltasAfter(range.from(), range.to(), cutoff));
+            for (InventoryQuantityChange inventory : inventories) {
+                inventory.setQuantity(inventory.getQuantity() - quantityOf(recent.get(InventoryKey.of(inventory))));
+            }
+
+            long inserted = 0;
+            for (List<InventoryQuantityChange> chunk : chunks(inventories)) {
+                chunk.forEach(row -> row.setId(entityIdAllocator.nextId(InventorySnapshot.class)));
+                inserted += ledgerReplayMapper.insertMissingSnapshots(chunk, cutoff);
+            }
+            return inserted;
+        })).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 원장 재생 수량과 재고 테이블 비교, repair 면 원장 기준으로 재고를 덮어쓴다.
+     * 스냅샷이 없는 품목/위치는 원장 이전부터 있던 재고일 수 있어(재생 수량 0) 보정하지 않고 unseededCount 로 알린다.
+     * 보정 대상이 max-repairs 를 넘으면 스냅샷 누락 같은 전체 문제일 가능성이 크므로 한 건도 덮어쓰지 않는다.
+     */
+    public LedgerReconcileResponse reconcile(boolean repair) {
+        if (repair && !"sync".equals(ledgerMode)) {
+            // 쓰기 지연 모드에서는 커밋된 변경의 원장이 아직 저장되지 않았을 수 있음
+            throw new IllegalStateException("원장 기록 방식이 sync 일 때만 재고를 보정할 수 있습니다.");
+        }
+
+        // 1. 품목 구간별 비교 (병렬)
+        long startedAt = System.currentTimeMillis();
+        List<PartitionResult> results = forEachPartition(this::reconcilePartition);
+
+        List<InventoryDrift> drifts = new ArrayList<>();
+        long checked = 0;
+        long driftCount = 0;
+        long repairable = 0;
+        for (PartitionResult result : results) {
+            checked += result.checked();
+            driftCount += result.drifts().size();
+            repairable += result.repairableKeys().size();
+            result.drifts().stream()
+                    .limit(MAX_REPORTED_DRIFTS - drifts.size())
+                    .forEach(drifts::add);
+        }
+        long unseeded = driftCount - repairable;
+        if (unseeded > 0) {
+            log.warn("스냅샷이 없는 품목/위치 {}건은 보정하지 않습니다. 원장 이전 재고라면 POST /api/ledger/snapshots/seed 로 스냅샷을 만드세요.", unseeded);
+        }
+
+        // 2. 보정 (상한 이내일 때만, 구간마다 재고 행을 잠근 뒤 다시 재생)
+        long repaired = 0;
+        String refusedReason = null;
+        if (repair && repairable > maxRepairs) {
+            refusedReason = "보정 대상 " + repairable + "건이 상한(" + maxRepairs + ")을 넘습니다. 차이 목록을 확인한 뒤 원인을 먼저 해결하세요.";
+        } else if (repair) {
+            for (PartitionResult result : results) {
+                if (!result.repairableKeys().isEmpty()) {
+                    Long count = transactionTemplate.execute(status -> repairPartition(result.range(), result.repairableKeys()));
+                    repaired += count != null ? count : 0;
+                }
+            }
+        }
+
+        return LedgerReconcileResponse.builder()
+                .partitionCount(results.size())
+                .checkedCount(checked)
+                .driftCount(driftCount)
+                .repairedCount(repaired)
+                .unseededCount(unseeded)
+                .repairRefusedReason(refusedReason)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .drifts(drifts)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long compactPartition(ItemRange range, LocalDateTime cutoff) {
+        List<InventoryQuantityChange> deltas = ledgerReplayMapper.sumDeltasSinceSnapshot(range.from(), range.to(), cutoff, null);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<InventoryKey, InventoryQuantityChange> snapshots = toMap(ledgerReplayMapper.findSnapshots(range.from(), range.to()));
+
+        // 스냅샷이 있고 증감이 있는 품목/위치만 새 수량으로 갱신
+        List<InventoryQuantityChange> updated = new ArrayList<>(deltas.size());
+        for (InventoryQuantityChange delta : deltas) {
+            InventoryQuantityChange snapshot = snapshots.get(InventoryKey.of(delta));
+            if (snapshot == null) {
+                continue;
+            }
+            InventoryQuantityChange row = new InventoryQuantityChange(
+                    delta.getItemId(), delta.getLocationId(), snapshot.getQuantity() + delta.getQuantity());
+            row.setId(snapshot.getId());
+            updated.add(row);
+        }
+        if (updated.isEmpty()) {
+            return 0;
+        }
+
+        for (List<InventoryQuantityChange> chunk : chunks(updated)) {
+            ledgerReplayMapper.upsertSnapshots(chunk, cutoff);
+        }
+        return updated.size();
+    }
+
+    private PartitionResult reconcilePartition(ItemRange range) {
+        Set<InventoryKey> seeded = toMap(ledgerReplayMapper.findSnapshots(range.from(), range.to())).keySet();
+        Map<InventoryKey, InventoryQuantityChange> ledger = replayPartition(range, null, null);
+        Map<InventoryKey, InventoryQuantityChange> inventories = toMap(ledgerReplayMapper.findInventoryQuantities(range.from(), range.to()));
+
+        Set<InventoryKey> keys = new HashSet<>(ledger.keySet());
+        keys.addAll(inventories.keySet());
+
+        List<InventoryDrift> drifts = new ArrayList<>();
+        for (InventoryKey key : keys) {
+            int ledgerQuantity = quantityOf(ledger.get(key));
+            int inventoryQuantity = quantityOf(inventories.get(key));
+            if (ledgerQuantity != inventoryQuantity) {
+                drifts.add(new InventoryDrift(key.itemId(), key.locationId(), inventoryQuantity, ledgerQuantity));
+            }
+        }
+
+        // 스냅샷이 있는 품목/위치만 보정 대상
+        List<InventoryQuantityChange> repairableKeys = drifts.stream()
+                .filter(drift -> seeded.contains(new InventoryKey(drift.getItemId(), drift.getLocationId())))
+                .map(drift -> new InventoryQuantityChange(drift.getItemId(), drift.getLocationId(), 0))
+                .toList();
+
+        return new PartitionResult(range, keys.size(), drifts, repairableKeys);
+    }
+
+    // 재고 행을 잠근 뒤 원장을 다시 재생해 덮어쓴다 (조회와 보정 사이의 변경을 덮어쓰지 않도록)
+    private long repairPartition(ItemRange range, List<InventoryQuantityChange> driftKeys) {
+        long repaired = 0;
+        for (List<InventoryQuantityChange> chunk : chunks(driftKeys)) {
+            List<InventoryQuantityChange> locked = ledgerReplayMapper.lockInventories(chunk);
+            if (locked.isEmpty()) {
+                continue;
+            }
+
+            Map<InventoryKey, InventoryQuantityChange> ledger = replayPartition(range, null, locked);
+            List<InventoryQuantityChange> changes = new ArrayList<>();
+            List<InventoryQuantityChange> deltas = new ArrayList<>();
+            for (InventoryQuantityChange inventory : locked) {
+                int ledgerQuantity = quantityOf(ledger.get(InventoryKey.of(inventory)));
+                if (ledgerQuantity != inventory.getQuantity()) {
+                    changes.add(new InventoryQuantityChange(inventory.getItemId(), inventory.getLocationId(), ledgerQuantity));
+                    deltas.add(new InventoryQuantityChange(inventory.getItemId(), inventory.getLocationId(),
+                            ledgerQuantity - inventory.getQuantity()));
+                }
+            }
+            if (!changes.isEmpty()) {
+                repaired += ledgerReplayMapper.overwriteQuantities(changes);
+                itemStockSummaryUpdater.applyDeltas(deltas);
+            }
+        }
+        return repaired;
+    }
+
+    // 스냅샷 + 이후 원장 증감 (keys 가 있으면 해당 품목/위치만)
+    private Map<InventoryKey, InventoryQuantityChange> replayPartition(ItemRange range, LocalDateTime upTo,
+                                                                      List<InventoryQuantityChange> keys) {
+        Map<InventoryKey, InventoryQuantityChange> result = toMap(ledgerReplayMapper.findSnapshots(range.from(), range.to()));
+        if (keys != null) {
+            Set<InventoryKey> wanted = new HashSet<>();
+            keys.forEach(key -> wanted.add(InventoryKey.of(key)));
+            result.keySet().retainAll(wanted);
+        }
+
+        for (InventoryQuantityChange delta : ledgerReplayMapper.sumDeltasSinceSnapshot(range.from(), range.to(), upTo, keys)) {
+            result.merge(InventoryKey.of(delta), delta, (snapshot, change) -> new InventoryQuantityChange(
+                    snapshot.getItemId(), snapshot.getLocationId(), snapshot.getQuantity() + change.getQuantity()));
+        }
+        return result;
+    }
+
+    // 품목 id 구간별로 병렬 실행
+    private <R> List<R> forEachPartition(Function<ItemRange, R> task) {
+        Long maxItemId = ledgerReplayMapper.findMaxItemId();
+        if (maxItemId == null) {
+            return List.of();
+        }
+
+        List<Future<R>> futures = new ArrayList<>();
+        for (long from = 1; from <= maxItemId; from += partitionSize) {
+            ItemRange range = new ItemRange(from, Math.min(from + partitionSize - 1, maxItemId));
+            futures.add(executor.submit(() -> task.apply(range)));
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("원장 재생이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("원장 재생 중 오류가 발생했습니다.", e.getCause());
+        }
+        return results;
+    }
+
+    private static Map<InventoryKey, InventoryQuantityChange> toMap(List<InventoryQuantityChange> rows) {
+        Map<InventoryKey, InventoryQuantityChange> map = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> map.put(InventoryKey.of(row), row));
+        return map;
+    }
+
+    private static int quantityOf(InventoryQuantityChange row) {
+        return row != null ? row.getQuantity() : 0;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> rows) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += WRITE_CHUNK_SIZE) {
+            chunks.add(rows.subList(from, Math.min(from + WRITE_CHUNK_SIZE, rows.size())));
+        }
+        return chunks;
+    }
+
+    private record ItemRange(long from, long to) {
+    }
+
+    private record InventoryKey(Long itemId, Long locationId) {
+        static InventoryKey of(InventoryQuantityChange row) {
+            return new InventoryKey(row.getItemId(), row.getLocationId());
+        }
+    }
+
+    private record PartitionResult(ItemRange range, long checked, List<InventoryDrift> drifts,
+                                   List<InventoryQuantityChange> repairableKeys) {
+    }
+}
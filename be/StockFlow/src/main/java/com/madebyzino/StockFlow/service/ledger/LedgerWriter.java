@@ -0,0 +1,318 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
+import com.madebyzino.StockFlow.dto.transaction.LedgerStagingRow;
+import com.madebyzino.StockFlow.repository.mapper.LedgerStagingMapper;
+import com.madebyzino.StockFlow.repository.mapper.TransactionMapper;
+import com.madebyzino.StockFlow.service.outbox.StockOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 지연 모드의 백그라운드 원장 기록기.
+ * 요청 트랜잭션은 이력 묶음을 ledger_staging 에 JSON 한 행으로 남기고(stage), 커밋 후 묶음을 제한된 크기의 큐에 넣는다.
+ * 전용 스레드가 flush-size 건이 모이거나 flush-interval-ms 가 지나면 다중 행 INSERT 한 번으로 저장하고,
+ * 같은 트랜잭션에서 스테이징 행을 삭제한다. 스테이징 행을 잠가 남아 있는 묶음만 저장하므로 한 묶음은 한 번만 기록된다.
+ * 큐가 가득 차 offer-timeout-ms 안에 들어가지 못하면 요청 스레드가 직접 저장한다(역압).
+ * 저장에 실패한 묶음은 재시도 목록에 넣어 지수 백오프로 다시 저장하고, 프로세스가 중단되어 큐에서 사라진 묶음은
+ * stale-after-ms 가 지난 스테이징 행을 주기적으로 복구해 저장한다 (커밋된 재고 변경의 이력은 DB 에 남아 있음).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stockflow.ledger.mode", havingValue = "write-behind")
+public class LedgerWriter {
+
+    private final TransactionMapper transactionMapper;
+    private final LedgerStagingMapper ledgerStagingMapper;
+    private final StockOutbox stockOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<StagedBatch> queue;
+    // 저장에 실패해 다시 저장할 묶음 (retryLock 으로 보호)
+    private final List<StagedBatch> retries = new ArrayList<>();
+    private final Object retryLock = new Object();
+
+    private final int flushSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long retryBackoffMs;
+    private final long retryMaxBackoffMs;
+    private final long staleAfterMs;
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter retriedCounter;
+    private final Counter recoveredCounter;
+
+    // retryLock 으로 보호
+    private long retryDelayMs;
+    private long nextRetryAt;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LedgerWriter(
+            TransactionMapper transactionMapper,
+            LedgerStagingMapper ledgerStagingMapper,
+            StockOutbox stockOutbox,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${stockflow.ledger.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${stockflow.ledger.write-behind.flush-size:500}") int flushSize,
+            @Value("${stockflow.ledger.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${stockflow.ledger.write-behind.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${stockflow.ledger.write-behind.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${stockflow.ledger.write-behind.retry-max-backoff-ms:60000}") long retryMaxBackoffMs,
+            @Value("${stockflow.ledger.write-behind.stale-after-ms:120000}") long staleAfterMs
+    ) {
+        this.transactionMapper = transactionMapper;
+        this.ledgerStagingMapper = ledgerStagingMapper;
+        this.stockOutbox = stockOutbox;
+        // 요청 트랜잭션의 커밋 이후(afterCompletion)에도 호출되므로 항상 새 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushSize = flushSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.retryMaxBackoffMs = Math.max(retryMaxBackoffMs, retryBackoffMs);
+        this.retryDelayMs = retryBackoffMs;
+        // 재시도 중인 묶음을 복구가 가로채지 않도록 최대 백오프보다 길게 둠
+        this.staleAfterMs = Math.max(staleAfterMs, this.retryMaxBackoffMs);
+
+        meterRegistry.gauge("stockflow.ledger.queue.depth", queue, BlockingQueue::size);
+        meterRegistry.gauge("stockflow.ledger.retry.depth", this, LedgerWriter::pendingRetries);
+        this.flushTimer = Timer.builder("stockflow.ledger.flush.latency")
+                .description("원장 배치 INSERT 소요 시간")
+                .register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("stockflow.ledger.flushed.entries");
+        this.callerRunsCounter = meterRegistry.counter("stockflow.ledger.caller.runs");
+        this.retriedCounter = meterRegistry.counter("stockflow.ledger.retried.entries");
+        this.recoveredCounter = meterRegistry.counter("stockflow.ledger.recovered.entries");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "ledger-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 요청 트랜잭션 안에서 이력 묶음을 스테이징 행으로 기록하고 묶음 id(첫 원장 id)를 반환한다.
+     * 재고 변경과 같이 커밋되거나 롤백되므로, 커밋된 재고 변경의 이력은 프로세스가 중단되어도 사라지지 않는다.
+     */
+    public long stage(List<LedgerEntry> entries) {
+        long stagingId = entries.get(0).getId();
+        ledgerStagingMapper.insert(stagingId, objectMapper.writeValueAsString(entries));
+        return stagingId;
+    }
+
+    // 커밋된 묶음을 큐에 넣는다. 큐가 가득 차면 호출 스레드가 직접 저장 (실패하면 재시도 목록으로)
+    public void submit(long stagingId, List<LedgerEntry> entries) {
+        StagedBatch batch = new StagedBatch(stagingId, entries);
+        boolean queued;
+        try {
+            queued = queue.offer(batch, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+
+        if (!queued) {
+            callerRunsCounter.increment();
+            flush(List.of(batch));
+        }
+    }
+
+    // 다른 인스턴스가 남긴 묶음도 포함해, 큐에서 사라진(프로세스 중단) 오래된 스테이징 행을 저장
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stockflow.ledger.write-behind.recover-interval-ms:30000}",
+            initialDelayString = "${stockflow.ledger.write-behind.recover-interval-ms:30000}")
+    public void recoverStale() {
+        int recovered = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<LedgerStagingRow> rows = ledgerStagingMapper.lockStale(staleAfterMs, flushSize);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                List<LedgerEntry> entries = new ArrayList<>();
+                for (LedgerStagingRow row : rows) {
+                    entries.addAll(Arrays.asList(objectMapper.readValue(row.getEntries(), LedgerEntry[].class)));
+                }
+                transactionMapper.insertAll(entries, true);
+                stockOutbox.publish(entries);
+                ledgerStagingMapper.deleteByIds(rows.stream().map(LedgerStagingRow::getId).toList());
+                return rows.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            recovered += count;
+            if (count < flushSize) {
+                break;
+            }
+        }
+        if (recovered > 0) {
+            recoveredCounter.increment(recovered);
+            log.warn("스테이징에 남은 원장 묶음 {}건을 복구했습니다.", recovered);
+        }
+    }
+
+    // 저장에 실패해 다시 저장을 기다리는 이력 수
+    public int pendingRetries() {
+        synchronized (retryLock) {
+            return retries.stream().mapToInt(batch -> batch.entries().size()).sum();
+        }
+    }
+
+    // 큐나 재시도 목록에 남은 묶음은 스테이징 행으로 남아 recoverStale 이 저장한다
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void run() {
+        List<StagedBatch> batches = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                retryDue();
+
+                StagedBatch first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batches.add(first);
+                int size = first.entries().size();
+
+                // 첫 묶음을 받은 뒤 flush-interval-ms 동안 flush-size 건까지 모음 (묶음은 나누지 않음)
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (size < flushSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    StagedBatch next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batches.add(next);
+                    size += next.entries().size();
+                }
+
+                flush(batches);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("원장 배치 저장 중 오류가 발생했습니다.", e);
+            } finally {
+                batches.clear();
+            }
+        }
+    }
+
+    // 백오프 시간이 지났으면 재시도 목록을 꺼내 다시 저장 (또 실패한 묶음은 flush 가 목록에 되돌림)
+    private void retryDue() {
+        List<StagedBatch> due;
+        synchronized (retryLock) {
+            if (retries.isEmpty() || System.currentTimeMillis() < nextRetryAt) {
+                return;
+            }
+            due = new ArrayList<>(retries);
+            retries.clear();
+        }
+        retriedCounter.increment(due.stream().mapToInt(batch -> batch.entries().size()).sum());
+        flush(due);
+    }
+
+    /**
+     * 묶음들을 한 번에 저장한다. 실패하면 묶음별로 저장해 문제 있는 묶음만 골라내고,
+     * 그 묶음은 스테이징 행을 남긴 채 재시도 목록에 넣는다 (커밋된 재고 변경의 이력을 버리지 않음).
+     */
+    private void flush(List<StagedBatch> batches) {
+        List<StagedBatch> failed = List.of();
+        try {
+            write(batches);
+        } catch (RuntimeException e) {
+            log.warn("원장 배치 저장 실패, 묶음별로 다시 저장합니다. batches={}", batches.size(), e);
+            failed = new ArrayList<>();
+            for (StagedBatch batch : batches) {
+                try {
+                    write(List.of(batch));
+                } catch (RuntimeException single) {
+                    failed.add(batch);
+                }
+            }
+        }
+
+        synchronized (retryLock) {
+            if (failed.isEmpty()) {
+                retryDelayMs = retryBackoffMs;
+                return;
+            }
+            retries.addAll(failed);
+            nextRetryAt = System.currentTimeMillis() + retryDelayMs;
+            log.error("원장 묶음 {}건 저장 실패, {}ms 후 다시 저장합니다. 스테이징에는 남아 있습니다. firstId={}",
+                    failed.size(), retryDelayMs, failed.get(0).stagingId());
+            retryDelayMs = Math.min(retryDelayMs * 2, retryMaxBackoffMs);
+        }
+    }
+
+    // 스테이징 행이 남아 있는 묶음만 원장 / 아웃박스에 기록하고 스테이징 행을 같은 트랜잭션에서 삭제
+    private void write(List<StagedBatch> batches) {
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> existing = new HashSet<>(ledgerStagingMapper.lockExisting(
+                    batches.stream().map(StagedBatch::stagingId).toList()));
+            if (existing.isEmpty()) {
+                return;
+            }
+
+            List<LedgerEntry> entries = new ArrayList<>();
+            for (StagedBatch batch : batches) {
+                if (existing.contains(batch.stagingId())) {
+                    entries.addAll(batch.entries());
+                }
+            }
+            transactionMapper.insertAll(entries, false);
+            stockOutbox.publish(entries);
+            ledgerStagingMapper.deleteByIds(existing);
+            flushedCounter.increment(entries.size());
+        }));
+    }
+
+    private record StagedBatch(long stagingId, List<LedgerEntry> entries) {
+    }
+}
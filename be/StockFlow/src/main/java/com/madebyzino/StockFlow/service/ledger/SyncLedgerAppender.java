@@ -0,0 +1,31 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
+import com.madebyzino.StockFlow.entity.Transaction;
+import com.madebyzino.StockFlow.repository.TransactionRepository;
+import com.madebyzino.StockFlow.service.outbox.StockOutbox;
+import com.madebyzino.StockFlow.service.summary.ItemStockSummaryUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기본 모드. 요청 트랜잭션 안에서 바로 저장한다 (품목별 재고 합계, 아웃박스 이벤트도 같은 트랜잭션).
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stockflow.ledger.mode", havingValue = "sync", matchIfMissing = true)
+public class SyncLedgerAppender implements LedgerAppender {
+
+    private final TransactionRepository transactionRepository;
+    private final StockOutbox stockOutbox;
+    private final ItemStockSummaryUpdater itemStockSummaryUpdater;
+
+    @Override
+    public List<Transaction> appendAll(List<Transaction> transactions) {
+        itemStockSummaryUpdater.applyLedger(transactions);
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+        stockOutbox.publish(saved.stream().map(LedgerEntry::from).toList());
+        return saved;
+    }
+}
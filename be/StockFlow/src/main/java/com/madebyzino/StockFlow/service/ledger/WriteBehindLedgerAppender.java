@@ -0,0 +1,80 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
+import com.madebyzino.StockFlow.entity.Transaction;
+import com.madebyzino.StockFlow.repository.EntityIdAllocator;
+import com.madebyzino.StockFlow.service.summary.ItemStockSummaryUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연 모드. 요청 트랜잭션에서는 id 를 할당하고 이력 묶음을 스테이징 행 하나로만 기록한 뒤,
+ * 커밋된 묶음을 LedgerWriter 로 넘겨 백그라운드에서 다중 행 INSERT 로 모아서 저장한다.
+ * 롤백된 작업은 스테이징 행도 함께 롤백되어 이력이 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stockflow.ledger.mode", havingValue = "write-behind")
+public class WriteBehindLedgerAppender implements LedgerAppender {
+
+    private final EntityIdAllocator entityIdAllocator;
+    private final LedgerWriter ledgerWriter;
+    private final ItemStockSummaryUpdater itemStockSummaryUpdater;
+
+    @Override
+    public List<Transaction> appendAll(List<Transaction> transactions) {
+        // 품목별 재고 합계는 재고와 같은 트랜잭션에서 바로 반영 (이력만 지연 저장)
+        itemStockSummaryUpdater.applyLedger(transactions);
+
+        if (transactions.isEmpty()) {
+            return transactions;
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            transaction.setId(entityIdAllocator.nextId(Transaction.class));
+            entries.add(LedgerEntry.from(transaction));
+        }
+
+        // 재고 변경과 같은 트랜잭션에서 스테이징 (트랜잭션 밖이면 바로 커밋됨)
+        long stagingId = ledgerWriter.stage(entries);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingBatches().put(stagingId, entries);
+        } else {
+            ledgerWriter.submit(stagingId, entries);
+        }
+        return transactions;
+    }
+
+    // 현재 트랜잭션에서 스테이징한 묶음 (처음 호출될 때 커밋 후 전달하도록 동기화 등록)
+    @SuppressWarnings("unchecked")
+    private Map<Long, List<LedgerEntry>> pendingBatches() {
+        Map<Long, List<LedgerEntry>> pending =
+                (Map<Long, List<LedgerEntry>>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<Long, List<LedgerEntry>> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WriteBehindLedgerAppender.this);
+                // 전달에 실패해도 스테이징 행이 커밋되어 있으므로 LedgerWriter 의 복구가 저장한다
+                if (status == STATUS_COMMITTED) {
+                    created.forEach(ledgerWriter::submit);
+                }
+            }
+        });
+        return created;
+    }
+}
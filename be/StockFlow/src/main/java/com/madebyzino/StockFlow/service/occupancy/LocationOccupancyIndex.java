@@ -0,0 +1,375 @@
+package com.madebyzino.StockFlow.service.occupancy;
+
+import com.madebyzino.StockFlow.dto.location.LocationOccupancyState;
+import com.madebyzino.StockFlow.dto.location.LocationUtilizationResponse;
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.repository.mapper.LocationMapper;
+import com.madebyzino.StockFlow.service.outbox.StockChangeSubscriber;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 센터 / 구역별 위치 점유 비트맵 색인 (Roaring bitmap).
+ * 구역마다 활성 위치 집합과 재고 보유 위치 집합을 두고, 빈 위치는 두 집합의 차집합, 활용률은 교집합 크기로 구한다.
+ * 재고 변동(아웃박스 이벤트)과 위치 등록 / 수정 / 활성화 변경이 생기면 해당 위치만 DB 의 현재 상태로 다시 맞추므로
+ * 같은 이벤트를 다시 받아도 결과가 같다. 다른 인스턴스의 위치 변경은 주기적인 재구성으로 반영한다.
+ */
+@Slf4j
+@Component
+public class LocationOccupancyIndex implements StockChangeSubscriber {
+
+    // 한 번에 조회할 위치 수
+    private static final int REFRESH_CHUNK = 1000;
+
+    private final LocationMapper locationMapper;
+    private final TransactionTemplate readOnlyTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 갱신 / 재구성은 한 번에 하나씩 (조회 결과가 늦게 반영되어 최신 상태를 덮어쓰지 않도록)
+    private final Object refreshMutex = new Object();
+    private final Object rebuildMutex = new Object();
+
+    // lock 으로 보호
+    private Map<Zone, Bitmaps> zones = new HashMap<>();
+    private Map<Integer, Zone> zoneOf = new HashMap<>();
+    private volatile boolean ready;
+    private Set<Long> pendingDuringRebuild;
+
+    public LocationOccupancyIndex(LocationMapper locationMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.locationMapper = locationMapper;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+
+        Gauge.builder("stockflow.location.occupancy.index.size", this, LocationOccupancyIndex::size)
+                .description("점유 색인에 올라간 위치 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재고가 없는 활성 위치 id (오름차순) 중 offset 부터 limit 건과 전체 건수.
+     * centerName / zone 이 null 이면 해당 조건 없이 조회한다.
+     */
+    public EmptyLocations findEmptyLocationIds(String centerName, String zone, long offset, int limit) {
+        ensureReady();
+
+        lock.readLock().lock();
+        try {
+            // 1. 조건에 맞는 구역별 (활성 - 재고 보유) 을 합침
+            RoaringBitmap empty = new RoaringBitmap();
+            zones.forEach((key, bitmaps) -> {
+                if (key.matches(centerName, zone)) {
+                    empty.or(RoaringBitmap.andNot(bitmaps.active, bitmaps.occupied));
+                }
+            });
+
+            // 2. offset 번째 id 로 건너뛴 뒤 limit 건
+            long total = empty.getLongCardinality();
+            List<Long> ids = new ArrayList<>(limit);
+            if (offset < total) {
+                PeekableIntIterator iterator = empty.getIntIterator();
+                iterator.advanceIfNeeded(empty.select(Math.toIntExact(offset)));
+                while (iterator.hasNext() && ids.size() < limit) {
+                    ids.add(Integer.toUnsignedLong(iterator.next()));
+                }
+            }
+            return new EmptyLocations(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 센터 / 구역별 활성 위치 수, 재고 보유 위치 수, 활용률 (센터, 구역 순)
+    public List<LocationUtilizationResponse> getUtilization(String centerName, String zone) {
+        ensureReady();
+
+        lock.readLock().lock();
+        try {
+            List<LocationUtilizationResponse> result = new ArrayList<>();
+            zones.forEach((key, bitmaps) -> {
+                if (!key.matches(centerName, zone)) {
+                    return;
+                }
+                long active = bitmaps.active.getLongCardinality();
+                long occupied = RoaringBitmap.andCardinality(bitmaps.active, bitmaps.occupied);
+                result.add(LocationUtilizationResponse.builder()
+                        .centerName(key.centerName())
+                        .zone(key.zone())
+                        .activeLocations(active)
+                        .occupiedLocations(occupied)
+                        .emptyLocations(active - occupied)
+                        .utilization(active == 0 ? 0 : (double) occupied / active)
+                        .build());
+            });
+            result.sort(Comparator.comparing(LocationUtilizationResponse::getCenterName)
+                    .thenComparing(LocationUtilizationResponse::getZone));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return zoneOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "location-occupancy-index";
+    }
+
+    @Override
+    public void onEvents(List<StockChangeEvent> events) {
+        Set<Long> locationIds = new LinkedHashSet<>();
+        for (StockChangeEvent event : events) {
+            if (event.getFromLocationId() != null) {
+                locationIds.add(event.getFromLocationId());
+            }
+            if (event.getToLocationId() != null) {
+                locationIds.add(event.getToLocationId());
+            }
+        }
+        refresh(locationIds);
+    }
+
+    @Override
+    public boolean durable() {
+        return false;
+    }
+
+    // 위치 등록 / 수정 / 활성화 변경 후 호출 (트랜잭션 안이면 커밋 후 반영)
+    public void locationsChanged(Collection<Long> locationIds) {
+        if (locationIds.isEmpty()) {
+            return;
+        }
+        List<Long> changed = List.copyOf(locationIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshQuietly(changed);
+                }
+            });
+            return;
+        }
+        refreshQuietly(changed);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 다른 인스턴스에서 등록 / 수정된 위치를 반영하기 위한 주기적 재구성
+    @Scheduled(cron = "${stockflow.location-occupancy-index.rebuild-cron:0 */10 * * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (rebuildMutex) {
+            try {
+                // 1. 이후 들어오는 변경 위치는 교체 후 다시 맞출 수 있도록 모아 둠
+                lock.writeLock().lock();
+                try {
+                    pendingDuringRebuild = new LinkedHashSet<>();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                // 2. 전체 위치를 스트리밍으로 읽어 새 색인 구성 (조회는 기존 색인으로 계속 처리)
+                Map<Zone, Bitmaps> newZones = new HashMap<>();
+                Map<Integer, Zone> newZoneOf = new HashMap<>();
+                readOnlyTemplate.executeWithoutResult(status -> {
+                    try (Cursor<LocationOccupancyState> states = locationMapper.streamOccupancyStates()) {
+                        states.forEach(state -> put(newZones, newZoneOf, state));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                newZones.values().forEach(Bitmaps::optimize);
+
+                // 3. 교체 후, 구성하는 동안 바뀐 위치는 DB 에서 다시 읽어 맞춤
+                Set<Long> pending;
+                lock.writeLock().lock();
+                try {
+                    zones = newZones;
+                    zoneOf = newZoneOf;
+                    ready = true;
+                    pending = pendingDuringRebuild;
+                } finally {
+                    pendingDuringRebuild = null;
+                    lock.writeLock().unlock();
+                }
+                refresh(pending);
+
+                log.info("위치 점유 색인 재구성 완료. locations={}, zones={}, elapsedMs={}",
+                        newZoneOf.size(), newZones.size(), System.currentTimeMillis() - startedAt);
+            } catch (RuntimeException e) {
+                log.error("위치 점유 색인 재구성 실패. 기존 색인을 계속 사용합니다.", e);
+                lock.writeLock().lock();
+                try {
+                    pendingDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    // 기동 직후 첫 재구성 전에 들어온 조회는 재구성을 기다림
+    private void ensureReady() {
+        if (ready) {
+            return;
+        }
+        synchronized (rebuildMutex) {
+            if (!ready) {
+                rebuild();
+            }
+        }
+        if (!ready) {
+            throw new IllegalStateException("위치 점유 색인을 구성하지 못했습니다.");
+        }
+    }
+
+    private void refreshQuietly(Collection<Long> locationIds) {
+        try {
+            refresh(locationIds);
+        } catch (RuntimeException e) {
+            // 다음 재구성에서 반영
+            log.warn("위치 점유 색인 갱신 실패. locationIds={}", locationIds.size(), e);
+        }
+    }
+
+    private void refresh(Collection<Long> locationIds) {
+        List<Long> ids = new ArrayList<>(locationIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK, ids.size()));
+
+            synchronized (refreshMutex) {
+                Map<Long, LocationOccupancyState> states = new HashMap<>();
+                for (LocationOccupancyState state : locationMapper.findOccupancyStates(chunk)) {
+                    states.put(state.getLocationId(), state);
+                }
+
+                lock.writeLock().lock();
+                try {
+                    for (Long locationId : chunk) {
+                        LocationOccupancyState state = states.get(locationId);
+                        if (state != null) {
+                            put(zones, zoneOf, state);
+                        } else {
+                            remove(zones, zoneOf, Math.toIntExact(locationId));
+                        }
+                    }
+                    if (pendingDuringRebuild != null) {
+                        pendingDuringRebuild.addAll(chunk);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    // 센터 / 구역이 바뀐 위치는 이전 구역에서 빼고 새 구역에 넣음
+    private static void put(Map<Zone, Bitmaps> zones, Map<Integer, Zone> zoneOf, LocationOccupancyState state) {
+        int id = Math.toIntExact(state.getLocationId());
+        Zone key = new Zone(state.getCenterName(), state.getZone());
+
+        Zone previous = zoneOf.put(id, key);
+        if (previous != null && !previous.equals(key)) {
+            removeFrom(zones, previous, id);
+        }
+
+        Bitmaps bitmaps = zones.computeIfAbsent(key, k -> new Bitmaps());
+        bitmaps.members.add(id);
+        set(bitmaps.active, id, state.isActive());
+        set(bitmaps.occupied, id, state.isOccupied());
+    }
+
+    private static void remove(Map<Zone, Bitmaps> zones, Map<Integer, Zone> zoneOf, int id) {
+        Zone previous = zoneOf.remove(id);
+        if (previous != null) {
+            removeFrom(zones, previous, id);
+        }
+    }
+
+    private static void removeFrom(Map<Zone, Bitmaps> zones, Zone key, int id) {
+        Bitmaps bitmaps = zones.get(key);
+        if (bitmaps == null) {
+            return;
+        }
+        bitmaps.active.remove(id);
+        bitmaps.occupied.remove(id);
+        bitmaps.members.remove(id);
+        if (bitmaps.members.isEmpty()) {
+            zones.remove(key);
+        }
+    }
+
+    private static void set(RoaringBitmap bitmap, int id, boolean value) {
+        if (value) {
+            bitmap.add(id);
+        } else {
+            bitmap.remove(id);
+        }
+    }
+
+    public record EmptyLocations(List<Long> locationIds, long total) {
+    }
+
+    private record Zone(String centerName, String zone) {
+
+        boolean matches(String centerName, String zone) {
+            return (centerName == null || centerName.equals(this.centerName))
+                    && (zone == null || zone.equals(this.zone));
+        }
+    }
+
+    // 구역에 속한 전체 위치 / 활성 위치 / 재고 보유 위치
+    private static final class Bitmaps {
+
+        private final RoaringBitmap members = new RoaringBitmap();
+        private final RoaringBitmap active = new RoaringBitmap();
+        private final RoaringBitmap occupied = new RoaringBitmap();
+
+        void optimize() {
+            members.runOptimize();
+            active.runOptimize();
+            occupied.runOptimize();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.madebyzino.StockFlow.service.outbox;
+
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.entity.OutboxSequence;
+import com.madebyzino.StockFlow.entity.OutboxSubscriberOffset;
+import com.madebyzino.StockFlow.repository.OutboxSequenceRepository;
+import com.madebyzino.StockFlow.repository.OutboxSubscriberOffsetRepository;
+import com.madebyzino.StockFlow.repository.mapper.OutboxMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아웃박스 폴링 전달기.
+ * 1. 순번 부여: 폴링마다 커밋되어 보이는 이벤트 중 순번(seq)이 없는 것에 순서대로 순번을 매긴다.
+ *    순번 행을 잠근 한 인스턴스씩 차례로 매기므로, 순번은 커밋되어 보이게 된 순서를 따르고 중간에 빈 값이 생기지 않는다.
+ *    기록(created_at)부터 커밋까지 오래 걸린 트랜잭션의 이벤트도 커밋 뒤의 순번을 받으므로 건너뛰지 않는다.
+ * 2. 전달: 구독자마다 마지막 순번 이후의 이벤트를 배치로 읽어 전달하고, 전달이 끝나면 순번을 옮긴다.
+ *    구독자가 예외를 던지면 순번을 옮기지 않고 다음 폴링에서 같은 배치를 다시 전달한다.
+ * 커밋된 이벤트는 다음 폴링(poll-interval-ms, 밀린 이벤트가 있으면 그만큼 더)에 순번을 받아 전달된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stockflow.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    // 한 번의 폴링에서 구독자별로 전달할 / 순번을 매길 최대 배치 수 (다른 구독자가 밀리지 않도록)
+    private static final int MAX_BATCHES_PER_POLL = 20;
+    private static final String SEQUENCE_NAME = "stock_outbox";
+
+    private final List<StockChangeSubscriber> subscribers;
+    private final OutboxMapper outboxMapper;
+    private final OutboxSubscriberOffsetRepository offsetRepository;
+    private final OutboxSequenceRepository sequenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate sequenceTemplate;
+
+    private final int batchSize;
+    private final Duration retention;
+
+    // 메모리 구독자의 위치 (마지막으로 전달한 순번)
+    private final Map<String, Long> memoryOffsets = new ConcurrentHashMap<>();
+
+    public OutboxDispatcher(
+            List<StockChangeSubscriber> subscribers,
+            OutboxMapper outboxMapper,
+            OutboxSubscriberOffsetRepository offsetRepository,
+            OutboxSequenceRepository sequenceRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${stockflow.outbox.batch-size:500}") int batchSize,
+            @Value("${stockflow.outbox.retention:7d}") Duration retention
+    ) {
+        this.subscribers = subscribers;
+        this.outboxMapper = outboxMapper;
+        this.offsetRepository = offsetRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 순번 없는 행을 찾는 잠금 조회가 간격 잠금으로 새 이벤트 INSERT 를 막지 않도록 READ COMMITTED
+        this.sequenceTemplate = new TransactionTemplate(transactionManager);
+        this.sequenceTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    // 메모리 구독자는 기동 시점의 마지막 순번 다음부터 받는다
+    @EventListener(ApplicationReadyEvent.class)
+    void initMemoryOffsets() {
+        long latest = outboxMapper.findLatestSeq();
+        for (StockChangeSubscriber subscriber : subscribers) {
+            if (!subscriber.durable()) {
+                memoryOffsets.put(subscriber.name(), latest);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stockflow.outbox.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_POLL; batch++) {
+                if (assignSequence() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 순번 부여 실패, 다음 폴링에서 다시 시도합니다.", e);
+        }
+
+        for (StockChangeSubscriber subscriber : subscribers) {
+            try {
+                for (int batch = 0; batch < MAX_BATCHES_PER_POLL; batch++) {
+                    int delivered = subscriber.durable() ? dispatchDurable(subscriber) : dispatchMemory(subscriber);
+                    if (delivered < batchSize) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("재고 변동 이벤트 전달 실패, 다음 폴링에서 다시 시도합니다. subscriber={}", subscriber.name(), e);
+            }
+        }
+    }
+
+    // 보관 기간이 지난 아웃박스 정리 (기준 시각은 DB 시계로 계산)
+    @Scheduled(cron = "${stockflow.outbox.cleanup-cron:0 30 * * * *}")
+    public void cleanup() {
+        int deleted;
+        do {
+            deleted = outboxMapper.deleteExpired(retention.toSeconds(), 10_000);
+        } while (deleted == 10_000);
+    }
+
+    // 순번 행 잠금 → 순번 없는 커밋된 이벤트 잠금 → 순서대로 순번 부여를 한 트랜잭션으로 처리
+    private int assignSequence() {
+        Integer assigned = sequenceTemplate.execute(status -> {
+            OutboxSequence sequence = sequenceRepository.findForUpdate(SEQUENCE_NAME)
+                    .orElseGet(() -> sequenceRepository.saveAndFlush(OutboxSequence.start(SEQUENCE_NAME)));
+
+            List<Long> transactionIds = outboxMapper.lockUnsequenced(batchSize);
+            if (transactionIds.isEmpty()) {
+                return 0;
+            }
+            outboxMapper.assignSeq(transactionIds, sequence.reserve(transactionIds.size()));
+            return transactionIds.size();
+        });
+        return assigned != null ? assigned : 0;
+    }
+
+    // 오프셋 잠금 → 조회 → 전달 → 오프셋 갱신을 한 트랜잭션으로 처리
+    private int dispatchDurable(StockChangeSubscriber subscriber) {
+        Integer delivered = transactionTemplate.execute(status -> {
+            OutboxSubscriberOffset offset = offsetRepository.findForUpdate(subscriber.name())
+                    .orElseGet(() -> offsetRepository.saveAndFlush(OutboxSubscriberOffset.start(subscriber.name())));
+
+            List<StockChangeEvent> events = outboxMapper.findEvents(offset.getLastSeq(), batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            subscriber.onEvents(events);
+
+            offset.advance(events.get(events.size() - 1).getSeq());
+            return events.size();
+        });
+        return delivered != null ? delivered : 0;
+    }
+
+    private int dispatchMemory(StockChangeSubscriber subscriber) {
+        Long offset = memoryOffsets.get(subscriber.name());
+        if (offset == null) {
+            return 0;  // 기동 완료 전
+        }
+
+        List<StockChangeEvent> events = outboxMapper.findEvents(offset, batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        subscriber.onEvents(events);
+        memoryOffsets.put(subscriber.name(), events.get(events.size() - 1).getSeq());
+        return events.size();
+    }
+}
@@ -0,0 +1,27 @@
+package com.madebyzino.StockFlow.service.outbox;
+
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+
+import java.util.List;
+
+/**
+ * 재고 변동 이벤트 구독자. 빈으로 등록하면 OutboxDispatcher 가 커밋되어 보이게 된 순서(seq)대로 배치 단위로 전달한다.
+ * 커밋이 늦은 트랜잭션의 이벤트도 건너뛰지 않으며, 커밋 후 다음 폴링에서 전달된다.
+ * 최소 한 번 전달(at-least-once)이므로 같은 이벤트가 다시 올 수 있다 (transactionId 로 구분).
+ */
+public interface StockChangeSubscriber {
+
+    // 오프셋 저장 키 (구독자마다 고유해야 함)
+    String name();
+
+    void onEvents(List<StockChangeEvent> events);
+
+    /**
+     * true(기본): 오프셋을 DB 에 저장하고, onEvents 를 오프셋 갱신과 같은 트랜잭션에서 호출한다.
+     * DB 읽기 모델은 이 트랜잭션 안에서 반영하면 정확히 한 번 반영된다.
+     * false: 메모리 읽기 모델용. 오프셋을 인스턴스 메모리에 두고 기동 시점 이후의 이벤트부터 받는다.
+     */
+    default boolean durable() {
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.madebyzino.StockFlow.service.outbox;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
+import com.madebyzino.StockFlow.repository.mapper.OutboxMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 원장 기록과 같은 트랜잭션에서 아웃박스 이벤트를 남긴다
+@Component
+@RequiredArgsConstructor
+public class StockOutbox {
+
+    private final OutboxMapper outboxMapper;
+
+    @Value("${stockflow.outbox.enabled:true}")
+    private boolean enabled;
+
+    public void publish(List<LedgerEntry> entries) {
+        if (enabled && !entries.isEmpty()) {
+            outboxMapper.insertAll(entries);
+        }
+    }
+}
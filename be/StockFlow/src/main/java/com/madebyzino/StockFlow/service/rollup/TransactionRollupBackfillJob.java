@@ -0,0 +1,187 @@
+package com.madebyzino.StockFlow.service.rollup;
+
+import com.madebyzino.StockFlow.dto.transaction.RollupBackfillPartition;
+import com.madebyzino.StockFlow.entity.OutboxSubscriberOffset;
+import com.madebyzino.StockFlow.repository.OutboxSubscriberOffsetRepository;
+import com.madebyzino.StockFlow.repository.mapper.LedgerReplayMapper;
+import com.madebyzino.StockFlow.repository.mapper.TransactionRollupMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시간별 / 일별 집계 테이블의 초기 채우기.
+ * 아웃박스에 없는(구독자가 받지 못할) 과거 원장을 품목 id 구간으로 나눠 병렬로 INSERT ... SELECT 한다.
+ * 구간마다 집계 반영과 완료 표시를 한 트랜잭션으로 처리하므로, 중간에 실패하거나 재기동해도 남은 구간만 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class TransactionRollupBackfillJob {
+
+    private final TransactionRollupMapper transactionRollupMapper;
+    private final LedgerReplayMapper ledgerReplayMapper;
+    private final OutboxSubscriberOffsetRepository offsetRepository;
+    private final TransactionRollupSubscriber transactionRollupSubscriber;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final ExecutorService launcher;
+    private final int partitionSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TransactionRollupBackfillJob(
+            TransactionRollupMapper transactionRollupMapper,
+            LedgerReplayMapper ledgerReplayMapper,
+            OutboxSubscriberOffsetRepository offsetRepository,
+            TransactionRollupSubscriber transactionRollupSubscriber,
+            PlatformTransactionManager transactionManager,
+            @Value("${stockflow.transaction-rollup.backfill.parallelism:4}") int parallelism,
+            @Value("${stockflow.transaction-rollup.backfill.partition-size:1000}") int partitionSize
+    ) {
+        this.transactionRollupMapper = transactionRollupMapper;
+        this.ledgerReplayMapper = ledgerReplayMapper;
+        this.offsetRepository = offsetRepository;
+        this.transactionRollupSubscriber = transactionRollupSubscriber;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionSize = partitionSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "rollup-backfill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.launcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rollup-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        runAsync();
+    }
+
+    // 실패 / 중단된 구간 재시도 (남은 구간이 없으면 조회만 하고 끝남)
+    @Scheduled(cron = "${stockflow.transaction-rollup.backfill.resume-cron:0 15 * * * *}")
+    public void scheduledResume() {
+        runAsync();
+    }
+
+    // 계획이 없으면 만들고 남은 구간을 백그라운드에서 처리 (이미 실행 중이면 false)
+    public boolean runAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        launcher.execute(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("재고 변동 집계 초기 채우기 실패. 남은 구간은 다음 실행에서 이어서 처리합니다.", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void run() {
+        long startedAt = System.currentTimeMillis();
+        planIfAbsent();
+
+        List<RollupBackfillPartition> pending = transactionRollupMapper.findPendingBackfillPartitions();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(pending.size());
+        for (RollupBackfillPartition partition : pending) {
+            futures.add(executor.submit(() -> transactionTemplate.execute(status -> backfillPartition(partition))));
+        }
+
+        long rows = 0;
+        try {
+            for (Future<Integer> future : futures) {
+                rows += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("재고 변동 집계 초기 채우기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("재고 변동 집계 초기 채우기 중 오류가 발생했습니다.", e.getCause());
+        }
+
+        log.info("재고 변동 집계 초기 채우기 완료. partitions={}, rows={}, elapsedMs={}",
+                pending.size(), rows, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 처음 한 번 품목 id 구간과 기준 시각(cutoff)을 기록한다.
+     * 구독자의 오프셋 행을 잠가 전달과 겹치지 않게 하고, cutoff 는 그 시점에 아웃박스에 남은 가장 오래된 기록 시각으로 고정한다
+     * (이후 보관 기간이 지나 아웃박스에서 지워진 이력을 다시 채우지 않도록).
+     */
+    private void planIfAbsent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            String subscriber = transactionRollupSubscriber.name();
+            offsetRepository.findForUpdate(subscriber)
+                    .orElseGet(() -> offsetRepository.saveAndFlush(OutboxSubscriberOffset.start(subscriber)));
+            if (transactionRollupMapper.countBackfillPartitions() > 0) {
+                return;
+            }
+
+            LocalDateTime outboxStart = transactionRollupMapper.findOutboxStart();
+            LocalDateTime cutoff = outboxStart != null ? outboxStart : LocalDateTime.now();
+            Long maxItemId = ledgerReplayMapper.findMaxItemId();
+
+            // 품목이 없어도 계획이 있었다는 표시로 빈 구간 하나를 남김
+            List<RollupBackfillPartition> partitions = new ArrayList<>();
+            long last = maxItemId != null ? maxItemId : 0;
+            for (long from = 1; from <= last; from += partitionSize) {
+                partitions.add(new RollupBackfillPartition(from, Math.min(from + partitionSize - 1, last), cutoff, null));
+            }
+            if (partitions.isEmpty()) {
+                partitions.add(new RollupBackfillPartition(1L, 0L, cutoff, null));
+            }
+            transactionRollupMapper.insertBackfillPartitions(partitions);
+            log.info("재고 변동 집계 초기 채우기 계획 생성. partitions={}, cutoff={}", partitions.size(), cutoff);
+        });
+    }
+
+    private int backfillPartition(RollupBackfillPartition partition) {
+        RollupBackfillPartition locked = transactionRollupMapper.lockBackfillPartition(partition.getFromItemId());
+        if (locked == null || locked.getCompletedAt() != null) {
+            return 0;  // 다른 인스턴스가 이미 처리
+        }
+        int rows = transactionRollupMapper.backfillHourly(locked) + transactionRollupMapper.backfillDaily(locked);
+        transactionRollupMapper.completeBackfillPartition(locked.getFromItemId());
+        return rows;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        launcher.shutdownNow();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,66 @@
+package com.madebyzino.StockFlow.service.rollup;
+
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupGroupBy;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupResponse;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupRow;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.mapper.TransactionRollupMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 기간 집계 조회. 구간을 시 단위로 맞춘 뒤, 하루 단위로 덮이는 부분은 일별 집계에서,
+ * 앞뒤 자투리 시간만 시간별 집계에서 읽으므로 한 달 구간도 최대 30여 개 일 행 + 46개 시간 행(품목 · 센터 · 유형별)만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionRollupService {
+
+    private final TransactionRollupMapper transactionRollupMapper;
+
+    public TransactionRollupResponse aggregate(LocalDateTime from, LocalDateTime to, String centerName, Long itemId,
+                                               TransactionType type, List<TransactionRollupGroupBy> groupBy) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간(from < to)을 입력해 주세요.");
+        }
+
+        // 1. 시 단위로 맞춤 (시작은 내림, 끝은 올림)
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        if (end.isBefore(to)) {
+            end = end.plusHours(1);
+        }
+
+        // 2. 하루 단위로 덮이는 구간 [dayFrom, dayTo) 과 앞뒤 자투리 시간
+        LocalDate dayFrom = start.equals(start.truncatedTo(ChronoUnit.DAYS))
+                ? start.toLocalDate()
+                : start.toLocalDate().plusDays(1);
+        LocalDate dayTo = end.toLocalDate();
+
+        List<TransactionRollupRow> rows;
+        List<TransactionRollupGroupBy> groups = groupBy != null ? groupBy.stream().distinct().toList() : List.of();
+        String center = centerName == null || centerName.isEmpty() ? null : centerName;
+        if (dayFrom.isBefore(dayTo)) {
+            LocalDateTime dailyStart = dayFrom.atStartOfDay();
+            LocalDateTime dailyEnd = dayTo.atStartOfDay();
+            rows = transactionRollupMapper.sumRollups(
+                    dayFrom, dayTo,
+                    start.isBefore(dailyStart) ? start : null, dailyStart,
+                    dailyEnd.isBefore(end) ? dailyEnd : null, end,
+                    center, itemId, type, groups);
+        } else {
+            rows = transactionRollupMapper.sumRollups(null, null, start, end, null, null, center, itemId, type, groups);
+        }
+
+        return TransactionRollupResponse.builder()
+                .from(start)
+                .to(end)
+                .rows(rows)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.madebyzino.StockFlow.service.rollup;
+
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupDelta;
+import com.madebyzino.StockFlow.entity.Location;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.ReferenceDataRepository;
+import com.madebyzino.StockFlow.repository.mapper.TransactionRollupMapper;
+import com.madebyzino.StockFlow.service.outbox.StockChangeSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 시간별 / 일별 품목 · 센터 · 유형별 재고 변동 집계 (transaction_rollup_hourly / transaction_rollup_daily).
+ * 오프셋 갱신과 같은 트랜잭션에서 반영되므로 이벤트마다 정확히 한 번 더해진다.
+ * 아웃박스 이전의 이력은 TransactionRollupBackfillJob 이 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionRollupSubscriber implements StockChangeSubscriber {
+
+    // 다중 행 INSERT 한 문장당 최대 행 수
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final TransactionRollupMapper transactionRollupMapper;
+    private final ReferenceDataRepository referenceDataRepository;
+
+    @Override
+    public String name() {
+        return "transaction-rollup";
+    }
+
+    @Override
+    public void onEvents(List<StockChangeEvent> events) {
+        // 1. 이벤트의 센터 조회 (위치는 2차 캐시)
+        Set<Long> locationIds = new HashSet<>();
+        for (StockChangeEvent event : events) {
+            Long locationId = centerLocationId(event);
+            if (locationId != null) {
+                locationIds.add(locationId);
+            }
+        }
+        Map<Long, String> centers = new HashMap<>();
+        for (Location location : referenceDataRepository.findAllById(Location.class, locationIds)) {
+            centers.put(location.getId(), location.getCenterName());
+        }
+
+        // 2. 시간 / 일 구간별로 합산 (키 순으로 정렬해 잠금 순서를 맞춤)
+        Map<RollupKey, TransactionRollupDelta> hourly = new TreeMap<>();
+        Map<RollupKey, TransactionRollupDelta> daily = new TreeMap<>();
+        for (StockChangeEvent event : events) {
+            String centerName = centers.getOrDefault(centerLocationId(event), "");
+            LocalDateTime hour = event.getTransactionDate().truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime day = event.getTransactionDate().truncatedTo(ChronoUnit.DAYS);
+            add(hourly, new RollupKey(hour, event.getItemId(), centerName, event.getType()), event);
+            add(daily, new RollupKey(day, event.getItemId(), centerName, event.getType()), event);
+        }
+
+        // 3. 반영
+        for (List<TransactionRollupDelta> chunk : chunks(new ArrayList<>(hourly.values()))) {
+            transactionRollupMapper.applyHourly(chunk);
+        }
+        for (List<TransactionRollupDelta> chunk : chunks(new ArrayList<>(daily.values()))) {
+            transactionRollupMapper.applyDaily(chunk);
+        }
+    }
+
+    // 출고는 출발지, 나머지(입고 / 이동 / 조정)는 도착지 위치의 센터로 집계
+    private static Long centerLocationId(StockChangeEvent event) {
+        return event.getType() == TransactionType.OUTBOUND ? event.getFromLocationId() : event.getToLocationId();
+    }
+
+    private static void add(Map<RollupKey, TransactionRollupDelta> deltas, RollupKey key, StockChangeEvent event) {
+        TransactionRollupDelta delta = deltas.computeIfAbsent(key, k ->
+                new TransactionRollupDelta(k.bucket(), k.itemId(), k.centerName(), k.type(), 0, 0));
+        delta.setTransactionCount(delta.getTransactionCount() + 1);
+        delta.setTotalQuantity(delta.getTotalQuantity() + event.getQuantity());
+    }
+
+    private static <T> List<List<T>> chunks(List<T> rows) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += WRITE_CHUNK_SIZE) {
+            chunks.add(rows.subList(from, Math.min(from + WRITE_CHUNK_SIZE, rows.size())));
+        }
+        return chunks;
+    }
+
+    // 집계 테이블의 기본 키 순서
+    private record RollupKey(LocalDateTime bucket, Long itemId, String centerName, TransactionType type)
+            implements Comparable<RollupKey> {
+
+        private static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::bucket)
+                .thenComparing(RollupKey::itemId)
+                .thenComparing(RollupKey::centerName)
+                .thenComparing(key -> key.type().name());
+
+        @Override
+        public int compareTo(RollupKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.madebyzino.StockFlow.service.summary;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import com.madebyzino.StockFlow.dto.inventory.ItemStockSummaryChange;
+import com.madebyzino.StockFlow.entity.Transaction;
+import com.madebyzino.StockFlow.exception.InvalidQuantityException;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import com.madebyzino.StockFlow.repository.mapper.InventoryStockMapper;
+import com.madebyzino.StockFlow.repository.mapper.ItemStockSummaryMapper;
+import com.madebyzino.StockFlow.service.dashboard.DashboardRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 품목별 재고 합계(item_stock_summary) 갱신.
+ * 재고를 바꾼 트랜잭션 안에서 호출되며, 위치별 증감과 반영 후 수량으로 합계 / 재고 보유 위치 수의 증감을 계산해 더한다.
+ * 반영 후 수량은 이 트랜잭션이 이미 변경한(잠근) 행만 읽으므로 다른 트랜잭션을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemStockSummaryUpdater {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStockMapper inventoryStockMapper;
+    private final ItemStockSummaryMapper itemStockSummaryMapper;
+    private final DashboardRollupService dashboardRollupService;
+
+    // 재고 변동 이력으로 위치별 증감을 만들어 반영
+    public void applyLedger(List<Transaction> transactions) {
+        List<InventoryQuantityChange> deltas = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            Long itemId = transaction.getItem().getId();
+            int quantity = transaction.getQuantity();
+
+            switch (transaction.getType()) {
+                case INBOUND -> deltas.add(new InventoryQuantityChange(itemId, transaction.getToLocation().getId(), quantity));
+                case OUTBOUND -> deltas.add(new InventoryQuantityChange(itemId, transaction.getFromLocation().getId(), -quantity));
+                case MOVEMENT -> {
+                    deltas.add(new InventoryQuantityChange(itemId, transaction.getFromLocation().getId(), -quantity));
+                    deltas.add(new InventoryQuantityChange(itemId, transaction.getToLocation().getId(), quantity));
+                }
+                // 조정은 출발지 = 도착지, 부호 있는 수량
+                case ADJUSTMENT -> deltas.add(new InventoryQuantityChange(itemId, transaction.getToLocation().getId(), quantity));
+            }
+        }
+        applyDeltas(deltas);
+    }
+
+    // 위치별 증감(quantity = 증감량)을 품목별 합계에 반영
+    public void applyDeltas(List<InventoryQuantityChange> deltas) {
+        // 1. 같은 품목/위치의 증감을 합산
+        Map<String, InventoryQuantityChange> merged = new LinkedHashMap<>();
+        for (InventoryQuantityChange delta : deltas) {
+            merged.merge(delta.getItemId() + ":" + delta.getLocationId(), delta,
+                    (a, b) -> new InventoryQuantityChange(a.getItemId(), a.getLocationId(),
+                            addQuantity(a, b)));
+        }
+        merged.values().removeIf(delta -> delta.getQuantity() == 0);
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        // 2. 엔티티로 변경된 재고(비관적 / 낙관적 전략, 새 재고 행)를 먼저 DB 에 반영한 뒤 반영 후 수량 조회
+        inventoryRepository.flush();
+        List<InventoryQuantityChange> rows = new ArrayList<>(merged.values());
+        Map<String, Integer> after = new LinkedHashMap<>();
+        for (InventoryQuantityChange current : inventoryStockMapper.findQuantities(rows)) {
+            after.put(current.getItemId() + ":" + current.getLocationId(), current.getQuantity());
+        }
+
+        // 3. 품목별 수량 증감, 0 을 넘나든 위치 수 계산 (itemId 오름차순으로 정렬해 잠금 순서를 맞춤)
+        Map<Long, ItemStockSummaryChange> changes = new TreeMap<>();
+        SortedMap<Long, Integer> locationItemDeltas = new TreeMap<>();
+        for (InventoryQuantityChange row : rows) {
+            int quantityAfter = after.getOrDefault(row.getItemId() + ":" + row.getLocationId(), 0);
+            int quantityBefore = quantityAfter - row.getQuantity();
+            int locationDelta = (quantityAfter > 0 ? 1 : 0) - (quantityBefore > 0 ? 1 : 0);
+
+            ItemStockSummaryChange change = changes.computeIfAbsent(row.getItemId(),
+                    itemId -> new ItemStockSummaryChange(itemId, 0, 0));
+            change.setQuantityDelta(change.getQuantityDelta() + row.getQuantity());
+            change.setLocationDelta(change.getLocationDelta() + locationDelta);
+
+            // 같은 변화를 위치 쪽에서 보면 재고를 가진 품목 수의 증감
+            if (locationDelta != 0) {
+                locationItemDeltas.merge(row.getLocationId(), locationDelta, Integer::sum);
+            }
+        }
+        locationItemDeltas.values().removeIf(delta -> delta == 0);
+
+        // 4. 대시보드 합계 (품목 단가 잠금이 품목별 합계 잠금보다 먼저 오도록 먼저 반영)
+        dashboardRollupService.applyStockChanges(changes.values(), locationItemDeltas);
+        itemStockSummaryMapper.applyChanges(new ArrayList<>(changes.values()));
+    }
+
+    // 처음 기동할 때(합계 테이블이 비어 있을 때) 기존 재고로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (itemStockSummaryMapper.countSummaries() > 0) {
+            return;
+        }
+        int seeded = itemStockSummaryMapper.refreshFromInventory(null);
+        log.info("품목별 재고 합계 초기화 완료. rows={}", seeded);
+    }
+
+    private static int addQuantity(InventoryQuantityChange a, InventoryQuantityChange b) {
+        try {
+            return Math.addExact(a.getQuantity(), b.getQuantity());
+        } catch (ArithmeticException e) {
+            throw new InvalidQuantityException("수량 합계가 허용 범위를 벗어났습니다. 품목 ID: " + a.getItemId(), e);
+        }
+    }
+}
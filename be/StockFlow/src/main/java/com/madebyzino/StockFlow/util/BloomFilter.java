@@ -0,0 +1,70 @@
+package com.madebyzino.StockFlow.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터. mightContain 이 false 면 확실히 없고, true 면 있을 수도 있다(오탐률 fpp).
+ * 해시 한 번(64bit)으로 두 값을 만들어 k 개의 비트 위치를 계산한다 (double hashing).
+ * 비트는 CAS 로 설정하므로 여러 스레드가 동시에 추가 / 조회해도 된다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long expected = Math.max(1, expectedInsertions);
+        long size = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, size);
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expected * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0
+                    && !bits.compareAndSet(word, current, current | mask)) {
+                // 다른 스레드가 같은 워드를 바꿨으면 다시 시도
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long indexOf(int combined) {
+        return (combined & 0x7fffffffL) % bitSize;
+    }
+
+    // FNV-1a 64bit + 비트 섞기 (String.hashCode 는 32bit 라 두 해시를 만들기에 부족)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,51 @@
+package com.madebyzino.StockFlow.util;
+
+import com.madebyzino.StockFlow.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 커서 인코딩. 정렬 키 값들을 순서대로 담아 URL 에 안전한 불투명 문자열로 만든다.
+ * 클라이언트는 커서 내용을 해석하지 않고 그대로 돌려보내야 한다.
+ */
+public class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    // null 값은 빈 문자열과 구분하기 위해 "~" 로 표시
+    public static String encode(Object... values) {
+        StringBuilder joined = new StringBuilder();
+        for (Object value : values) {
+            if (!joined.isEmpty()) {
+                joined.append('.');
+            }
+            joined.append(value == null ? "~" : ENCODER.encodeToString(value.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        return ENCODER.encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(String cursor, int expectedValues) {
+        try {
+            String joined = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = joined.split("\\.", -1);
+            if (parts.length != expectedValues) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.");
+            }
+
+            List<String> values = new ArrayList<>(parts.length);
+            for (String part : parts) {
+                values.add(part.equals("~") ? null : new String(DECODER.decode(part), StandardCharsets.UTF_8));
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.");
+        }
+    }
+}
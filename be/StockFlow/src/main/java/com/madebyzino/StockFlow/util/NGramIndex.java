@@ -0,0 +1,260 @@
+package com.madebyzino.StockFlow.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 부분 문자열 검색용 n-gram 역색인 (스레드 안전하지 않음, 호출하는 쪽에서 잠금).
+ * 문서를 gramSize 글자 단위로 잘라 gram 별로 정렬된 id 목록을 두고,
+ * 검색어의 gram 목록을 교집합한 뒤 원문 포함 여부로 한 번 더 확인한다.
+ *
+ * 결과는 MySQL 기본 collation(utf8mb4_0900_ai_ci)의 LIKE '%검색어%' 후보 집합이다 (호출하는 쪽은 LIKE 를 그대로 함께 건다).
+ * 이 collation 은 대소문자 / 악센트 / 전각·반각을 구분하지 않으므로 normalize 로 같은 형태로 맞추되,
+ * 정규화 후 ASCII / 완성형 한글 / 공백 외의 글자가 남으면 비교 결과를 장담할 수 없어 다음과 같이 처리한다.
+ * - 그런 문서는 gram 으로 거르지 않고 모든 검색 결과에 후보로 포함 (빠뜨리지 않음)
+ * - 그런 검색어와 LIKE 와일드카드('_', '%')나 이스케이프 문자('\')가 든 검색어는 supports 가 false (LIKE 로만 검색)
+ */
+public class NGramIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{Mn}+");
+
+    private final int gramSize;
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, String> documents = new HashMap<>();
+    // 정규화로 collation 과 같다고 볼 수 없는 문서 (검색마다 후보에 포함)
+    private final Postings inexact = new Postings();
+
+    public NGramIndex(int gramSize) {
+        if (gramSize < 1 || gramSize > 4) {
+            throw new IllegalArgumentException("gramSize 는 1 ~ 4 사이여야 합니다: " + gramSize);
+        }
+        this.gramSize = gramSize;
+    }
+
+    public int gramSize() {
+        return gramSize;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // 검색어가 gram 보다 짧거나, 와일드카드 / collation 을 장담할 수 없는 글자가 있으면 색인으로 후보를 줄일 수 없음
+    public boolean supports(String query) {
+        if (query == null) {
+            return false;
+        }
+        String normalized = normalize(query);
+        return normalized.length() >= gramSize && isExact(normalized) && !isLikePattern(normalized);
+    }
+
+    public void put(long id, String text) {
+        String normalized = text != null ? normalize(text) : "";
+        String previous = documents.put(id, normalized);
+
+        if (previous != null) {
+            if (previous.equals(normalized)) {
+                return;
+            }
+            unindex(id, previous);
+        }
+
+        if (isExact(normalized)) {
+            for (long gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+        } else {
+            inexact.add(id);
+        }
+    }
+
+    public void remove(long id) {
+        String previous = documents.remove(id);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+    }
+
+    /**
+     * query 를 포함할 수 있는 문서 id (오름차순). 후보가 limit 건을 넘으면 null 을 반환한다.
+     * supports(query) 가 false 인 검색어는 호출하지 않는다.
+     */
+    public long[] search(String query, int limit) {
+        String normalized = normalize(query);
+        long[] queryGrams = grams(normalized);
+
+        // 1. 검색어 gram 별 목록을 짧은 순으로 정렬 (하나라도 없으면 정규화로 비교할 수 있는 문서 중에는 일치하는 것이 없음)
+        Postings[] lists = new Postings[queryGrams.length];
+        int count = 0;
+        long[] candidates = new long[0];
+        for (int i = 0; i < queryGrams.length; i++) {
+            Postings list = postings.get(queryGrams[i]);
+            if (list == null) {
+                lists = null;
+                break;
+            }
+            lists[i] = list;
+        }
+
+        if (lists != null) {
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            // 2. 가장 짧은 목록부터 교집합
+            candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+            count = candidates.length;
+            for (int i = 1; i < lists.length && count > 0; i++) {
+                count = lists[i].retainAll(candidates, count);
+            }
+        }
+
+        // 3. gram 이 모두 있어도 순서가 다를 수 있으므로 원문으로 확인
+        long[] matches = new long[Math.min(count, limit)];
+        int matched = 0;
+        for (int i = 0; i < count; i++) {
+            if (documents.get(candidates[i]).contains(normalized)) {
+                if (matched == limit) {
+                    return null;
+                }
+                matches[matched++] = candidates[i];
+            }
+        }
+
+        // 4. 정규화로 비교할 수 없는 문서는 DB 의 LIKE 가 판단하도록 모두 후보에 합침
+        if (inexact.isEmpty()) {
+            return Arrays.copyOf(matches, matched);
+        }
+        if (matched + inexact.size > limit) {
+            return null;
+        }
+        long[] merged = Arrays.copyOf(matches, matched + inexact.size);
+        System.arraycopy(inexact.ids, 0, merged, matched, inexact.size);
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * utf8mb4_0900_ai_ci 비교에 맞춘 형태: 소문자로 바꾸고 호환 분해(NFKD)로 전각 문자를 풀고 결합 악센트를 뗀 뒤,
+     * 한글이 자모로 남지 않도록 다시 조합(NFC)한다.
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+        return Normalizer.normalize(COMBINING_MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+    }
+
+    // 정규화한 문자열의 포함 여부가 collation 의 LIKE 결과와 같다고 볼 수 있는 글자만 있는지 (출력 가능한 ASCII, 완성형 한글)
+    private static boolean isExact(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean ascii = c >= ' ' && c <= '~';
+            boolean hangul = c >= '\uAC00' && c <= '\uD7A3';
+            if (!ascii && !hangul) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLikePattern(String normalized) {
+        return normalized.indexOf('_') >= 0 || normalized.indexOf('%') >= 0 || normalized.indexOf('\\') >= 0;
+    }
+
+    private void unindex(long id, String previous) {
+        if (inexact.remove(id)) {
+            return;
+        }
+        for (long gram : grams(previous)) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 글자(char) gramSize 개를 16bit 씩 long 하나로 묶은 gram 목록 (중복 제거)
+    private long[] grams(String text) {
+        int count = text.length() - gramSize + 1;
+        if (count <= 0) {
+            return new long[0];
+        }
+
+        long[] grams = new long[count];
+        for (int start = 0; start < count; start++) {
+            long gram = 0;
+            for (int offset = 0; offset < gramSize; offset++) {
+                gram = (gram << 16) | text.charAt(start + offset);
+            }
+            grams[start] = gram;
+        }
+        Arrays.sort(grams);
+
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    // 정렬된 id 목록 (id 는 대부분 증가 순으로 들어오므로 뒤에 붙이는 경우가 대부분)
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                insertAt(-index - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        // candidates[0..count) 중 이 목록에도 있는 id 만 앞으로 모으고 남은 개수를 반환
+        int retainAll(long[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int index = Arrays.binarySearch(ids, from, size, candidates[i]);
+                if (index >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return kept;
+        }
+
+        private void insertAt(int index, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.madebyzino.StockFlow.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 상위 빈도 항목 추정용 Space-Saving 요약 (스레드 안전하지 않음, 호출하는 쪽에서 잠금).
+ * 최대 capacity 개의 카운터만 두고, 가득 찬 상태에서 새 키가 오면 가장 작은 카운터를 넘겨받는다.
+ * 추정값은 실제 값보다 작지 않고, 과대 추정은 (전체 가중치 합 / capacity) 이하이다.
+ */
+public class SpaceSaving {
+
+    private static final Comparator<Counter> BY_COUNT =
+            Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(long key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        total += weight;
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count += weight;
+            byCount.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(key, weight, 0);
+        } else {
+            // 가장 작은 카운터를 새 키에 넘김 (넘겨받은 값만큼 과대 추정될 수 있음)
+            Counter smallest = byCount.pollFirst();
+            counters.remove(smallest.key);
+            counter = new Counter(key, smallest.count + weight, smallest.count);
+        }
+        counters.put(key, counter);
+        byCount.add(counter);
+    }
+
+    public void clear() {
+        counters.clear();
+        byCount.clear();
+        total = 0;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    // 요약에 없는 키의 실제 값 상한 (가득 차지 않았으면 0)
+    public long minCount() {
+        return counters.size() < capacity || byCount.isEmpty() ? 0 : byCount.first().count;
+    }
+
+    /**
+     * 여러 요약을 합친 상위 limit 개 (추정값이 큰 순).
+     * 어느 요약에 없는 키는 그 요약의 minCount 만큼 있었을 수 있으므로 추정값과 오차에 함께 더한다.
+     */
+    public static List<Estimate> top(Collection<SpaceSaving> summaries, int limit) {
+        // 1. 모든 요약의 minCount 합을 기본값으로 두고, 요약에 있는 키는 (count - minCount) 만큼 더함
+        long baseline = 0;
+        Map<Long, long[]> merged = new HashMap<>();
+        for (SpaceSaving summary : summaries) {
+            long min = summary.minCount();
+            baseline += min;
+            for (Counter counter : summary.counters.values()) {
+                long[] estimate = merged.computeIfAbsent(counter.key, key -> new long[2]);
+                estimate[0] += counter.count - min;
+                estimate[1] += counter.error - min;
+            }
+        }
+
+        // 2. 추정값이 큰 순으로 limit 개
+        List<Estimate> estimates = new ArrayList<>(merged.size());
+        for (Map.Entry<Long, long[]> entry : merged.entrySet()) {
+            long[] estimate = entry.getValue();
+            estimates.add(new Estimate(entry.getKey(), baseline + estimate[0], baseline + estimate[1]));
+        }
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed().thenComparingLong(Estimate::key));
+        return estimates.size() > limit ? new ArrayList<>(estimates.subList(0, limit)) : estimates;
+    }
+
+    // 실제 값은 [count - error, count] 범위
+    public record Estimate(long key, long count, long error) {
+    }
+
+    private static final class Counter {
+
+        private final long key;
+        private long count;
+        private final long error;
+
+        Counter(long key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
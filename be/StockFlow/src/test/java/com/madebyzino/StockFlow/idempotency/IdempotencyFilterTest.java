@@ -0,0 +1,88 @@
+package com.madebyzino.StockFlow.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyStore store = mock(IdempotencyStore.class);
+    private final IdempotencyStore.Lease lease =
+            new IdempotencyStore.Lease("idempotency:key", "IN_PROGRESS:token:hash", mock(ScheduledFuture.class));
+    private final IdempotencyFilter filter =
+            new IdempotencyFilter(store, new ObjectMapper(), List.of("/api/transactions/inbound"));
+
+    @Test
+    void keepsKeyWhenStoringSuccessfulResponseFails() throws Exception {
+        when(store.tryAcquire(anyString(), anyString())).thenReturn(IdempotencyStore.Entry.acquired("hash", lease));
+        when(store.complete(any(), any())).thenThrow(new QueryTimeoutException("redis down"));
+
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // 이미 반영된 요청이므로 키를 풀면 같은 키의 재시도가 한 번 더 실행됨
+        verify(store, never()).release(any());
+    }
+
+    @Test
+    void releasesKeyOnlyForRejectedRequests() throws Exception {
+        when(store.tryAcquire(anyString(), anyString())).thenReturn(IdempotencyStore.Entry.acquired("hash", lease));
+
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) ->
+                ((HttpServletResponse) res).setStatus(400));
+        verify(store).release(lease);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) ->
+                ((HttpServletResponse) res).setStatus(500));
+        verify(store).abandon(lease);
+    }
+
+    @Test
+    void cachedBodyNotifiesReadListenerImmediately() throws Exception {
+        when(store.tryAcquire(anyString(), anyString())).thenReturn(IdempotencyStore.Entry.acquired("hash", lease));
+        StringBuilder events = new StringBuilder();
+
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) ->
+                req.getInputStream().setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() {
+                        events.append("data,");
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        events.append("done");
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        events.append("error");
+                    }
+                }));
+
+        assertThat(events).hasToString("data,done");
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/transactions/inbound");
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.setContent("{\"lines\":[]}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
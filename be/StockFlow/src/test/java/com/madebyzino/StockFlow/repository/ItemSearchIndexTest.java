@@ -0,0 +1,96 @@
+package com.madebyzino.StockFlow.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ItemSearchIndexTest {
+
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(itemRepository.streamSearchText()).thenReturn(Stream.of(
+                row(1L, "무선 마우스", "ELEC-0001"),
+                row(2L, "무선 키보드", "ELEC-0002"),
+                row(3L, "유선 마우스", "OFFC-0003")));
+
+        index = new ItemSearchIndex(itemRepository, mock(StringRedisTemplate.class), transactionManager,
+                new SimpleMeterRegistry(), true, 100);
+        index.rebuildAsync();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (index.size() < 3) {
+            assertThat(System.currentTimeMillis()).as("색인 구성 대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void intersectsNameAndSkuCandidates() {
+        assertThat(index.findItemIds("마우스", null)).containsExactly(1L, 3L);
+        assertThat(index.findItemIds("마우스", "ELEC")).containsExactly(1L);
+        assertThat(index.findItemIds("키보드", "OFFC")).isEmpty();
+    }
+
+    @Test
+    void fallsBackToLikeWhenQueryIsShorterThanGram() {
+        assertThat(index.findItemIds("마", null)).isNull();
+        // SKU 가 짧으면 이름 후보만 넘기고 SKU 는 LIKE 로 거름
+        assertThat(index.findItemIds("마우스", "EL")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void fallsBackToLikeForWildcardTerms() {
+        // '_' 는 LIKE 에서 한 글자 와일드카드이므로 이름은 LIKE 로만 거르고, SKU 후보만 넘김
+        assertThat(index.findItemIds("무선_마우스", null)).isNull();
+        assertThat(index.findItemIds("무선_마우스", "ELEC")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void appliesChangesPublishedByOtherInstances() {
+        // 4번 등록, 2번 이름 변경, 3번 삭제
+        when(itemRepository.findSearchTextByIds(anyCollection())).thenReturn(List.of(
+                row(2L, "무선 마우스 패드", "ELEC-0002"),
+                row(4L, "게이밍 마우스", "ELEC-0004")));
+
+        index.onMessage(message("other-instance|2,3,4"), null);
+
+        assertThat(index.findItemIds("마우스", null)).containsExactly(1L, 2L, 4L);
+        assertThat(index.findItemIds("키보드", null)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void ignoresMalformedMessages() {
+        index.onMessage(message("other-instance|not-a-number"), null);
+        index.onMessage(message("no-separator"), null);
+
+        assertThat(index.findItemIds("마우스", null)).containsExactly(1L, 3L);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(ItemSearchIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object[] row(long id, String name, String sku) {
+        return new Object[]{id, name, sku};
+    }
+}
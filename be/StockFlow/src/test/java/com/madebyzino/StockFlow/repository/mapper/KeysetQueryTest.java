@@ -0,0 +1,113 @@
+package com.madebyzino.StockFlow.repository.mapper;
+
+import com.madebyzino.StockFlow.dto.inventory.InventorySearchCondition;
+import com.madebyzino.StockFlow.dto.inventory.InventorySort;
+import com.madebyzino.StockFlow.dto.inventory.InventorySummaryResponse;
+import com.madebyzino.StockFlow.exception.InvalidCursorException;
+import com.madebyzino.StockFlow.exception.InvalidPageRequestException;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetQueryTest {
+
+    private static final String MAPPER = "mapper/InventoryMapper.xml";
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void loadMapper() throws Exception {
+        configuration = new Configuration();
+        try (InputStream in = KeysetQueryTest.class.getClassLoader().getResourceAsStream(MAPPER)) {
+            new XMLMapperBuilder(in, configuration, MAPPER, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Test
+    void nextCursorResumesAfterLastRow() {
+        InventorySummaryResponse last = row(30, 1001L);
+        String cursor = KeysetQuery.nextCursor(InventorySort.QUANTITY, last, InventorySummaryResponse::getInventoryId);
+
+        KeysetQuery page = KeysetQuery.cursor(InventorySort.QUANTITY, InventorySort.TIE_COLUMN, true, cursor, 20);
+
+        assertThat(page.getCursorValue()).isEqualTo(30);
+        assertThat(page.getCursorId()).isEqualTo(1001L);
+        assertThat(page.getSeekOperator()).isEqualTo("<");
+        assertThat(page.getDirection()).isEqualTo("DESC");
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSort() {
+        String cursor = KeysetQuery.nextCursor(InventorySort.QUANTITY, row(30, 1001L),
+                InventorySummaryResponse::getInventoryId);
+
+        assertThatThrownBy(() -> KeysetQuery.cursor(InventorySort.ITEM_ID, InventorySort.TIE_COLUMN, false, cursor, 20))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsSortsWithoutKeysetIndex() {
+        // 조인한 컬럼 정렬은 (정렬 값, inv.id) 인덱스가 없으므로 커서 모드를 허용하지 않음
+        for (InventorySort sort : List.of(InventorySort.PRICE, InventorySort.NAME, InventorySort.BIN_CODE)) {
+            assertThatThrownBy(() -> KeysetQuery.cursor(sort, InventorySort.TIE_COLUMN, false, "", 20))
+                    .isInstanceOf(InvalidPageRequestException.class);
+            assertThat(KeysetQuery.offset(sort, InventorySort.TIE_COLUMN, false, 20, 40).getOffset()).isEqualTo(40);
+        }
+    }
+
+    @Test
+    void rendersSeekPredicateForCursorPage() {
+        String cursor = KeysetQuery.nextCursor(InventorySort.QUANTITY, row(30, 1001L),
+                InventorySummaryResponse::getInventoryId);
+        KeysetQuery page = KeysetQuery.cursor(InventorySort.QUANTITY, InventorySort.TIE_COLUMN, false, cursor, 20);
+
+        BoundSql sql = render(page);
+
+        assertThat(sql.getSql()).contains(
+                "(inv.quantity > ? OR (inv.quantity = ? AND inv.id > ?))",
+                "ORDER BY inv.quantity ASC, inv.id ASC LIMIT ?");
+        assertThat(sql.getSql()).doesNotContain("OFFSET");
+        assertThat(sql.getParameterMappings()).extracting(ParameterMapping::getProperty)
+                .containsExactly("page.cursorValue", "page.cursorValue", "page.cursorId", "page.limit");
+    }
+
+    @Test
+    void rendersOffsetWithoutSeekPredicate() {
+        KeysetQuery page = KeysetQuery.offset(InventorySort.NAME, InventorySort.TIE_COLUMN, true, 20, 40);
+
+        BoundSql sql = render(page);
+
+        assertThat(sql.getSql()).doesNotContain(" > ?", " < ?");
+        assertThat(sql.getSql()).contains("ORDER BY i.name DESC, inv.id DESC LIMIT ? OFFSET ?");
+    }
+
+    private BoundSql render(KeysetQuery page) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("cond", new InventorySearchCondition());
+        params.put("itemIds", null);
+        params.put("page", page);
+        BoundSql bound = configuration
+                .getMappedStatement("com.madebyzino.StockFlow.repository.mapper.InventoryMapper.searchInventory")
+                .getBoundSql(params);
+        return new BoundSql(configuration, bound.getSql().replaceAll("\\s+", " "),
+                bound.getParameterMappings(), params);
+    }
+
+    private InventorySummaryResponse row(int quantity, long inventoryId) {
+        InventorySummaryResponse row = new InventorySummaryResponse();
+        row.setQuantity(quantity);
+        row.setInventoryId(inventoryId);
+        return row;
+    }
+}
@@ -0,0 +1,161 @@
+package com.madebyzino.StockFlow.service;
+
+import com.madebyzino.StockFlow.dto.transaction.StockLineRequest;
+import com.madebyzino.StockFlow.dto.transaction.StockLinesResponse;
+import com.madebyzino.StockFlow.entity.Category;
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.Location;
+import com.madebyzino.StockFlow.entity.user.UserRole;
+import com.madebyzino.StockFlow.exception.InvalidQuantityException;
+import com.madebyzino.StockFlow.repository.CategoryRepository;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import com.madebyzino.StockFlow.repository.ItemRepository;
+import com.madebyzino.StockFlow.repository.LocationRepository;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 라인 입고 / 출고 전표의 재고 반영을 실제 MySQL 에서 확인한다 (Docker 가 없으면 건너뜀).
+ * 다중 행 upsert / 조건부 차감 문장이 DB 에서 직접 판단하는 부분(기존 행 가산, 부족 라인 검출, 수량 범위 초과)을 다룬다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = "stockflow.ledger.mode=sync")
+class InboundOutboundServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.0");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private InboundOutboundService inboundOutboundService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private final AuthenticatedUser user = new AuthenticatedUser(1L, "tester", UserRole.MANAGER);
+
+    private Item item;
+    private Location first;
+    private Location second;
+
+    // 테스트마다 새 품목 / 위치를 만들어 서로의 재고에 영향을 주지 않음
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        Category category = categoryRepository.save(Category.builder().name("입출고" + n).code("IO" + n).build());
+        item = itemRepository.save(Item.builder()
+                .name("입출고 품목 " + n).sku("IO-" + n).price(1000).category(category).build());
+        first = location("IO-" + n + "-A", true);
+        second = location("IO-" + n + "-B", true);
+    }
+
+    @Test
+    void inboundMergesLinesAndAddsToExistingRows() {
+        stock(first, 10);
+
+        StockLinesResponse response = inboundOutboundService.recordInbound(List.of(
+                line(first, 5), line(first, 7), line(second, 3)), user);
+
+        assertThat(response.getLineCount()).isEqualTo(3);
+        assertThat(response.getTransactionIds()).hasSize(3);
+        assertThat(quantity(first)).isEqualTo(22);
+        assertThat(quantity(second)).isEqualTo(3);
+    }
+
+    @Test
+    void inboundRejectsInactiveLocation() {
+        Location inactive = location("IO-INACTIVE-" + SEQUENCE.incrementAndGet(), false);
+
+        assertThatThrownBy(() -> inboundOutboundService.recordInbound(List.of(
+                line(first, 5), line(inactive, 5)), user))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(inactive.getBinCode());
+
+        assertThat(quantity(first)).isZero();
+    }
+
+    @Test
+    void inboundRejectsQuantityOverflowAsBadRequest() {
+        // 같은 품목/위치 라인 합산이 넘치는 경우
+        assertThatThrownBy(() -> inboundOutboundService.recordInbound(List.of(
+                line(first, Integer.MAX_VALUE), line(first, 1)), user))
+                .isInstanceOf(InvalidQuantityException.class);
+
+        // 기존 재고 + 입고 수량이 DB 에서 넘치는 경우 (전표 전체 롤백)
+        stock(second, Integer.MAX_VALUE - 1);
+        assertThatThrownBy(() -> inboundOutboundService.recordInbound(List.of(
+                line(first, 1), line(second, 2)), user))
+                .isInstanceOf(InvalidQuantityException.class);
+
+        assertThat(quantity(first)).isZero();
+        assertThat(quantity(second)).isEqualTo(Integer.MAX_VALUE - 1);
+    }
+
+    @Test
+    void outboundRollsBackWholeSlipWhenOneLineIsShort() {
+        stock(first, 10);
+        stock(second, 4);
+
+        // 두 번째 위치는 같은 품목 라인 합산(3 + 2)이 재고(4)를 넘음
+        assertThatThrownBy(() -> inboundOutboundService.recordOutbound(List.of(
+                line(first, 6), line(second, 3), line(second, 2)), user))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(second.getBinCode());
+
+        assertThat(quantity(first)).isEqualTo(10);
+        assertThat(quantity(second)).isEqualTo(4);
+
+        inboundOutboundService.recordOutbound(List.of(line(first, 6), line(second, 4)), user);
+        assertThat(quantity(first)).isEqualTo(4);
+        assertThat(quantity(second)).isZero();
+    }
+
+    private Location location(String binCode, boolean active) {
+        return locationRepository.save(Location.builder()
+                .centerName("센터").zone("IO").binCode(binCode).isActive(active).build());
+    }
+
+    private void stock(Location location, int quantity) {
+        inventoryRepository.save(Inventory.builder().item(item).location(location).quantity(quantity).build());
+    }
+
+    private int quantity(Location location) {
+        return inventoryRepository.findByItemAndLocation(item, location)
+                .map(Inventory::getQuantity)
+                .orElse(0);
+    }
+
+    private StockLineRequest line(Location location, int quantity) {
+        StockLineRequest line = new StockLineRequest();
+        line.setItemId(item.getId());
+        line.setLocationId(location.getId());
+        line.setQuantity(quantity);
+        return line;
+    }
+}
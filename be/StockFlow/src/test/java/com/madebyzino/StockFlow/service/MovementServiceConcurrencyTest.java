@@ -0,0 +1,165 @@
+package com.madebyzino.StockFlow.service;
+
+import com.madebyzino.StockFlow.dto.inventory.MovementBatchResponse;
+import com.madebyzino.StockFlow.dto.inventory.MovementLineResult;
+import com.madebyzino.StockFlow.dto.inventory.MovementRequest;
+import com.madebyzino.StockFlow.entity.Category;
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.entity.Item;
+import com.madebyzino.StockFlow.entity.Location;
+import com.madebyzino.StockFlow.entity.user.UserRole;
+import com.madebyzino.StockFlow.exception.MovementException;
+import com.madebyzino.StockFlow.repository.CategoryRepository;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import com.madebyzino.StockFlow.repository.ItemRepository;
+import com.madebyzino.StockFlow.repository.LocationRepository;
+import com.madebyzino.StockFlow.security.AuthenticatedUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 재고 행을 서로 반대 순서로 건드리는 일괄 이동을 동시에 실행해
+ * 교착 / 유실된 변경 / 음수 재고가 없는지 실제 MySQL 에서 확인한다 (Docker 가 없으면 건너뜀).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "stockflow.movement.concurrency=atomic",
+        "stockflow.ledger.mode=sync"
+})
+class MovementServiceConcurrencyTest {
+
+    private static final int LOCATION_COUNT = 4;
+    private static final int INITIAL_QUANTITY = 200;
+    private static final int THREADS = 8;
+    private static final int BATCHES_PER_THREAD = 30;
+    private static final int LINES_PER_BATCH = 20;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.0");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private MovementService movementService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Test
+    void opposingBatchesNeitherDeadlockNorLoseUpdates() throws Exception {
+        // 1. 품목 하나를 위치 네 곳에 같은 수량으로 배치
+        Category category = categoryRepository.save(Category.builder().name("동시성").code("CC").build());
+        Item item = itemRepository.save(Item.builder()
+                .name("동시 이동 품목").sku("CC-000001").price(1000).category(category).build());
+        List<String> binCodes = new ArrayList<>();
+        Map<Long, String> binCodesById = new HashMap<>();
+        for (int i = 0; i < LOCATION_COUNT; i++) {
+            Location location = locationRepository.save(Location.builder()
+                    .centerName("센터").zone("Z").binCode("CC-BIN-" + i).isActive(true).build());
+            inventoryRepository.save(Inventory.builder()
+                    .item(item).location(location).quantity(INITIAL_QUANTITY).build());
+            binCodes.add(location.getBinCode());
+            binCodesById.put(location.getId(), location.getBinCode());
+        }
+
+        // 2. 짝수 스레드는 위치 순서대로, 홀수 스레드는 거꾸로 이동 라인을 만들어 동시에 실행
+        AuthenticatedUser user = new AuthenticatedUser(1L, "tester", UserRole.MANAGER);
+        Map<String, AtomicInteger> expected = new ConcurrentHashMap<>();
+        binCodes.forEach(binCode -> expected.put(binCode, new AtomicInteger(INITIAL_QUANTITY)));
+        AtomicInteger retriedOut = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                boolean reversed = thread % 2 == 1;
+                Random random = new Random(thread);
+                futures.add(executor.submit(() -> {
+                    for (int batch = 0; batch < BATCHES_PER_THREAD; batch++) {
+                        List<MovementRequest> requests = lines(item.getId(), binCodes, reversed, random);
+                        try {
+                            MovementBatchResponse response = movementService.recordMovements(requests, user);
+                            for (MovementLineResult result : response.getResults()) {
+                                if (result.isSuccess()) {
+                                    MovementRequest request = requests.get(result.getIndex());
+                                    expected.get(request.getFromBinCode()).addAndGet(-request.getQuantity());
+                                    expected.get(request.getToBinCode()).addAndGet(request.getQuantity());
+                                }
+                            }
+                        } catch (MovementException e) {
+                            // 재시도 횟수를 넘긴 일괄 이동은 전체가 롤백됨
+                            retriedOut.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            // 교착으로 롤백된 트랜잭션이 있으면 여기서 예외로 드러남
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 3. 성공한 라인만큼 정확히 반영되고, 음수 재고와 총량 변화가 없어야 함
+        // 지연 로딩 프록시도 id 는 초기화 없이 읽을 수 있음
+        Map<String, Integer> actual = inventoryRepository.findAll().stream()
+                .filter(inventory -> inventory.getItem().getId().equals(item.getId()))
+                .collect(Collectors.toMap(inventory -> binCodesById.get(inventory.getLocation().getId()),
+                        Inventory::getQuantity));
+
+        assertThat(actual.values()).allSatisfy(quantity -> assertThat(quantity).isNotNegative());
+        assertThat(actual.values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(LOCATION_COUNT * INITIAL_QUANTITY);
+        binCodes.forEach(binCode -> assertThat(actual.get(binCode)).as(binCode).isEqualTo(expected.get(binCode).get()));
+        assertThat(retriedOut.get()).isLessThan(THREADS * BATCHES_PER_THREAD);
+    }
+
+    private static List<MovementRequest> lines(Long itemId, List<String> binCodes, boolean reversed, Random random) {
+        List<MovementRequest> requests = new ArrayList<>(LINES_PER_BATCH);
+        for (int line = 0; line < LINES_PER_BATCH; line++) {
+            int from = line % LOCATION_COUNT;
+            int to = (from + 1 + random.nextInt(LOCATION_COUNT - 1)) % LOCATION_COUNT;
+            if (reversed) {
+                from = LOCATION_COUNT - 1 - from;
+                to = LOCATION_COUNT - 1 - to;
+            }
+            MovementRequest request = new MovementRequest();
+            request.setItemId(itemId);
+            request.setFromBinCode(binCodes.get(from));
+            request.setToBinCode(binCodes.get(to));
+            request.setQuantity(1 + random.nextInt(30));
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,134 @@
+package com.madebyzino.StockFlow.service.concurrency;
+
+import com.madebyzino.StockFlow.entity.Inventory;
+import com.madebyzino.StockFlow.entity.Location;
+import com.madebyzino.StockFlow.exception.MovementException;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class AtomicStockConcurrencyStrategyTest {
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final AtomicStockConcurrencyStrategy strategy = new AtomicStockConcurrencyStrategy(inventoryRepository, 3);
+
+    @Test
+    void appliesAggregatedDeltasInAscendingIdOrder() {
+        when(inventoryRepository.addQuantity(anyLong(), anyInt())).thenReturn(1);
+        Inventory a = inventory(1L, "A", 10);
+        Inventory b = inventory(2L, "B", 10);
+        Inventory c = inventory(3L, "C", 10);
+
+        // 요청 순서는 C -> A, B -> C, A -> B, C -> A
+        StockTransferBatch batch = strategy.newBatch();
+        batch.transfer(c, a, 5);
+        batch.transfer(b, c, 3);
+        batch.transfer(a, b, 2);
+        batch.transfer(c, a, 1);
+        batch.flush();
+
+        InOrder order = inOrder(inventoryRepository);
+        order.verify(inventoryRepository).addQuantity(1L, 4);
+        order.verify(inventoryRepository).addQuantity(2L, -1);
+        order.verify(inventoryRepository).addQuantity(3L, -3);
+        verifyNoMoreInteractions(inventoryRepository);
+    }
+
+    @Test
+    void failsOnlyLinesExceedingStockAfterPreviousLines() {
+        when(inventoryRepository.addQuantity(anyLong(), anyInt())).thenReturn(1);
+        Inventory a = inventory(1L, "A", 5);
+        Inventory b = inventory(2L, "B", 0);
+
+        StockTransferBatch batch = strategy.newBatch();
+        batch.transfer(a, b, 4);
+        assertThatThrownBy(() -> batch.transfer(a, b, 2))
+                .isInstanceOf(MovementException.class)
+                .hasMessageContaining("A");
+        // 앞 라인으로 들어온 재고는 뒤 라인에서 옮길 수 있음
+        batch.transfer(b, a, 3);
+        batch.flush();
+
+        verify(inventoryRepository).addQuantity(1L, -1);
+        verify(inventoryRepository).addQuantity(2L, 1);
+    }
+
+    @Test
+    void savesNewInventoryOnceWithNetQuantity() {
+        when(inventoryRepository.addQuantity(anyLong(), anyInt())).thenReturn(1);
+        Inventory a = inventory(1L, "A", 10);
+        Inventory created = inventory(null, "NEW", 0);
+
+        StockTransferBatch batch = strategy.newBatch();
+        batch.transfer(a, created, 4);
+        batch.transfer(created, a, 4);
+        batch.transfer(a, created, 3);
+        batch.flush();
+
+        verify(inventoryRepository).addQuantity(1L, -3);
+        verify(inventoryRepository).save(created);
+        assertThat(created.getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void retriesWholeAttemptWhenStockChangedConcurrently() {
+        Inventory a = inventory(1L, "A", 10);
+        Inventory b = inventory(2L, "B", 0);
+        // 첫 시도: 읽은 뒤 다른 요청이 재고를 줄여 조건부 UPDATE 실패
+        when(inventoryRepository.addQuantity(1L, -5)).thenReturn(0, 1);
+        when(inventoryRepository.addQuantity(2L, 5)).thenReturn(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        strategy.execute(() -> {
+            attempts.incrementAndGet();
+            StockTransferBatch batch = strategy.newBatch();
+            batch.transfer(a, b, 5);
+            batch.flush();
+            return null;
+        });
+
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        Inventory a = inventory(1L, "A", 10);
+        Inventory b = inventory(2L, "B", 0);
+        when(inventoryRepository.addQuantity(1L, -5)).thenReturn(0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> strategy.execute(() -> {
+            attempts.incrementAndGet();
+            StockTransferBatch batch = strategy.newBatch();
+            batch.transfer(a, b, 5);
+            batch.flush();
+            return null;
+        })).isInstanceOf(MovementException.class);
+
+        assertThat(attempts).hasValue(3);
+        verify(inventoryRepository, never()).addQuantity(2L, 5);
+    }
+
+    private static Inventory inventory(Long id, String binCode, int quantity) {
+        Inventory inventory = Inventory.builder()
+                .location(Location.builder().binCode(binCode).build())
+                .quantity(quantity)
+                .build();
+        ReflectionTestUtils.setField(inventory, "id", id);
+        return inventory;
+    }
+}
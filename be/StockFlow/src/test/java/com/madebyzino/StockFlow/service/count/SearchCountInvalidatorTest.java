@@ -0,0 +1,110 @@
+package com.madebyzino.StockFlow.service.count;
+
+import com.madebyzino.StockFlow.dto.CountMode;
+import com.madebyzino.StockFlow.dto.inventory.InventorySearchCondition;
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.CountScope;
+import com.madebyzino.StockFlow.repository.SearchCounter;
+import com.madebyzino.StockFlow.repository.mapper.CountMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchCountInvalidatorTest {
+
+    private final CountMapper countMapper = mock(CountMapper.class);
+    private final SearchCounter searchCounter = new SearchCounter(countMapper, new ObjectMapper(),
+            Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+    private final SearchCountInvalidator invalidator = new SearchCountInvalidator(searchCounter, countMapper);
+
+    private final AtomicInteger counted = new AtomicInteger();
+
+    @Test
+    void keepsCountsWithoutQuantityConditionWhenNoRowIsCreated() {
+        count(CountScope.INVENTORY, condition(null));
+        count(CountScope.INVENTORY, condition(10));
+        count(CountScope.ITEM, condition(null));
+        count(CountScope.TRANSACTION, condition(null));
+        when(countMapper.countInventoryCreatedSince(anyCollection(), any())).thenReturn(0L);
+
+        invalidator.onEvents(List.of(event(TransactionType.OUTBOUND, 1L, null), event(TransactionType.INBOUND, 2L, 3L)));
+
+        // 수량 조건이 있는 재고 건수만 다시 계산
+        assertThat(recounts(CountScope.INVENTORY, condition(null))).isZero();
+        assertThat(recounts(CountScope.INVENTORY, condition(10))).isOne();
+        assertThat(recounts(CountScope.ITEM, condition(null))).isZero();
+        assertThat(recounts(CountScope.TRANSACTION, condition(null))).isZero();
+    }
+
+    @Test
+    void invalidatesAllInventoryCountsWhenRowIsCreated() {
+        count(CountScope.INVENTORY, condition(null));
+        when(countMapper.countInventoryCreatedSince(anyCollection(), any())).thenReturn(1L);
+
+        invalidator.onEvents(List.of(event(TransactionType.MOVEMENT, 1L, 2L)));
+
+        assertThat(recounts(CountScope.INVENTORY, condition(null))).isOne();
+    }
+
+    @Test
+    void movementsDoNotChangeItemTotals() {
+        count(CountScope.ITEM, condition(10));
+        when(countMapper.countInventoryCreatedSince(anyCollection(), any())).thenReturn(0L);
+
+        invalidator.onEvents(List.of(event(TransactionType.MOVEMENT, 1L, 2L)));
+        assertThat(recounts(CountScope.ITEM, condition(10))).isZero();
+
+        invalidator.onEvents(List.of(event(TransactionType.ADJUSTMENT, 1L, 1L)));
+        assertThat(recounts(CountScope.ITEM, condition(10))).isOne();
+    }
+
+    @Test
+    void skipsRowLookupWhenNothingCanCreateRows() {
+        invalidator.onEvents(List.of(event(TransactionType.OUTBOUND, 1L, null),
+                event(TransactionType.ADJUSTMENT, 1L, 1L)));
+
+        verify(countMapper, never()).countInventoryCreatedSince(anyCollection(), any());
+    }
+
+    private void count(CountScope scope, InventorySearchCondition condition) {
+        searchCounter.page(scope, CountMode.EXACT, condition, PageRequest.of(1, 1),
+                limit -> Collections.nCopies(limit, "row"), counted::incrementAndGet);
+    }
+
+    // 같은 조건을 다시 조회했을 때 count 쿼리가 실행된 횟수
+    private int recounts(CountScope scope, InventorySearchCondition condition) {
+        int before = counted.get();
+        count(scope, condition);
+        return counted.get() - before;
+    }
+
+    private static InventorySearchCondition condition(Integer minQuantity) {
+        return InventorySearchCondition.builder().minQuantity(minQuantity).build();
+    }
+
+    private static StockChangeEvent event(TransactionType type, Long fromLocationId, Long toLocationId) {
+        StockChangeEvent event = new StockChangeEvent();
+        event.setItemId(100L);
+        event.setType(type);
+        event.setFromLocationId(fromLocationId);
+        event.setToLocationId(toLocationId);
+        event.setQuantity(1);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+}
@@ -0,0 +1,146 @@
+package com.madebyzino.StockFlow.service.dashboard;
+
+import com.madebyzino.StockFlow.dto.transaction.StockChangeEvent;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.mapper.DashboardMapper;
+import com.madebyzino.StockFlow.service.dashboard.TopMoversTracker.Metric;
+import com.madebyzino.StockFlow.service.dashboard.TopMoversTracker.Window;
+import com.madebyzino.StockFlow.util.SpaceSaving;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TopMoversTrackerTest {
+
+    private final AtomicLong transactionIds = new AtomicLong();
+    private final DashboardMapper dashboardMapper = mock(DashboardMapper.class);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    void separatesWindowsAndMetrics() {
+        TopMoversTracker tracker = tracker(50);
+        tracker.onEvents(List.of(
+                event(1L, TransactionType.OUTBOUND, 10, now.minusHours(2)),
+                event(1L, TransactionType.INBOUND, 5, now.minusHours(1)),
+                event(2L, TransactionType.ADJUSTMENT, -40, now.minusHours(3)),   // 수량은 절대값
+                event(3L, TransactionType.INBOUND, 7, now.plusHours(3)),         // 미래 시각은 현재 구간
+                event(3L, TransactionType.INBOUND, 100, now.minusHours(30)),     // 7일 기간에만 포함
+                event(3L, TransactionType.INBOUND, 100, now.minusHours(30)),
+                event(4L, TransactionType.INBOUND, 999, now.minusDays(8))));     // 기간을 벗어난 이력은 무시
+
+        assertThat(tracker.top(Window.DAY, Metric.COUNT, 10)).containsExactly(
+                new SpaceSaving.Estimate(1L, 2, 0),
+                new SpaceSaving.Estimate(2L, 1, 0),
+                new SpaceSaving.Estimate(3L, 1, 0));
+        assertThat(tracker.top(Window.DAY, Metric.QUANTITY, 10)).containsExactly(
+                new SpaceSaving.Estimate(2L, 40, 0),
+                new SpaceSaving.Estimate(1L, 15, 0),
+                new SpaceSaving.Estimate(3L, 7, 0));
+        assertThat(tracker.top(Window.WEEK, Metric.COUNT, 10)).containsExactly(
+                new SpaceSaving.Estimate(3L, 3, 0),
+                new SpaceSaving.Estimate(1L, 2, 0),
+                new SpaceSaving.Estimate(2L, 1, 0));
+        assertThat(tracker.top(Window.WEEK, Metric.QUANTITY, 1)).containsExactly(
+                new SpaceSaving.Estimate(3L, 207, 0));
+    }
+
+    @Test
+    void estimatesBoundExactCountsAcrossEvictedBuckets() {
+        int capacity = 5;
+        TopMoversTracker tracker = tracker(capacity);
+        Map<Long, Long> exactCount = new HashMap<>();
+        Map<Long, Long> exactQuantity = new HashMap<>();
+        long totalCount = 0;
+        long totalQuantity = 0;
+
+        // 100 시간에 걸쳐 품목 40 개를 치우치게 섞어 구간마다 요약이 넘치도록 함
+        Random random = new Random(3);
+        List<StockChangeEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            double u = random.nextDouble();
+            long itemId = 1 + (long) (40 * u * u);
+            int quantity = 1 + random.nextInt(20);
+            events.add(event(itemId, TransactionType.OUTBOUND, quantity, now.minusHours(1 + random.nextInt(100))));
+            exactCount.merge(itemId, 1L, Long::sum);
+            exactQuantity.merge(itemId, (long) quantity, Long::sum);
+            totalCount++;
+            totalQuantity += quantity;
+        }
+        tracker.onEvents(events);
+
+        // 구간별 오차 상한(가중치 합 / capacity)의 합은 전체 합 / capacity 이하
+        assertBounds(tracker.top(Window.WEEK, Metric.COUNT, capacity), exactCount, totalCount / capacity);
+        assertBounds(tracker.top(Window.WEEK, Metric.QUANTITY, capacity), exactQuantity, totalQuantity / capacity);
+    }
+
+    @Test
+    void rebuildReplacesBucketsAndSkipsRedeliveredEvents() {
+        TopMoversTracker tracker = tracker(50);
+        StockChangeEvent ledgered = event(1L, TransactionType.OUTBOUND, 3, now.minusHours(1));
+        StockChangeEvent missing = event(2L, TransactionType.OUTBOUND, 4, now.minusHours(1));
+
+        // 첫 재구성 전에 받은 이벤트: 원장에 있는 것은 한 번만, 없는 것은 새 구간에도 반영
+        tracker.onEvents(List.of(ledgered, missing));
+        stubLedger(List.of(ledgered, event(3L, TransactionType.INBOUND, 9, now.minusHours(2))));
+        tracker.rebuild();
+
+        // 재구성 직후 다시 전달된 이벤트는 무시
+        tracker.onEvents(List.of(ledgered));
+
+        assertThat(tracker.top(Window.DAY, Metric.QUANTITY, 10)).containsExactly(
+                new SpaceSaving.Estimate(3L, 9, 0),
+                new SpaceSaving.Estimate(2L, 4, 0),
+                new SpaceSaving.Estimate(1L, 3, 0));
+    }
+
+    private TopMoversTracker tracker(int capacity) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new TopMoversTracker(dashboardMapper, transactionManager, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLedger(List<StockChangeEvent> rows) {
+        Cursor<StockChangeEvent> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(rows.iterator());
+        doCallRealMethod().when(cursor).forEach(any());
+        when(dashboardMapper.streamTransactionsSince(any())).thenReturn(cursor);
+    }
+
+    private StockChangeEvent event(Long itemId, TransactionType type, int quantity, LocalDateTime transactionDate) {
+        StockChangeEvent event = new StockChangeEvent();
+        event.setTransactionId(transactionIds.incrementAndGet());
+        event.setItemId(itemId);
+        event.setType(type);
+        event.setQuantity(quantity);
+        event.setTransactionDate(transactionDate);
+        event.setCreatedAt(now);
+        return event;
+    }
+
+    // 실제 값은 [count - error, count] 이고 오차는 상한 이하
+    private static void assertBounds(List<SpaceSaving.Estimate> estimates, Map<Long, Long> exact, long errorBound) {
+        assertThat(estimates).isNotEmpty();
+        for (SpaceSaving.Estimate estimate : estimates) {
+            long actual = exact.getOrDefault(estimate.key(), 0L);
+            assertThat(estimate.count()).as("item %d", estimate.key()).isGreaterThanOrEqualTo(actual);
+            assertThat(estimate.count() - estimate.error()).as("item %d", estimate.key()).isLessThanOrEqualTo(actual);
+            assertThat(estimate.error()).as("item %d", estimate.key()).isBetween(0L, errorBound);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import com.madebyzino.StockFlow.dto.item.ItemImportError;
+import com.madebyzino.StockFlow.dto.item.ItemImportResponse;
+import com.madebyzino.StockFlow.entity.Category;
+import com.madebyzino.StockFlow.exception.ItemImportException;
+import com.madebyzino.StockFlow.repository.CategoryRepository;
+import com.madebyzino.StockFlow.repository.ItemRepository;
+import com.madebyzino.StockFlow.repository.ItemSearchIndex;
+import com.madebyzino.StockFlow.repository.SearchCounter;
+import com.madebyzino.StockFlow.service.alert.SafetyStockAlertEngine;
+import com.madebyzino.StockFlow.service.dashboard.DashboardRollupService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ItemImportServiceTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void rejectsFileOverMaxRowsBeforeSavingAnyChunk() {
+        // chunk 1건, 최대 2건: 이전에는 앞의 두 chunk 가 커밋된 뒤에 실패했음
+        ItemImportService service = new ItemImportService(categoryRepository, itemRepository, entityManager,
+                transactionManager, mock(SearchCounter.class), mock(ItemSearchIndex.class),
+                mock(DashboardRollupService.class), mock(SafetyStockAlertEngine.class), 1, 2);
+        MockMultipartFile file = new MockMultipartFile("file", "items.csv", "text/csv",
+                "name,category,price\n볼펜,문구,100\n연필,문구,100\n지우개,문구,100\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> service.importItems(file))
+                .isInstanceOf(ItemImportException.class)
+                .hasMessageContaining("최대 2건")
+                .hasMessageContaining("파일: 3건");
+
+        verifyNoInteractions(categoryRepository, itemRepository, entityManager, transactionManager);
+    }
+
+    @Test
+    void resolvesCategoryByNameOrCodeAndRejectsAmbiguousValues() {
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                Category.builder().name("문구").code("OFFICE").build(),
+                Category.builder().name("OFFICE").code("SUPPLY").build(),   // 이름이 다른 카테고리의 코드와 같음
+                Category.builder().name("식품").code("DUP").build(),
+                Category.builder().name("음료").code("DUP").build()));     // 코드가 겹침
+        when(itemRepository.streamAllSkus()).thenReturn(Stream.empty());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        ItemImportService service = new ItemImportService(categoryRepository, itemRepository, entityManager,
+                transactionManager, mock(SearchCounter.class), mock(ItemSearchIndex.class),
+                mock(DashboardRollupService.class), mock(SafetyStockAlertEngine.class), 10, 100);
+        MockMultipartFile file = new MockMultipartFile("file", "items.csv", "text/csv",
+                "name,category,price\n볼펜,문구,100\n연필,SUPPLY,100\n지우개,OFFICE,100\n과자,DUP,100\n물,없음,100\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        ItemImportResponse response = service.importItems(file);
+
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(ItemImportError::getRowNumber).containsExactly(4, 5, 6);
+        assertThat(response.getErrors()).extracting(ItemImportError::getMessage).containsExactly(
+                "여러 카테고리와 일치하는 값입니다 (이름 / 코드): OFFICE",
+                "여러 카테고리와 일치하는 값입니다 (이름 / 코드): DUP",
+                "카테고리가 존재하지 않습니다: 없음");
+    }
+}
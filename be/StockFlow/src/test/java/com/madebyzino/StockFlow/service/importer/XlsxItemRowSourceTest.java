@@ -0,0 +1,110 @@
+package com.madebyzino.StockFlow.service.importer;
+
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxItemRowSourceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsSharedStringsFromTempFile() throws IOException {
+        Path file = dir.resolve("items.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet();
+            row(sheet, 0, "name", "category", "price");
+            // 캐시 크기(1024)보다 많은 서로 다른 문자열과 반복되는 카테고리 값
+            for (int i = 1; i <= 3000; i++) {
+                XSSFRow row = sheet.createRow(i);
+                row.createCell(0).setCellValue("품목 " + i + " <&>");
+                row.createCell(1).setCellValue(i % 2 == 0 ? "문구" : "전자");
+                row.createCell(2).setCellValue(i * 10);
+            }
+            // 서식이 섞인 문자열은 텍스트만 이어 붙임
+            XSSFRichTextString rich = new XSSFRichTextString("굵은글씨");
+            XSSFFont bold = workbook.createFont();
+            bold.setBold(true);
+            rich.applyFont(0, 2, bold);
+            XSSFRow last = sheet.createRow(3001);
+            last.createCell(0).setCellValue(rich);
+            last.createCell(2).setCellValue(1);
+            write(workbook, file);
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        List<Integer> rowNumbers = new ArrayList<>();
+        XlsxItemRowSource source = new XlsxItemRowSource(file.toFile());
+        source.forEachRow((rowNumber, cells) -> {
+            rowNumbers.add(rowNumber);
+            rows.add(cells);
+        });
+
+        assertThat(rows).hasSize(3002);
+        assertThat(rows.get(0)).containsExactly("name", "category", "price");
+        assertThat(rows.get(1)).containsExactly("품목 1 <&>", "전자", "10");
+        assertThat(rows.get(2048)).containsExactly("품목 2048 <&>", "문구", "20480");
+        assertThat(rows.get(3000)).containsExactly("품목 3000 <&>", "문구", "30000");
+        assertThat(rows.get(3001)).containsExactly("굵은글씨", "", "1");
+        assertThat(rowNumbers.get(3001)).isEqualTo(3002);
+        assertThat(source.countRows()).isEqualTo(3002);
+    }
+
+    @Test
+    void readsWorkbookWithoutSharedStrings() throws IOException {
+        Path file = dir.resolve("numbers.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue(1);
+            sheet.createRow(2).createCell(1).setCellValue(2);
+            write(workbook, file);
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        new XlsxItemRowSource(file.toFile()).forEachRow((rowNumber, cells) -> rows.add(cells));
+
+        assertThat(rows).containsExactly(List.of("1"), List.of("", "2"));
+    }
+
+    @Test
+    void countsCsvRowsLikeForEachRow() throws IOException {
+        Path file = dir.resolve("items.csv");
+        Files.writeString(file, "\uFEFFname,category,price\n\"여러\n줄\",문구,100\n\n볼펜,문구,\"1,000\"\r\n");
+
+        List<List<String>> rows = new ArrayList<>();
+        CsvItemRowSource source = new CsvItemRowSource(file.toFile());
+        source.forEachRow((rowNumber, cells) -> rows.add(cells));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(1)).containsExactly("여러\n줄", "문구", "100");
+        assertThat(rows.get(2)).containsExactly("볼펜", "문구", "1,000");
+        assertThat(source.countRows()).isEqualTo(3);
+    }
+
+    private static void row(XSSFSheet sheet, int index, String... values) {
+        XSSFRow row = sheet.createRow(index);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
+
+    private static void write(XSSFWorkbook workbook, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            workbook.write(out);
+        }
+    }
+}
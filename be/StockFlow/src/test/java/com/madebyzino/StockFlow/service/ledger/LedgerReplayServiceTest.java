@@ -0,0 +1,79 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import com.madebyzino.StockFlow.repository.EntityIdAllocator;
+import com.madebyzino.StockFlow.repository.mapper.LedgerReplayMapper;
+import com.madebyzino.StockFlow.service.summary.ItemStockSummaryUpdater;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LedgerReplayServiceTest {
+
+    private final LedgerReplayMapper mapper = mock(LedgerReplayMapper.class);
+    private final EntityIdAllocator entityIdAllocator = mock(EntityIdAllocator.class);
+    private LedgerReplayService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedsSnapshotAtSettleCutoffWithoutRecentDeltas() {
+        service = newService("sync");
+        when(mapper.findMaxItemId()).thenReturn(1L);
+        when(mapper.findInventoryQuantities(1L, 1L)).thenReturn(List.of(
+                new InventoryQuantityChange(1L, 10L, 100),
+                new InventoryQuantityChange(1L, 20L, 5)));
+        // cutoff 이후 위치 10 에 +30 입고, 위치 20 에서 -5 출고
+        when(mapper.sumDeltasAfter(eq(1L), eq(1L), any())).thenReturn(List.of(
+                new InventoryQuantityChange(1L, 10L, 30),
+                new InventoryQuantityChange(1L, 20L, -5)));
+        when(mapper.insertMissingSnapshots(anyList(), any())).thenAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).size());
+
+        LocalDateTime before = LocalDateTime.now().minusMinutes(5);
+        assertThat(service.seedSnapshots()).isEqualTo(2);
+
+        ArgumentCaptor<List<InventoryQuantityChange>> snapshots = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<LocalDateTime> snapshotAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mapper).insertMissingSnapshots(snapshots.capture(), snapshotAt.capture());
+        assertThat(snapshots.getValue()).extracting(InventoryQuantityChange::getQuantity).containsExactly(70, 10);
+        // 원장 증감을 뺀 시점과 스냅샷 시각이 같아야 이후 재생에서 빠지거나 두 번 더해지지 않음
+        verify(mapper).sumDeltasAfter(1L, 1L, snapshotAt.getValue());
+        assertThat(snapshotAt.getValue()).isBetween(before, LocalDateTime.now().minusMinutes(5));
+    }
+
+    @Test
+    void refusesToSeedInWriteBehindMode() {
+        service = newService("write-behind");
+
+        assertThatThrownBy(() -> service.seedSnapshots()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private LedgerReplayService newService(String ledgerMode) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new LedgerReplayService(mapper, entityIdAllocator, mock(ItemStockSummaryUpdater.class),
+                transactionManager, 1, 1000, Duration.ofMinutes(5), false, ledgerMode, 1000);
+    }
+}
@@ -0,0 +1,194 @@
+package com.madebyzino.StockFlow.service.ledger;
+
+import com.madebyzino.StockFlow.dto.transaction.LedgerEntry;
+import com.madebyzino.StockFlow.dto.transaction.LedgerStagingRow;
+import com.madebyzino.StockFlow.entity.Transaction.TransactionType;
+import com.madebyzino.StockFlow.repository.mapper.LedgerStagingMapper;
+import com.madebyzino.StockFlow.repository.mapper.TransactionMapper;
+import com.madebyzino.StockFlow.service.outbox.StockOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LedgerWriterTest {
+
+    private final TransactionMapper transactionMapper = mock(TransactionMapper.class);
+    private final LedgerStagingMapper ledgerStagingMapper = mock(LedgerStagingMapper.class);
+    private final StockOutbox stockOutbox = mock(StockOutbox.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 아직 원장에 저장되지 않은 스테이징 행 id
+    private final List<Long> staged = new ArrayList<>();
+    private LedgerWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(ledgerStagingMapper.lockExisting(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            synchronized (staged) {
+                return ids.stream().filter(staged::contains).toList();
+            }
+        });
+        doAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            synchronized (staged) {
+                staged.removeAll(ids);
+            }
+            return ids.size();
+        }).when(ledgerStagingMapper).deleteByIds(anyCollection());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void stagesEntriesAsOneRowKeyedByFirstId() {
+        writer = newWriter(60_000);
+
+        long stagingId = writer.stage(List.of(entry(7L), entry(8L)));
+
+        assertThat(stagingId).isEqualTo(7L);
+        verify(ledgerStagingMapper).insert(eq(7L), contains("\"id\":8"));
+    }
+
+    @Test
+    void keepsStagingRowWhenWriteFails() {
+        writer = newWriter(60_000);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("db down");
+        }).when(transactionMapper).insertAll(anyList(), anyBoolean());
+
+        submit(1L, entry(1L), entry(2L));
+
+        // 배치 1회 + 묶음별 1회 시도 후 재시도 목록에 남음
+        verify(transactionMapper, timeout(5000).atLeast(2)).insertAll(anyList(), anyBoolean());
+        await(() -> writer.pendingRetries() == 2);
+        assertThat(staged).containsExactly(1L);
+    }
+
+    @Test
+    void retriesFailedEntriesAndDeletesStagingRowOnceWritten() {
+        writer = newWriter(50);
+        AtomicBoolean down = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (down.get()) {
+                throw new IllegalStateException("db down");
+            }
+            return 1;
+        }).when(transactionMapper).insertAll(anyList(), anyBoolean());
+
+        submit(1L, entry(1L));
+        await(() -> writer.pendingRetries() == 1);
+        assertThat(staged).containsExactly(1L);
+
+        down.set(false);
+        await(() -> stagedIsEmpty());
+        assertThat(writer.pendingRetries()).isZero();
+        verify(transactionMapper, atLeast(3)).insertAll(anyList(), anyBoolean());
+        verify(stockOutbox, atLeast(1)).publish(anyList());
+    }
+
+    @Test
+    void skipsBatchAlreadyRecoveredFromStaging() {
+        writer = newWriter(60_000);
+
+        // 스테이징 행이 없으면 다른 인스턴스의 복구가 이미 저장한 묶음
+        writer.submit(1L, List.of(entry(1L)));
+
+        verify(ledgerStagingMapper, timeout(5000)).lockExisting(anyCollection());
+        verify(transactionMapper, never()).insertAll(anyList(), anyBoolean());
+        assertThat(writer.pendingRetries()).isZero();
+    }
+
+    @Test
+    void recoversStaleStagingRows() {
+        writer = newWriter(60_000);
+        LedgerStagingRow row = new LedgerStagingRow();
+        row.setId(5L);
+        row.setEntries(objectMapper.writeValueAsString(List.of(entry(5L), entry(6L))));
+        when(ledgerStagingMapper.lockStale(anyLong(), anyInt())).thenReturn(List.of(row), List.of());
+
+        writer.recoverStale();
+
+        verify(transactionMapper).insertAll(argThat(entries -> entries.size() == 2
+                && entries.get(1).getId() == 6L), eq(true));
+        verify(stockOutbox).publish(anyList());
+        verify(ledgerStagingMapper).deleteByIds(List.of(5L));
+    }
+
+    private void submit(long stagingId, LedgerEntry... entries) {
+        synchronized (staged) {
+            staged.add(stagingId);
+        }
+        writer.submit(stagingId, List.of(entries));
+    }
+
+    private boolean stagedIsEmpty() {
+        synchronized (staged) {
+            return staged.isEmpty();
+        }
+    }
+
+    private LedgerWriter newWriter(long retryBackoffMs) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        LedgerWriter ledgerWriter = new LedgerWriter(transactionMapper, ledgerStagingMapper, stockOutbox,
+                transactionManager, new SimpleMeterRegistry(), objectMapper,
+                100, 10, 20, 50, retryBackoffMs, retryBackoffMs * 4, 120_000);
+        ledgerWriter.start();
+        return ledgerWriter;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static LedgerEntry entry(long id) {
+        return LedgerEntry.builder()
+                .id(id)
+                .itemId(1L)
+                .toLocationId(1L)
+                .type(TransactionType.INBOUND)
+                .quantity(1)
+                .transactionDate(LocalDateTime.now())
+                .userId(1L)
+                .build();
+    }
+}
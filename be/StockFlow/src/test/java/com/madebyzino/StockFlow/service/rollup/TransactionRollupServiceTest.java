@@ -0,0 +1,76 @@
+package com.madebyzino.StockFlow.service.rollup;
+
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupGroupBy;
+import com.madebyzino.StockFlow.dto.transaction.TransactionRollupResponse;
+import com.madebyzino.StockFlow.repository.mapper.TransactionRollupMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TransactionRollupServiceTest {
+
+    private static final List<TransactionRollupGroupBy> BY_DAY = List.of(TransactionRollupGroupBy.DAY);
+
+    private final TransactionRollupMapper mapper = mock(TransactionRollupMapper.class);
+    private final TransactionRollupService service = new TransactionRollupService(mapper);
+
+    @Test
+    void splitsRangeStartingAndEndingMidDayIntoHeadDaysAndTail() {
+        TransactionRollupResponse response = service.aggregate(
+                at(1, 10, 30), at(4, 5, 10), null, null, null, BY_DAY);
+
+        // 시작은 10:00 으로 내림, 끝은 06:00 으로 올림. 2 ~ 3일은 일별, 앞뒤 자투리는 시간별
+        assertThat(response.getFrom()).isEqualTo(at(1, 10, 0));
+        assertThat(response.getTo()).isEqualTo(at(4, 6, 0));
+        verify(mapper).sumRollups(day(2), day(4),
+                at(1, 10, 0), at(2, 0, 0),
+                at(4, 0, 0), at(4, 6, 0),
+                null, null, null, BY_DAY);
+    }
+
+    @Test
+    void readsOnlyDailyRollupForWholeDays() {
+        service.aggregate(at(1, 0, 0), at(3, 0, 0), null, null, null, BY_DAY);
+
+        verify(mapper).sumRollups(day(1), day(3), null, at(1, 0, 0), null, at(3, 0, 0),
+                null, null, null, BY_DAY);
+    }
+
+    @Test
+    void readsOnlyHourlyRollupForRangesShorterThanADay() {
+        service.aggregate(at(1, 10, 15), at(1, 12, 59), null, null, null, BY_DAY);
+
+        verify(mapper).sumRollups(null, null, at(1, 10, 0), at(1, 13, 0), null, null,
+                null, null, null, BY_DAY);
+    }
+
+    @Test
+    void readsOnlyHourlyRollupWhenShortRangeCrossesMidnight() {
+        // 하루보다 짧으면 자정을 넘어도 하루 단위로 덮이는 구간이 없음
+        service.aggregate(at(1, 22, 0), at(2, 3, 0), "센터", 7L, null, null);
+
+        verify(mapper).sumRollups(null, null, at(1, 22, 0), at(2, 3, 0), null, null,
+                "센터", 7L, null, List.of());
+    }
+
+    @Test
+    void rejectsEmptyRange() {
+        assertThatThrownBy(() -> service.aggregate(at(1, 10, 0), at(1, 10, 0), null, null, null, BY_DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LocalDateTime at(int day, int hour, int minute) {
+        return LocalDateTime.of(2026, 1, day, hour, minute);
+    }
+
+    private static LocalDate day(int day) {
+        return LocalDate.of(2026, 1, day);
+    }
+}
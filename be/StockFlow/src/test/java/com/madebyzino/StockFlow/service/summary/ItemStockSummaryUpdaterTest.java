@@ -0,0 +1,41 @@
+package com.madebyzino.StockFlow.service.summary;
+
+import com.madebyzino.StockFlow.dto.inventory.InventoryQuantityChange;
+import com.madebyzino.StockFlow.exception.InvalidQuantityException;
+import com.madebyzino.StockFlow.repository.InventoryRepository;
+import com.madebyzino.StockFlow.repository.mapper.InventoryStockMapper;
+import com.madebyzino.StockFlow.repository.mapper.ItemStockSummaryMapper;
+import com.madebyzino.StockFlow.service.dashboard.DashboardRollupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ItemStockSummaryUpdaterTest {
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final InventoryStockMapper inventoryStockMapper = mock(InventoryStockMapper.class);
+    private final ItemStockSummaryMapper itemStockSummaryMapper = mock(ItemStockSummaryMapper.class);
+
+    @Test
+    void rejectsMergedQuantityOverflowAsBadRequest() {
+        ItemStockSummaryUpdater updater = new ItemStockSummaryUpdater(inventoryRepository, inventoryStockMapper,
+                itemStockSummaryMapper, mock(DashboardRollupService.class));
+
+        assertThatThrownBy(() -> updater.applyDeltas(List.of(
+                new InventoryQuantityChange(1L, 2L, Integer.MAX_VALUE),
+                new InventoryQuantityChange(1L, 2L, 1))))
+                .isInstanceOf(InvalidQuantityException.class)
+                .hasCauseInstanceOf(ArithmeticException.class);
+        assertThat(InvalidQuantityException.class.getAnnotation(ResponseStatus.class).value())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        verifyNoInteractions(inventoryRepository, inventoryStockMapper, itemStockSummaryMapper);
+    }
+}
@@ -0,0 +1,58 @@
+package com.madebyzino.StockFlow.util;
+
+import com.madebyzino.StockFlow.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsValuesInOrder() {
+        String cursor = CursorCodec.encode("quantity", 42, 1001L);
+
+        assertThat(CursorCodec.decode(cursor, 3)).containsExactly("quantity", "42", "1001");
+    }
+
+    @Test
+    void keepsNullDistinctFromEmptyString() {
+        String cursor = CursorCodec.encode("itemName", null, "", 7L);
+
+        assertThat(CursorCodec.decode(cursor, 4)).containsExactly("itemName", null, "", "7");
+    }
+
+    @Test
+    void roundTripsSeparatorsAndNonAsciiValues() {
+        // 구분자('.')와 null 표시('~')가 값에 들어 있어도 값별로 인코딩되므로 깨지지 않음
+        String cursor = CursorCodec.encode("binCode", "A.1~무선 마우스", 3L);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorCodec.decode(cursor, 3)).containsExactly("binCode", "A.1~무선 마우스", "3");
+    }
+
+    @Test
+    void rejectsUnexpectedValueCount() {
+        String cursor = CursorCodec.encode("quantity", 42);
+
+        assertThatThrownBy(() -> CursorCodec.decode(cursor, 3)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        String cursor = CursorCodec.encode("quantity", 42, 1001L);
+        char[] tampered = cursor.toCharArray();
+        Arrays.fill(tampered, 0, 4, '*');
+
+        assertThatThrownBy(() -> CursorCodec.decode(new String(tampered), 3))
+                .isInstanceOf(InvalidCursorException.class);
+        // 바깥 인코딩은 맞지만 안쪽 값이 base64 가 아닌 경우
+        String inner = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("quantity.*42*.1001".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> CursorCodec.decode(inner, 3)).isInstanceOf(InvalidCursorException.class);
+    }
+}
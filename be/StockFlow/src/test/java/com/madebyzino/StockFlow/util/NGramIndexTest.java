@@ -0,0 +1,153 @@
+package com.madebyzino.StockFlow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+
+    @Test
+    void findsDocumentsContainingQuery() {
+        NGramIndex index = new NGramIndex(2);
+        index.put(1L, "무선 마우스");
+        index.put(2L, "유선 마우스 패드");
+        index.put(3L, "무선 키보드");
+
+        assertThat(index.search("마우스", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("무선", 10)).containsExactly(1L, 3L);
+        assertThat(index.search("키보드", 10)).containsExactly(3L);
+        assertThat(index.search("모니터", 10)).isEmpty();
+    }
+
+    @Test
+    void rejectsCandidatesWhoseGramsAreOutOfOrder() {
+        // "abca" 는 gram ab, bc, ca 를 모두 갖지만 "cab" 를 포함하지 않음
+        NGramIndex index = new NGramIndex(2);
+        index.put(1L, "abca");
+        index.put(2L, "xcab");
+
+        assertThat(index.search("cab", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void ignoresCase() {
+        NGramIndex index = new NGramIndex(3);
+        index.put(1L, "ELEC-000123");
+
+        assertThat(index.search("elec-0001", 10)).containsExactly(1L);
+        assertThat(index.supports("el")).isFalse();
+        assertThat(index.supports("ELE")).isTrue();
+    }
+
+    @Test
+    void ignoresAccentsAndWidthLikeDefaultCollation() {
+        // utf8mb4_0900_ai_ci 에서 'café' = 'cafe', 전각 'ＥＬＥＣ' = 'elec'
+        NGramIndex index = new NGramIndex(3);
+        index.put(1L, "Café Latte");
+        index.put(2L, "ＥＬＥＣ-0001");
+
+        assertThat(index.search("cafe", 10)).containsExactly(1L);
+        assertThat(index.search("CAFÉ", 10)).containsExactly(1L);
+        assertThat(index.search("elec-0001", 10)).containsExactly(2L);
+        assertThat(index.search("ＥＬＥＣ", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void leavesLikeWildcardsAndUncertainCharactersToDatabase() {
+        NGramIndex index = new NGramIndex(2);
+        index.put(1L, "A_B 100% 면");
+
+        // LIKE 에서는 '_' / '%' 가 와일드카드이므로 색인으로 거르지 않음
+        assertThat(index.supports("a_b")).isFalse();
+        assertThat(index.supports("100%")).isFalse();
+        assertThat(index.supports("a\\b")).isFalse();
+        // 정규화 후에도 ASCII / 완성형 한글이 아닌 글자 (collation 확장 / 호환 자모 등)
+        assertThat(index.supports("straße")).isFalse();
+        assertThat(index.supports("ㄱㄴ")).isFalse();
+        assertThat(index.supports("면 ")).isTrue();
+    }
+
+    @Test
+    void alwaysReturnsDocumentsThatCannotBeNormalized() {
+        // 'straße' 는 collation 에서 'strasse' 와 같을 수 있으므로 어떤 검색에도 후보로 포함 (최종 판단은 LIKE)
+        NGramIndex index = new NGramIndex(2);
+        index.put(1L, "strasse");
+        index.put(2L, "straße");
+        index.put(3L, "gasse");
+
+        assertThat(index.search("strasse", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("gasse", 10)).containsExactly(2L, 3L);
+        assertThat(index.search("xyz", 10)).containsExactly(2L);
+        assertThat(index.search("gasse", 1)).isNull();
+
+        index.put(2L, "strasse");
+        assertThat(index.search("xyz", 10)).isEmpty();
+        assertThat(index.search("strasse", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void reindexesOnUpdateAndRemove() {
+        NGramIndex index = new NGramIndex(2);
+        index.put(1L, "볼펜");
+        index.put(2L, "볼펜 세트");
+
+        index.put(1L, "연필");
+        assertThat(index.search("볼펜", 10)).containsExactly(2L);
+        assertThat(index.search("연필", 10)).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(index.search("볼펜", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void returnsNullWhenMatchesExceedLimit() {
+        NGramIndex index = new NGramIndex(2);
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "테스트 품목 " + id);
+        }
+
+        assertThat(index.search("품목", 5)).hasSize(5);
+        assertThat(index.search("품목", 4)).isNull();
+    }
+
+    @Test
+    void matchesContainsForRandomDocumentsInsertedOutOfOrder() {
+        // 작은 알파벳으로 gram 이 많이 겹치게 만들고, id 를 섞어 넣어 목록 중간 삽입 / 교집합을 확인
+        Random random = new Random(42);
+        NGramIndex index = new NGramIndex(2);
+        TreeMap<Long, String> documents = new TreeMap<>();
+        for (int i = 0; i < 2000; i++) {
+            long id = random.nextInt(5000);
+            String text = randomText(random, 3 + random.nextInt(10));
+            index.put(id, text);
+            documents.put(id, text);
+        }
+        for (int i = 0; i < 300; i++) {
+            long id = random.nextInt(5000);
+            index.remove(id);
+            documents.remove(id);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomText(random, 2 + random.nextInt(4));
+            long[] expected = documents.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(query))
+                    .mapToLong(entry -> entry.getKey())
+                    .toArray();
+
+            assertThat(index.search(query, Integer.MAX_VALUE)).as(query).containsExactly(expected);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(4)));
+        }
+        return text.toString();
+    }
+}
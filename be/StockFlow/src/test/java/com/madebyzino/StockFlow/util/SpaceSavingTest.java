@@ -0,0 +1,135 @@
+package com.madebyzino.StockFlow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpaceSavingTest {
+
+    @Test
+    void countsExactlyUntilFull() {
+        SpaceSaving summary = new SpaceSaving(3);
+        summary.add(1L, 5);
+        summary.add(2L, 2);
+        summary.add(1L, 1);
+        summary.add(3L, 0);   // 가중치가 0 이하면 무시
+
+        assertThat(summary.total()).isEqualTo(8);
+        assertThat(summary.minCount()).isZero();
+        assertThat(SpaceSaving.top(List.of(summary), 10)).containsExactly(
+                new SpaceSaving.Estimate(1L, 6, 0),
+                new SpaceSaving.Estimate(2L, 2, 0));
+    }
+
+    @Test
+    void evictedCounterCarriesOverAsError() {
+        SpaceSaving summary = new SpaceSaving(2);
+        summary.add(1L, 5);
+        summary.add(2L, 2);
+        summary.add(3L, 1);   // 가장 작은 2번(2)을 넘겨받아 3 으로 추정, 오차 2
+
+        assertThat(summary.minCount()).isEqualTo(3);
+        assertThat(SpaceSaving.top(List.of(summary), 10)).containsExactly(
+                new SpaceSaving.Estimate(1L, 5, 0),
+                new SpaceSaving.Estimate(3L, 3, 2));
+    }
+
+    @Test
+    void estimatesBoundExactCountsAfterEviction() {
+        int capacity = 20;
+        SpaceSaving summary = new SpaceSaving(capacity);
+        Map<Long, Long> exact = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            long key = skewedKey(random);
+            long weight = 1 + random.nextInt(5);
+            summary.add(key, weight);
+            exact.merge(key, weight, Long::sum);
+        }
+
+        List<SpaceSaving.Estimate> estimates = SpaceSaving.top(List.of(summary), capacity);
+        assertBounds(estimates, exact, summary.total() / capacity);
+
+        // 전체의 1/capacity 를 넘는 키는 반드시 요약에 남음
+        List<Long> keys = estimates.stream().map(SpaceSaving.Estimate::key).toList();
+        exact.forEach((key, count) -> {
+            if (count > summary.total() / capacity) {
+                assertThat(keys).as("heavy hitter %d", key).contains(key);
+            }
+        });
+    }
+
+    @Test
+    void mergedEstimatesAddMinCountOfSummariesMissingTheKey() {
+        SpaceSaving first = new SpaceSaving(2);
+        first.add(1L, 10);
+        first.add(2L, 4);
+        first.add(3L, 1);     // 2번 자리를 넘겨받음: 3 -> 5 (오차 4), minCount 5
+
+        SpaceSaving second = new SpaceSaving(2);
+        second.add(2L, 7);
+        second.add(4L, 3);    // 가득 차지 않은 것은 아니지만 제거가 없었으므로 오차 0, minCount 3
+
+        // 1번: 10 + (second 에 없음 -> 3), 오차 3
+        // 2번: (first 에서 밀려남 -> 5) + 7, 오차 5
+        // 3번: 5 + 3 = 8, 오차 4 + 3 = 7
+        // 4번: 5 + 3 = 8, 오차 5 + 0 = 5
+        assertThat(SpaceSaving.top(List.of(first, second), 10)).containsExactly(
+                new SpaceSaving.Estimate(1L, 13, 3),
+                new SpaceSaving.Estimate(2L, 12, 5),
+                new SpaceSaving.Estimate(3L, 8, 7),
+                new SpaceSaving.Estimate(4L, 8, 5));
+        assertThat(SpaceSaving.top(List.of(first, second), 2)).hasSize(2);
+    }
+
+    @Test
+    void mergedEstimatesBoundExactCountsAcrossSummaries() {
+        int capacity = 15;
+        List<SpaceSaving> summaries = new ArrayList<>();
+        Map<Long, Long> exact = new HashMap<>();
+        Random random = new Random(11);
+        long errorBound = 0;
+        for (int bucket = 0; bucket < 8; bucket++) {
+            SpaceSaving summary = new SpaceSaving(capacity);
+            // 구간마다 인기 키가 조금씩 바뀌도록 이동
+            for (int i = 0; i < 3_000; i++) {
+                long key = skewedKey(random) + bucket;
+                summary.add(key, 1);
+                exact.merge(key, 1L, Long::sum);
+            }
+            summaries.add(summary);
+            errorBound += summary.total() / capacity;
+        }
+
+        assertBounds(SpaceSaving.top(summaries, Integer.MAX_VALUE), exact, errorBound);
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new SpaceSaving(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 실제 값은 [count - error, count] 이고 오차는 상한 이하
+    private static void assertBounds(List<SpaceSaving.Estimate> estimates, Map<Long, Long> exact, long errorBound) {
+        assertThat(estimates).isNotEmpty();
+        for (SpaceSaving.Estimate estimate : estimates) {
+            long actual = exact.getOrDefault(estimate.key(), 0L);
+            assertThat(estimate.count()).as("key %d", estimate.key()).isGreaterThanOrEqualTo(actual);
+            assertThat(estimate.count() - estimate.error()).as("key %d", estimate.key()).isLessThanOrEqualTo(actual);
+            assertThat(estimate.error()).as("key %d", estimate.key()).isBetween(0L, errorBound);
+        }
+    }
+
+    // 작은 키일수록 자주 나오는 분포 (1 ~ 200)
+    private static long skewedKey(Random random) {
+        double u = random.nextDouble();
+        return 1 + (long) (200 * u * u * u);
+    }
+}